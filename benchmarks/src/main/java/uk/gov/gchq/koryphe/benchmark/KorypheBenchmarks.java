@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for running the Koryphe benchmarks.
+ * <p>
+ * Accepts the standard JMH command line options, but always attaches the
+ * {@link GCProfiler} so that the allocation rate of each operator is reported
+ * alongside its throughput. Unless a result file is given on the command line,
+ * results are written as JSON to {@code koryphe-benchmarks-<version>.json} so
+ * that runs against different releases can be compared.
+ * </p>
+ */
+public final class KorypheBenchmarks {
+    private KorypheBenchmarks() {
+        // Private constructor to prevent instantiation.
+    }
+
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        final OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLineOptions)
+                .addProfiler(GCProfiler.class);
+
+        if (!commandLineOptions.getResult().hasValue() && !commandLineOptions.getResultFormat().hasValue()) {
+            final String version = KorypheBenchmarks.class.getPackage().getImplementationVersion();
+            builder.resultFormat(ResultFormatType.JSON)
+                    .result("koryphe-benchmarks-" + (null != version ? version : "dev") + ".json");
+        }
+
+        final Options options = builder.build();
+        new Runner(options).run();
+    }
+}
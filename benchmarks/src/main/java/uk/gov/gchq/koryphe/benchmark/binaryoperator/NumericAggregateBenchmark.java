@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.binaryoperator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.koryphe.binaryoperator.DoubleState;
+import uk.gov.gchq.koryphe.binaryoperator.LongState;
+import uk.gov.gchq.koryphe.binaryoperator.PrimitiveAggregator;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Max;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Min;
+import uk.gov.gchq.koryphe.impl.binaryoperator.NumericAggregateFunction;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Product;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+
+/**
+ * Measures the built in numeric aggregators, the {@link NumericAggregateFunction}s
+ * {@link Sum} and {@link Product} along with {@link Max} and {@link Min}, folding
+ * a block of boxed numbers into a single result, and the same values as
+ * primitives into a {@link LongState} and a {@link DoubleState}. Throughput is
+ * reported per aggregated value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(NumericAggregateBenchmark.SIZE)
+@State(Scope.Thread)
+public class NumericAggregateBenchmark {
+    static final int SIZE = 1024;
+
+    @Param({"SUM", "PRODUCT", "MAX", "MIN"})
+    public String operator;
+
+    @Param({"INTEGER", "LONG", "DOUBLE"})
+    public String numberType;
+
+    private BinaryOperator aggregator;
+    private Object[] values;
+    private long[] longValues;
+    private double[] doubleValues;
+
+    @Setup
+    public void setup() {
+        switch (operator) {
+            case "SUM":
+                aggregator = new Sum();
+                break;
+            case "PRODUCT":
+                aggregator = new Product();
+                break;
+            case "MAX":
+                aggregator = new Max();
+                break;
+            case "MIN":
+                aggregator = new Min();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown operator: " + operator);
+        }
+
+        values = new Object[SIZE];
+        longValues = new long[SIZE];
+        doubleValues = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            // Alternate around 1 so products stay bounded
+            final int value = 0 == i % 2 ? 1 : 2;
+            longValues[i] = value;
+            doubleValues[i] = value;
+            switch (numberType) {
+                case "INTEGER":
+                    values[i] = value;
+                    break;
+                case "LONG":
+                    values[i] = (long) value;
+                    break;
+                case "DOUBLE":
+                    values[i] = (double) value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown number type: " + numberType);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object aggregate() {
+        Object state = null;
+        for (final Object value : values) {
+            state = aggregator.apply(state, value);
+        }
+        return state;
+    }
+
+    @Benchmark
+    public long aggregateLongState() {
+        final LongState state = ((PrimitiveAggregator) aggregator).createLongState();
+        for (final long value : longValues) {
+            state.accumulate(value);
+        }
+        return state.getLong();
+    }
+
+    @Benchmark
+    public double aggregateDoubleState() {
+        final DoubleState state = ((PrimitiveAggregator) aggregator).createDoubleState();
+        for (final double value : doubleValues) {
+            state.accumulate(value);
+        }
+        return state.getDouble();
+    }
+}
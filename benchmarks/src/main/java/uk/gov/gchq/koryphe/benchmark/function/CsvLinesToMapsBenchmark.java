@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.koryphe.impl.function.CsvLinesToMaps;
+import uk.gov.gchq.koryphe.impl.function.ToInteger;
+import uk.gov.gchq.koryphe.impl.function.ToLong;
+import uk.gov.gchq.koryphe.util.CsvColumnType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing CSV lines into maps, for lines with and without quoted
+ * values, and converting numeric columns either while parsing or afterwards
+ * with the conversion functions. Each invocation parses a block of lines,
+ * so throughput is reported per line.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(CsvLinesToMapsBenchmark.SIZE)
+@State(Scope.Thread)
+public class CsvLinesToMapsBenchmark {
+    static final int SIZE = 1024;
+
+    private List<String> lines;
+    private List<String> quotedLines;
+    private CsvLinesToMaps function;
+    private CsvLinesToMaps typedFunction;
+    private final ToLong toLong = new ToLong();
+    private final ToInteger toInteger = new ToInteger();
+
+    @Setup
+    public void setup() {
+        lines = new ArrayList<>(SIZE);
+        quotedLines = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            lines.add(i + ",name" + i + "," + (i * 31) + ",2020-01-01 00:00:00," + (i % 7 == 0 ? "" : "value" + i));
+            quotedLines.add(i + ",\"name, " + i + "\"," + (i * 31) + ",2020-01-01 00:00:00,value" + i);
+        }
+        function = new CsvLinesToMaps().header("id", "name", "count", "date", "value");
+        typedFunction = new CsvLinesToMaps().header("id", "name", "count", "date", "value")
+                .columnType("id", CsvColumnType.LONG)
+                .columnType("count", CsvColumnType.INTEGER);
+    }
+
+    @Benchmark
+    public void unquoted(final Blackhole blackhole) {
+        for (final Map<String, Object> map : function.apply(lines)) {
+            blackhole.consume(map);
+        }
+    }
+
+    @Benchmark
+    public void quoted(final Blackhole blackhole) {
+        for (final Map<String, Object> map : function.apply(quotedLines)) {
+            blackhole.consume(map);
+        }
+    }
+
+    @Benchmark
+    public void typed(final Blackhole blackhole) {
+        for (final Map<String, Object> map : typedFunction.apply(lines)) {
+            blackhole.consume(map);
+        }
+    }
+
+    @Benchmark
+    public void convertedAfterParsing(final Blackhole blackhole) {
+        for (final Map<String, Object> map : function.apply(lines)) {
+            map.put("id", toLong.apply(map.get("id")));
+            map.put("count", toInteger.apply(map.get("count")));
+            blackhole.consume(map);
+        }
+    }
+}
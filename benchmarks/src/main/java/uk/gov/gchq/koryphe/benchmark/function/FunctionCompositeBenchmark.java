@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.koryphe.function.FunctionComposite;
+import uk.gov.gchq.koryphe.function.FunctionFusion;
+import uk.gov.gchq.koryphe.impl.function.FunctionChain;
+import uk.gov.gchq.koryphe.impl.function.Increment;
+import uk.gov.gchq.koryphe.impl.function.MultiplyBy;
+import uk.gov.gchq.koryphe.impl.function.ToInteger;
+import uk.gov.gchq.koryphe.impl.function.ToLong;
+import uk.gov.gchq.koryphe.impl.function.ToString;
+import uk.gov.gchq.koryphe.tuple.ArrayTuple;
+import uk.gov.gchq.koryphe.tuple.Tuple;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures {@link FunctionComposite} and {@link FunctionChain}, applying a
+ * chain of simple functions to a value and to fields of an {@link ArrayTuple},
+ * both as declared and compiled with {@link FunctionFusion}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FunctionCompositeBenchmark {
+    private Integer value;
+    private ArrayTuple tuple;
+    private FunctionComposite<Integer, Integer, Function> composite;
+    private FunctionChain<Tuple<Integer>, Tuple<Integer>> tupleChain;
+    private Function<Integer, Integer> fusedComposite;
+    private Function<Tuple<Integer>, Tuple<Integer>> fusedTupleChain;
+
+    @Setup
+    public void setup() {
+        value = 42;
+        tuple = new ArrayTuple(42, null, null);
+        composite = new FunctionComposite<>(Arrays.asList(
+                new MultiplyBy(2),
+                new ToString(),
+                new ToLong(),
+                new Increment(1L),
+                new ToInteger()));
+        tupleChain = new FunctionChain.Builder<Tuple<Integer>, Tuple<Integer>>()
+                .execute(new Integer[]{0}, new MultiplyBy(2), new Integer[]{1})
+                .execute(new Integer[]{1}, new ToString(), new Integer[]{2})
+                .execute(new Integer[]{2}, new ToLong(), new Integer[]{2})
+                .execute(new Integer[]{2}, new Increment(1L), new Integer[]{2})
+                .build();
+        fusedComposite = composite.fuse();
+        fusedTupleChain = tupleChain.fuse();
+    }
+
+    @Benchmark
+    public Integer composite() {
+        return composite.apply(value);
+    }
+
+    @Benchmark
+    public Tuple<Integer> tupleChain() {
+        return tupleChain.apply(tuple);
+    }
+
+    @Benchmark
+    public Integer fusedComposite() {
+        return fusedComposite.apply(value);
+    }
+
+    @Benchmark
+    public Tuple<Integer> fusedTupleChain() {
+        return fusedTupleChain.apply(tuple);
+    }
+}
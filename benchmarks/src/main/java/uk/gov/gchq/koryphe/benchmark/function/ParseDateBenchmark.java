@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.koryphe.impl.function.ParseDate;
+import uk.gov.gchq.koryphe.impl.function.ParseTime;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing date strings in the default formats and with an explicit
+ * format. Each invocation parses a block of different dates, so throughput is
+ * reported per date.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(ParseDateBenchmark.SIZE)
+@State(Scope.Thread)
+public class ParseDateBenchmark {
+    static final int SIZE = 1024;
+
+    private String[] dates;
+    private ParseDate parseDate;
+    private ParseTime parseTime;
+    private ParseDate parseDateWithFormat;
+
+    @Setup
+    public void setup() {
+        dates = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = String.format("20%02d-%02d-%02d %02d:%02d:%02d.%03d",
+                    i % 30, 1 + i % 12, 1 + i % 28, i % 24, i % 60, (i * 7) % 60, i % 1000);
+        }
+        parseDate = new ParseDate().timeZone("Europe/London");
+        parseTime = new ParseTime().timeZone("Europe/London").timeUnit("MILLISECOND");
+        parseDateWithFormat = new ParseDate().timeZone("Europe/London").format("yyyy-MM-dd HH:mm:ss.SSS");
+    }
+
+    @Benchmark
+    public void parseDate(final Blackhole blackhole) {
+        for (final String date : dates) {
+            blackhole.consume(parseDate.apply(date));
+        }
+    }
+
+    @Benchmark
+    public void parseTime(final Blackhole blackhole) {
+        for (final String date : dates) {
+            blackhole.consume(parseTime.apply(date));
+        }
+    }
+
+    @Benchmark
+    public void parseDateWithFormat(final Blackhole blackhole) {
+        for (final String date : dates) {
+            blackhole.consume(parseDateWithFormat.apply(date));
+        }
+    }
+}
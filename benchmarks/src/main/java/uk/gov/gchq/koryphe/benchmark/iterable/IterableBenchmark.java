@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.iterable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.koryphe.impl.function.MultiplyBy;
+import uk.gov.gchq.koryphe.impl.function.ToString;
+import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+import uk.gov.gchq.koryphe.iterable.ChainedIterable;
+import uk.gov.gchq.koryphe.iterable.FilteredIterable;
+import uk.gov.gchq.koryphe.iterable.LimitedIterable;
+import uk.gov.gchq.koryphe.iterable.MappedIterable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the wrappers in the {@code iterable} package by fully consuming
+ * each of them over the same list of values. Throughput is reported per
+ * value in the underlying list.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(IterableBenchmark.SIZE)
+@State(Scope.Thread)
+public class IterableBenchmark {
+    static final int SIZE = 1024;
+
+    private List<Integer> values;
+    private List<List<Integer>> partitions;
+
+    @Setup
+    public void setup() {
+        values = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            values.add(i);
+        }
+
+        final int partitionSize = SIZE / 4;
+        partitions = new ArrayList<>();
+        for (int i = 0; i < SIZE; i += partitionSize) {
+            partitions.add(values.subList(i, i + partitionSize));
+        }
+    }
+
+    @Benchmark
+    public void mapped(final Blackhole blackhole) {
+        for (final Object item : new MappedIterable<>(values, new MultiplyBy(2), new ToString())) {
+            blackhole.consume(item);
+        }
+    }
+
+    @Benchmark
+    public void filtered(final Blackhole blackhole) {
+        for (final Integer item : new FilteredIterable<>(values, new IsMoreThan(SIZE / 4), new IsLessThan(SIZE * 3 / 4))) {
+            blackhole.consume(item);
+        }
+    }
+
+    @Benchmark
+    public void limited(final Blackhole blackhole) {
+        for (final Integer item : new LimitedIterable<>(values, 0, SIZE)) {
+            blackhole.consume(item);
+        }
+    }
+
+    @Benchmark
+    public void chained(final Blackhole blackhole) {
+        for (final Integer item : new ChainedIterable<Integer>(partitions)) {
+            blackhole.consume(item);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.koryphe.impl.predicate.Or;
+import uk.gov.gchq.koryphe.impl.predicate.range.InAnyRange;
+import uk.gov.gchq.koryphe.impl.predicate.range.InRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Measures {@link InAnyRange} against an {@link Or} of the same
+ * {@link InRange}s, for a thousand disjoint ranges of longs. Each invocation
+ * tests a block of inputs, about half of which are in a range, so throughput
+ * is reported per input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(InAnyRangeBenchmark.SIZE)
+@State(Scope.Thread)
+public class InAnyRangeBenchmark {
+    static final int SIZE = 1024;
+    private static final int RANGES = 1000;
+    private static final long WIDTH = 1000L;
+
+    private Long[] values;
+    private InAnyRange<Long> inAnyRange;
+    private Or<Long> or;
+
+    @Setup
+    public void setup() {
+        // Ranges of WIDTH values, each followed by a gap of WIDTH values
+        final List<InRange<Long>> ranges = new ArrayList<>(RANGES);
+        for (int i = 0; i < RANGES; i++) {
+            ranges.add(new InRange.Builder<Long>()
+                    .start(2 * i * WIDTH)
+                    .end(2 * i * WIDTH + WIDTH)
+                    .endInclusive(false)
+                    .build());
+        }
+        inAnyRange = new InAnyRange<>(ranges);
+        or = new Or<>(new ArrayList<Predicate>(ranges));
+
+        values = new Long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = (i * 7919L * 1009L) % (2 * RANGES * WIDTH);
+        }
+    }
+
+    @Benchmark
+    public void inAnyRange(final Blackhole blackhole) {
+        for (final Long value : values) {
+            blackhole.consume(inAnyRange.test(value));
+        }
+    }
+
+    @Benchmark
+    public void or(final Blackhole blackhole) {
+        for (final Long value : values) {
+            blackhole.consume(or.test(value));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.koryphe.impl.predicate.IsIn;
+import uk.gov.gchq.koryphe.util.BloomFilter;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link IsIn} with a large allow-list of IDs, stored as chosen by
+ * {@link uk.gov.gchq.koryphe.util.CompactSets}, in a {@link HashSet} and
+ * approximately in a {@link BloomFilter} with a 1% false positive rate.
+ * Each invocation tests a block of inputs, half of which are allowed, so
+ * throughput is reported per input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(IsInBenchmark.SIZE)
+@State(Scope.Thread)
+public class IsInBenchmark {
+    static final int SIZE = 1024;
+    private static final int ALLOWED = 200000;
+
+    private Object[] longs;
+    private Object[] strings;
+    private IsIn compactLongs;
+    private IsIn hashSetLongs;
+    private IsIn compactStrings;
+    private IsIn hashSetStrings;
+    private IsIn bloomFilterLongs;
+
+    @Setup
+    public void setup() {
+        final Object[] allowedLongs = new Object[ALLOWED];
+        final Object[] allowedStrings = new Object[ALLOWED];
+        for (int i = 0; i < ALLOWED; i++) {
+            // Spread the IDs over the whole range of longs
+            allowedLongs[i] = i * 0x9E3779B97F4A7C15L;
+            allowedStrings[i] = "id" + allowedLongs[i];
+        }
+        compactLongs = new IsIn(allowedLongs);
+        compactStrings = new IsIn(allowedStrings);
+        hashSetLongs = new IsIn();
+        hashSetLongs.setAllowedValues(new HashSet<>(compactLongs.getAllowedValues()));
+        hashSetStrings = new IsIn();
+        hashSetStrings.setAllowedValues(new HashSet<>(compactStrings.getAllowedValues()));
+        bloomFilterLongs = new IsIn();
+        bloomFilterLongs.setBloomFilter(BloomFilter.of(Arrays.asList(allowedLongs), 0.01));
+
+        longs = new Object[SIZE];
+        strings = new Object[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            final long allowed = (Long) allowedLongs[(i * 7919) % ALLOWED];
+            final long value = 0 == i % 2 ? allowed : allowed + 1;
+            longs[i] = value;
+            strings[i] = "id" + value;
+        }
+    }
+
+    @Benchmark
+    public void compactLongs(final Blackhole blackhole) {
+        for (final Object value : longs) {
+            blackhole.consume(compactLongs.test(value));
+        }
+    }
+
+    @Benchmark
+    public void hashSetLongs(final Blackhole blackhole) {
+        for (final Object value : longs) {
+            blackhole.consume(hashSetLongs.test(value));
+        }
+    }
+
+    @Benchmark
+    public void compactStrings(final Blackhole blackhole) {
+        for (final Object value : strings) {
+            blackhole.consume(compactStrings.test(value));
+        }
+    }
+
+    @Benchmark
+    public void hashSetStrings(final Blackhole blackhole) {
+        for (final Object value : strings) {
+            blackhole.consume(hashSetStrings.test(value));
+        }
+    }
+
+    @Benchmark
+    public void bloomFilterLongs(final Blackhole blackhole) {
+        for (final Object value : longs) {
+            blackhole.consume(bloomFilterLongs.test(value));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.koryphe.impl.predicate.And;
+import uk.gov.gchq.koryphe.impl.predicate.IsIn;
+import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+import uk.gov.gchq.koryphe.impl.predicate.Or;
+import uk.gov.gchq.koryphe.impl.predicate.Regex;
+import uk.gov.gchq.koryphe.predicate.PredicateComposite;
+import uk.gov.gchq.koryphe.tuple.ArrayTuple;
+import uk.gov.gchq.koryphe.util.BitmapUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PredicateComposite}, {@link And} and {@link Or}, both applied
+ * directly to values and applied to selections from an {@link ArrayTuple}, and
+ * {@link And} and {@link Or} applied to the values as a batch. An {@link And}
+ * with an expensive {@link Regex} declared before a cheap and selective
+ * {@link IsIn} is measured in both the declared and the adaptive order.
+ * Each invocation tests a block of inputs, so throughput is reported per input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(PredicateCompositeBenchmark.SIZE)
+@State(Scope.Thread)
+public class PredicateCompositeBenchmark {
+    static final int SIZE = 1024;
+
+    private Integer[] values;
+    private long[] resultBitmap;
+    private String[] strings;
+    private ArrayTuple[] tuples;
+    private And<Integer> and;
+    private Or<Integer> or;
+    private Or<String> stringOr;
+    private And<String> stringAnd;
+    private And<String> adaptiveStringAnd;
+    private And<ArrayTuple> tupleAnd;
+    private Or<ArrayTuple> tupleOr;
+
+    @Setup
+    public void setup() {
+        values = new Integer[SIZE];
+        resultBitmap = new long[BitmapUtil.words(SIZE)];
+        strings = new String[SIZE];
+        tuples = new ArrayTuple[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = i;
+            strings[i] = "value" + i;
+            tuples[i] = new ArrayTuple(i, "value" + i);
+        }
+
+        and = new And<>(new IsMoreThan(0), new IsLessThan(SIZE / 2));
+        or = new Or<>(new IsLessThan(SIZE / 4), new IsIn(SIZE / 4, SIZE / 4 + 1), new IsMoreThan(SIZE * 3 / 4));
+        stringOr = new Or<>(new Regex("value1.*"), new Regex("value2.*"), new IsIn("value3", "value4"));
+        stringAnd = new And<>(new Regex("value[0-9]*[13579]"), new IsIn("value1", "value3"));
+        adaptiveStringAnd = new And<>(new Regex("value[0-9]*[13579]"), new IsIn("value1", "value3"));
+        adaptiveStringAnd.setAdaptive(true);
+        tupleAnd = new And.Builder<ArrayTuple>()
+                .select(0).execute(new IsMoreThan(0))
+                .select(0).execute(new IsLessThan(SIZE / 2))
+                .select(1).execute(new Regex("value.*"))
+                .build();
+        tupleOr = new Or.Builder<ArrayTuple>()
+                .select(0).execute(new IsLessThan(SIZE / 4))
+                .select(0).execute(new IsMoreThan(SIZE * 3 / 4))
+                .select(1).execute(new Regex("value1.*"))
+                .build();
+    }
+
+    @Benchmark
+    public void and(final Blackhole blackhole) {
+        for (final Integer value : values) {
+            blackhole.consume(and.test(value));
+        }
+    }
+
+    @Benchmark
+    public void or(final Blackhole blackhole) {
+        for (final Integer value : values) {
+            blackhole.consume(or.test(value));
+        }
+    }
+
+    @Benchmark
+    public long[] andBatch() {
+        and.testBatch(values, SIZE, resultBitmap);
+        return resultBitmap;
+    }
+
+    @Benchmark
+    public long[] orBatch() {
+        or.testBatch(values, SIZE, resultBitmap);
+        return resultBitmap;
+    }
+
+    @Benchmark
+    public void regexOr(final Blackhole blackhole) {
+        for (final String value : strings) {
+            blackhole.consume(stringOr.test(value));
+        }
+    }
+
+    @Benchmark
+    public void regexAnd(final Blackhole blackhole) {
+        for (final String value : strings) {
+            blackhole.consume(stringAnd.test(value));
+        }
+    }
+
+    @Benchmark
+    public void adaptiveRegexAnd(final Blackhole blackhole) {
+        for (final String value : strings) {
+            blackhole.consume(adaptiveStringAnd.test(value));
+        }
+    }
+
+    @Benchmark
+    public void tupleAnd(final Blackhole blackhole) {
+        for (final ArrayTuple tuple : tuples) {
+            blackhole.consume(tupleAnd.test(tuple));
+        }
+    }
+
+    @Benchmark
+    public void tupleOr(final Blackhole blackhole) {
+        for (final ArrayTuple tuple : tuples) {
+            blackhole.consume(tupleOr.test(tuple));
+        }
+    }
+}
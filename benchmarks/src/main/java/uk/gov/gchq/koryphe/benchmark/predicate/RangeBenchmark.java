@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.koryphe.impl.predicate.range.InRangeDual;
+import uk.gov.gchq.koryphe.impl.predicate.range.InTimeRange;
+import uk.gov.gchq.koryphe.util.RangeUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures range predicates on long timestamps, using their compiled range
+ * checks, against calling {@link RangeUtil#inRange} with the same
+ * configuration, and a range of offsets from the current time. Each invocation tests a block of inputs, about half of which
+ * are in range, so throughput is reported per input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(RangeBenchmark.SIZE)
+@State(Scope.Thread)
+public class RangeBenchmark {
+    static final int SIZE = 1024;
+    private static final long START = 1000000L;
+    private static final long END = 2000000L;
+
+    private Long[] values;
+    private InRangeDual<Long> inRangeDual;
+    private InTimeRange inTimeRange;
+    private InTimeRange inTimeRangeOffset;
+
+    @Setup
+    public void setup() {
+        inRangeDual = new InRangeDual.Builder<Long>()
+                .start(START)
+                .end(END)
+                .endInclusive(false)
+                .startFullyContained(true)
+                .endFullyContained(true)
+                .build();
+        inTimeRange = new InTimeRange.Builder()
+                .start(String.valueOf(START))
+                .end(String.valueOf(END))
+                .endInclusive(false)
+                .build();
+
+        inTimeRangeOffset = new InTimeRange.Builder()
+                .startOffset(-1L)
+                .endOffset(0L)
+                .offsetUnit(uk.gov.gchq.koryphe.util.TimeUnit.HOUR)
+                .build();
+
+        values = new Long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = (i * 7919L * 1009L) % (2 * END);
+        }
+    }
+
+    @Benchmark
+    public void inRangeDual(final Blackhole blackhole) {
+        for (final Long value : values) {
+            blackhole.consume(inRangeDual.test(value, value));
+        }
+    }
+
+    @Benchmark
+    public void rangeUtil(final Blackhole blackhole) {
+        final Long start = START;
+        final Long end = END;
+        for (final Long value : values) {
+            blackhole.consume(RangeUtil.inRange(value, value, start, end, null, false, true, true));
+        }
+    }
+
+    @Benchmark
+    public void inTimeRange(final Blackhole blackhole) {
+        for (final Long value : values) {
+            blackhole.consume(inTimeRange.test(value));
+        }
+    }
+
+    @Benchmark
+    public void inTimeRangeOffset(final Blackhole blackhole) {
+        for (final Long value : values) {
+            blackhole.consume(inTimeRangeOffset.test(value));
+        }
+    }
+}
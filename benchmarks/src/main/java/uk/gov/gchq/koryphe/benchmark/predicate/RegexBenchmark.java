@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.koryphe.impl.function.StringRegexSplit;
+import uk.gov.gchq.koryphe.impl.predicate.MultiRegex;
+import uk.gov.gchq.koryphe.impl.predicate.Regex;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures a {@link MultiRegex} with hundreds of label and type patterns,
+ * against matching each pattern in turn with a new
+ * {@link java.util.regex.Matcher}, and a {@link Regex} and
+ * {@link StringRegexSplit} with patterns that are effectively literals,
+ * against using the {@link Pattern} directly. Each invocation tests a block
+ * of inputs, so throughput is reported per input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(RegexBenchmark.SIZE)
+@State(Scope.Thread)
+public class RegexBenchmark {
+    static final int SIZE = 1024;
+    private static final int LABELS = 200;
+    private static final int TYPES = 100;
+
+    private String[] strings;
+    private Pattern[] patterns;
+    private MultiRegex multiRegex;
+    private Pattern prefixPattern;
+    private Regex prefixRegex;
+    private Pattern commaPattern;
+    private StringRegexSplit commaSplit;
+    private String[] csvStrings;
+
+    @Setup
+    public void setup() {
+        patterns = new Pattern[LABELS + TYPES];
+        for (int i = 0; i < LABELS; i++) {
+            patterns[i] = Pattern.compile("label" + i);
+        }
+        for (int i = 0; i < TYPES; i++) {
+            patterns[LABELS + i] = Pattern.compile("type" + i + "-[a-z]+");
+        }
+        multiRegex = new MultiRegex(patterns);
+        prefixPattern = Pattern.compile("label1.*");
+        prefixRegex = new Regex(prefixPattern);
+        commaPattern = Pattern.compile(",");
+        commaSplit = new StringRegexSplit(",");
+
+        strings = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            switch (i % 4) {
+                case 0:
+                    strings[i] = "label" + i % (LABELS * 2);
+                    break;
+                case 1:
+                    strings[i] = "type" + i % (TYPES * 2) + "-entity";
+                    break;
+                default:
+                    strings[i] = "other" + i;
+            }
+        }
+
+        csvStrings = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            csvStrings[i] = "a" + i + ",b" + i + ",c" + i;
+        }
+    }
+
+    @Benchmark
+    public void multiRegex(final Blackhole blackhole) {
+        for (final String string : strings) {
+            blackhole.consume(multiRegex.test(string));
+        }
+    }
+
+    @Benchmark
+    public void eachPattern(final Blackhole blackhole) {
+        for (final String string : strings) {
+            boolean result = false;
+            for (final Pattern pattern : patterns) {
+                if (pattern.matcher(string).matches()) {
+                    result = true;
+                    break;
+                }
+            }
+            blackhole.consume(result);
+        }
+    }
+
+    @Benchmark
+    public void regexPrefix(final Blackhole blackhole) {
+        for (final String string : strings) {
+            blackhole.consume(prefixRegex.test(string));
+        }
+    }
+
+    @Benchmark
+    public void patternPrefix(final Blackhole blackhole) {
+        for (final String string : strings) {
+            blackhole.consume(prefixPattern.matcher(string).matches());
+        }
+    }
+
+    @Benchmark
+    public void regexSplit(final Blackhole blackhole) {
+        for (final String string : csvStrings) {
+            blackhole.consume(commaSplit.apply(string));
+        }
+    }
+
+    @Benchmark
+    public void patternSplit(final Blackhole blackhole) {
+        for (final String string : csvStrings) {
+            blackhole.consume(commaPattern.split(string));
+        }
+    }
+}
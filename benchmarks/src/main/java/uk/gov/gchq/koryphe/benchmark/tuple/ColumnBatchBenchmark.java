@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.koryphe.impl.function.Multiply;
+import uk.gov.gchq.koryphe.impl.function.MultiplyBy;
+import uk.gov.gchq.koryphe.tuple.ColumnBatch;
+import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunction;
+import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunctionComposite;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares applying a {@link TupleAdaptedFunctionComposite} to a block of
+ * {@link TupleType#LAYOUT} tuples one tuple at a time with applying it to the
+ * same tuples held in a {@link ColumnBatch}, one column at a time, both with
+ * and without the cost of loading the batch. Throughput is reported per tuple.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(ColumnBatchBenchmark.SIZE)
+@State(Scope.Thread)
+public class ColumnBatchBenchmark {
+    static final int SIZE = 1024;
+
+    private Tuple<Object>[] tuples;
+    private ColumnBatch<Object> batch;
+    private TupleAdaptedFunctionComposite<Object> composite;
+
+    @Setup
+    public void setup() {
+        final TupleType tupleType = TupleType.LAYOUT;
+        tuples = new Tuple[SIZE];
+        batch = new ColumnBatch<>(tupleType.layout(), SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            tuples[i] = tupleType.create(i, 5, 0);
+            batch.add(tuples[i]);
+        }
+
+        composite = new TupleAdaptedFunctionComposite.Builder<>()
+                .select(tupleType.references("a")).execute(new MultiplyBy(2)).project(tupleType.references("c"))
+                .select(tupleType.references("a", "b")).execute(new Multiply()).project(tupleType.references("c"))
+                .select(tupleType.references("c")).execute(new MultiplyBy(3)).project(tupleType.references("b"))
+                .build();
+        for (final TupleAdaptedFunction<Object, ?, ?> component : composite.getComponents()) {
+            component.bind(tupleType.layout());
+        }
+    }
+
+    @Benchmark
+    public void perTuple(final Blackhole blackhole) {
+        for (final Tuple<Object> tuple : tuples) {
+            blackhole.consume(composite.apply(tuple));
+        }
+    }
+
+    @Benchmark
+    public ColumnBatch<Object> columnar() {
+        return composite.applyBatch(batch);
+    }
+
+    @Benchmark
+    public ColumnBatch<Object> columnarIncludingLoad() {
+        batch.clear();
+        for (final Tuple<Object> tuple : tuples) {
+            batch.add(tuple);
+        }
+        return composite.applyBatch(batch);
+    }
+}
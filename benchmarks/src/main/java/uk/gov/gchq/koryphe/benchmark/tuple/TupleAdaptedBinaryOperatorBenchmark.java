@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.koryphe.impl.binaryoperator.Max;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Min;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator;
+import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperatorComposite;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TupleAdaptedBinaryOperator} and {@link TupleAdaptedBinaryOperatorComposite}
+ * aggregating one tuple into another, over each {@link TupleType}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TupleAdaptedBinaryOperatorBenchmark {
+    @Param({"ARRAY", "MAP", "REFLECTIVE"})
+    public TupleType tupleType;
+
+    private Tuple<Object> state;
+    private Tuple<Object> input;
+    private TupleAdaptedBinaryOperator<Object, Number> singleSelection;
+    private TupleAdaptedBinaryOperatorComposite<Object> composite;
+
+    @Setup
+    public void setup() {
+        state = tupleType.create(0, 0, 0);
+        input = tupleType.create(1, 2, 3);
+        singleSelection = new TupleAdaptedBinaryOperator<>(new Sum(), tupleType.references("a"));
+        composite = new TupleAdaptedBinaryOperatorComposite.Builder<>()
+                .select(tupleType.references("a")).execute(new Sum())
+                .select(tupleType.references("b")).execute(new Max())
+                .select(tupleType.references("c")).execute(new Min())
+                .build();
+    }
+
+    @Benchmark
+    public Tuple<Object> singleSelection() {
+        return singleSelection.apply(state, input);
+    }
+
+    @Benchmark
+    public Tuple<Object> composite() {
+        return composite.apply(state, input);
+    }
+}
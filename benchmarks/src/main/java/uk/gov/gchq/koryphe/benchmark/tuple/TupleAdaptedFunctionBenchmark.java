@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.koryphe.impl.function.Multiply;
+import uk.gov.gchq.koryphe.impl.function.MultiplyBy;
+import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunction;
+import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunctionComposite;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TupleAdaptedFunction} and {@link TupleAdaptedFunctionComposite}
+ * over each {@link TupleType}, with both single and multi field selections.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TupleAdaptedFunctionBenchmark {
+    @Param({"ARRAY", "MAP", "REFLECTIVE", "LAYOUT"})
+    public TupleType tupleType;
+
+    private Tuple<Object> tuple;
+    private TupleAdaptedFunction<Object, Integer, Integer> singleSelection;
+    private TupleAdaptedFunction<Object, ?, Integer> multiSelection;
+    private TupleAdaptedFunctionComposite<Object> composite;
+
+    @Setup
+    public void setup() {
+        tuple = tupleType.create(3, 5, 0);
+        singleSelection = new TupleAdaptedFunction<>(tupleType.references("a"), new MultiplyBy(2), tupleType.references("c"));
+        multiSelection = new TupleAdaptedFunction<>(tupleType.references("a", "b"), new Multiply(), tupleType.references("c"));
+        singleSelection.bind(tupleType.layout());
+        multiSelection.bind(tupleType.layout());
+        composite = new TupleAdaptedFunctionComposite.Builder<>()
+                .select(tupleType.references("a")).execute(new MultiplyBy(2)).project(tupleType.references("c"))
+                .select(tupleType.references("a", "b")).execute(new Multiply()).project(tupleType.references("c"))
+                .build();
+    }
+
+    @Benchmark
+    public Tuple<Object> singleSelection() {
+        return singleSelection.apply(tuple);
+    }
+
+    @Benchmark
+    public Tuple<Object> multiSelection() {
+        return multiSelection.apply(tuple);
+    }
+
+    @Benchmark
+    public Tuple<Object> composite() {
+        return composite.apply(tuple);
+    }
+}
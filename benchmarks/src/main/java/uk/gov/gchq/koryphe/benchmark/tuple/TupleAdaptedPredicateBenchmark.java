@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+import uk.gov.gchq.koryphe.impl.predicate.IsXLessThanY;
+import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicateComposite;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TupleAdaptedPredicate} and {@link TupleAdaptedPredicateComposite}
+ * over each {@link TupleType}, with both single and multi field selections.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TupleAdaptedPredicateBenchmark {
+    @Param({"ARRAY", "MAP", "REFLECTIVE", "LAYOUT"})
+    public TupleType tupleType;
+
+    private Tuple<Object> tuple;
+    private TupleAdaptedPredicate<Object, Comparable> singleSelection;
+    private TupleAdaptedPredicate<Object, ?> multiSelection;
+    private TupleAdaptedPredicateComposite<Object> composite;
+
+    @Setup
+    public void setup() {
+        tuple = tupleType.create(3, 5, 0);
+        singleSelection = new TupleAdaptedPredicate<>(new IsMoreThan(1), tupleType.references("a"));
+        multiSelection = new TupleAdaptedPredicate<>(new IsXLessThanY(), tupleType.references("a", "b"));
+        singleSelection.bind(tupleType.layout());
+        multiSelection.bind(tupleType.layout());
+        composite = new TupleAdaptedPredicateComposite.Builder<>()
+                .select(tupleType.references("a")).execute(new IsMoreThan(1))
+                .select(tupleType.references("a", "b")).execute(new IsXLessThanY())
+                .build();
+    }
+
+    @Benchmark
+    public boolean singleSelection() {
+        return singleSelection.test(tuple);
+    }
+
+    @Benchmark
+    public boolean multiSelection() {
+        return multiSelection.test(tuple);
+    }
+
+    @Benchmark
+    public boolean composite() {
+        return composite.test(tuple);
+    }
+}
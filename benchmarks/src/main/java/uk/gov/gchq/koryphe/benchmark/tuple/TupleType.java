@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.benchmark.tuple;
+
+import uk.gov.gchq.koryphe.tuple.ArrayTuple;
+import uk.gov.gchq.koryphe.tuple.LayoutTuple;
+import uk.gov.gchq.koryphe.tuple.MapTuple;
+import uk.gov.gchq.koryphe.tuple.ReflectiveTuple;
+import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleLayout;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link Tuple} implementations covered by the tuple benchmarks. Each
+ * type exposes the same three fields, named "a", "b" and "c", so a single
+ * benchmark can be parameterised over all of them.
+ */
+public enum TupleType {
+    ARRAY {
+        @Override
+        public Tuple<Object> create(final Integer a, final Integer b, final Integer c) {
+            return (Tuple) new ArrayTuple(a, b, c);
+        }
+
+        @Override
+        public Object reference(final String field) {
+            return FIELDS.indexOf(field);
+        }
+    },
+    MAP {
+        @Override
+        public Tuple<Object> create(final Integer a, final Integer b, final Integer c) {
+            final Map<Object, Object> values = new HashMap<>();
+            values.put("a", a);
+            values.put("b", b);
+            values.put("c", c);
+            return new MapTuple<>(values);
+        }
+    },
+    REFLECTIVE {
+        @Override
+        public Tuple<Object> create(final Integer a, final Integer b, final Integer c) {
+            return (Tuple) new ReflectiveTuple(new Record(a, b, c));
+        }
+    },
+    LAYOUT {
+        @Override
+        public Tuple<Object> create(final Integer a, final Integer b, final Integer c) {
+            return new LayoutTuple<>(TUPLE_LAYOUT, a, b, c);
+        }
+
+        @Override
+        public TupleLayout<Object> layout() {
+            return TUPLE_LAYOUT;
+        }
+    };
+
+    private static final List<String> FIELDS = Arrays.asList("a", "b", "c");
+    private static final TupleLayout<Object> TUPLE_LAYOUT = new TupleLayout<>("a", "b", "c");
+
+    /**
+     * @param a the value of field "a"
+     * @param b the value of field "b"
+     * @param c the value of field "c"
+     * @return a new tuple of this type holding the given values
+     */
+    public abstract Tuple<Object> create(final Integer a, final Integer b, final Integer c);
+
+    /**
+     * @param field the field name, one of "a", "b" or "c"
+     * @return the reference used by this tuple type to access the field
+     */
+    public Object reference(final String field) {
+        return field;
+    }
+
+    /**
+     * @return the layout that selections should be bound to, or null if this
+     * tuple type does not have a layout
+     */
+    public TupleLayout<Object> layout() {
+        return null;
+    }
+
+    /**
+     * @param fields the field names
+     * @return the references used by this tuple type to access the fields
+     */
+    public Object[] references(final String... fields) {
+        final Object[] references = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            references[i] = reference(fields[i]);
+        }
+        return references;
+    }
+
+    /**
+     * A simple POJO with getters and setters, as wrapped by a {@link ReflectiveTuple}.
+     */
+    public static class Record {
+        private Integer a;
+        private Integer b;
+        private Integer c;
+
+        public Record(final Integer a, final Integer b, final Integer c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        public Integer getA() {
+            return a;
+        }
+
+        public void setA(final Integer a) {
+            this.a = a;
+        }
+
+        public Integer getB() {
+            return b;
+        }
+
+        public void setB(final Integer b) {
+            this.b = b;
+        }
+
+        public Integer getC() {
+            return c;
+        }
+
+        public void setC(final Integer c) {
+            this.c = c;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.binaryoperator;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * An <code>Accumulator</code> is a mutable aggregation state. Values are
+ * accumulated into it one at a time, and states built up separately can be
+ * merged together.
+ *
+ * @param <T> Type of the values being aggregated
+ * @param <A> Type of the accumulator, so states can be merged
+ */
+public interface Accumulator<T, A extends Accumulator<T, A>> {
+    /**
+     * Accumulate a value into this state. Null values are ignored.
+     *
+     * @param value the value to accumulate
+     */
+    void accumulate(T value);
+
+    /**
+     * Merge another state into this one. The other state is unchanged.
+     *
+     * @param other the state to merge
+     */
+    void merge(A other);
+
+    /**
+     * @return the aggregated result, or null if nothing has been accumulated
+     */
+    T result();
+
+    /**
+     * @param <A> Type of the accumulator
+     * @return a {@link BinaryOperator} which merges the second state into the
+     * first and returns the first, ignoring null states
+     */
+    static <A extends Accumulator<?, A>> BinaryOperator<A> merger() {
+        return (state, input) -> {
+            if (null == state) {
+                return input;
+            }
+            if (null != input) {
+                state.merge(input);
+            }
+            return state;
+        };
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.binaryoperator;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.function.DoubleBinaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A <code>DoubleState</code> is an {@link Accumulator} holding an unboxed double, which
+ * is combined with each accumulated value using a primitive operator. States are
+ * created by a {@link PrimitiveAggregator}, and can be merged with a
+ * {@link java.util.function.BinaryOperator} from {@link Accumulator#merger()}.
+ * <p>
+ * A <code>DoubleState</code> is not thread safe.
+ * </p>
+ */
+public final class DoubleState implements Accumulator<Number, DoubleState> {
+    private final DoubleBinaryOperator operator;
+    private double value;
+    private boolean empty = true;
+
+    public DoubleState(final DoubleBinaryOperator operator) {
+        this.operator = requireNonNull(operator, "Operator is required");
+    }
+
+    /**
+     * Accumulate a value into this state.
+     *
+     * @param input the value to accumulate
+     */
+    public void accumulate(final double input) {
+        if (empty) {
+            value = input;
+            empty = false;
+        } else {
+            value = operator.applyAsDouble(value, input);
+        }
+    }
+
+    @Override
+    public void accumulate(final Number input) {
+        if (null != input) {
+            accumulate(input.doubleValue());
+        }
+    }
+
+    @Override
+    public void merge(final DoubleState other) {
+        if (!other.empty) {
+            accumulate(other.value);
+        }
+    }
+
+    @Override
+    public Double result() {
+        return empty ? null : value;
+    }
+
+    /**
+     * @return the aggregated double, or 0 if nothing has been accumulated
+     */
+    public double getDouble() {
+        return value;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Clear this state so it can be reused.
+     */
+    public void reset() {
+        value = 0;
+        empty = true;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("value", result())
+                .build();
+    }
+}
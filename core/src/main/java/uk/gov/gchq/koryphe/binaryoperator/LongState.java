@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.binaryoperator;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.function.LongBinaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A <code>LongState</code> is an {@link Accumulator} holding an unboxed long, which
+ * is combined with each accumulated value using a primitive operator. States are
+ * created by a {@link PrimitiveAggregator}, and can be merged with a
+ * {@link java.util.function.BinaryOperator} from {@link Accumulator#merger()}.
+ * <p>
+ * A <code>LongState</code> is not thread safe.
+ * </p>
+ */
+public final class LongState implements Accumulator<Number, LongState> {
+    private final LongBinaryOperator operator;
+    private long value;
+    private boolean empty = true;
+
+    public LongState(final LongBinaryOperator operator) {
+        this.operator = requireNonNull(operator, "Operator is required");
+    }
+
+    /**
+     * Accumulate a value into this state.
+     *
+     * @param input the value to accumulate
+     */
+    public void accumulate(final long input) {
+        if (empty) {
+            value = input;
+            empty = false;
+        } else {
+            value = operator.applyAsLong(value, input);
+        }
+    }
+
+    @Override
+    public void accumulate(final Number input) {
+        if (null != input) {
+            accumulate(input.longValue());
+        }
+    }
+
+    @Override
+    public void merge(final LongState other) {
+        if (!other.empty) {
+            accumulate(other.value);
+        }
+    }
+
+    @Override
+    public Long result() {
+        return empty ? null : value;
+    }
+
+    /**
+     * @return the aggregated long, or 0 if nothing has been accumulated
+     */
+    public long getLong() {
+        return value;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Clear this state so it can be reused.
+     */
+    public void reset() {
+        value = 0;
+        empty = true;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("value", result())
+                .build();
+    }
+}
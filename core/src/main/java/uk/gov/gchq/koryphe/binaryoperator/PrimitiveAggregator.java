@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.binaryoperator;
+
+/**
+ * A <code>PrimitiveAggregator</code> is a numeric {@link java.util.function.BinaryOperator}
+ * that can also aggregate into unboxed {@link LongState}s and {@link DoubleState}s,
+ * avoiding a new boxed result for every value aggregated.
+ */
+public interface PrimitiveAggregator {
+    /**
+     * @return a new, empty state which aggregates values as longs
+     */
+    LongState createLongState();
+
+    /**
+     * @return a new, empty state which aggregates values as doubles
+     */
+    DoubleState createDoubleState();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -71,4 +71,15 @@ public class FunctionComposite<I, O, C extends Function> extends Composite<C> im
         }
         return (O) result;
     }
+
+    /**
+     * Compile this composite into an equivalent function that is cheaper to
+     * apply. The result does not reflect later changes to the components.
+     *
+     * @return the compiled function
+     * @see FunctionFusion
+     */
+    public Function<I, O> fuse() {
+        return FunctionFusion.fuse(this);
+    }
 }
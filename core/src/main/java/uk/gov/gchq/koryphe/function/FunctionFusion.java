@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.function;
+
+import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleInputAdapter;
+import uk.gov.gchq.koryphe.tuple.TupleOutputAdapter;
+import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compiles a {@link Function}, which may be a {@link FunctionComposite}, into
+ * an equivalent function that is cheaper to apply.
+ * <ul>
+ * <li>Nested composites are flattened into a single sequence of functions.</li>
+ * <li>Consecutive {@link TupleAdaptedFunction}s are fused into one stage,
+ * which applies their adapters and functions directly. Where a function
+ * selects the single field that the previous function projected to, the
+ * projected value is passed straight on rather than being read back from
+ * the tuple.</li>
+ * <li>The sequence is compiled into a tree of fixed size nodes, each of
+ * which calls its functions in turn, rather than iterating over a list.</li>
+ * </ul>
+ * The compiled function is a snapshot, so later changes to the composites
+ * are not reflected in it. Composite subclasses that override
+ * {@link FunctionComposite#apply(Object)} are treated as single functions.
+ * Passing projected values on assumes that getting a field from a tuple
+ * returns the value that was last put to it.
+ */
+public final class FunctionFusion {
+    private static final int MAX_NODE_SIZE = 4;
+
+    private FunctionFusion() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * Compile a function into an equivalent function that is cheaper to apply.
+     *
+     * @param function the function to compile
+     * @param <I>      the input type
+     * @param <O>      the output type
+     * @return the compiled function
+     */
+    public static <I, O> Function<I, O> fuse(final Function<I, O> function) {
+        final List<Function> stages = new ArrayList<>();
+        flatten(function, stages);
+        return (Function<I, O>) compile(fuseTupleStages(stages));
+    }
+
+    private static void flatten(final Function function, final List<Function> stages) {
+        if (isSequentialComposite(function)) {
+            final List<Function> components = ((FunctionComposite) function).getComponents();
+            if (null != components) {
+                for (final Function component : components) {
+                    flatten(component, stages);
+                }
+            }
+        } else {
+            stages.add(function);
+        }
+    }
+
+    private static List<Function> fuseTupleStages(final List<Function> stages) {
+        final List<Function> fused = new ArrayList<>(stages.size());
+        final List<TupleAdaptedFunction> run = new ArrayList<>();
+        for (final Function stage : stages) {
+            if (isFusible(stage)) {
+                run.add((TupleAdaptedFunction) stage);
+            } else {
+                addRun(run, fused);
+                fused.add(stage);
+            }
+        }
+        addRun(run, fused);
+        return fused;
+    }
+
+    private static void addRun(final List<TupleAdaptedFunction> run, final List<Function> fused) {
+        if (!run.isEmpty()) {
+            fused.add(new TupleStage(run));
+            run.clear();
+        }
+    }
+
+    private static Function compile(final List<Function> stages) {
+        switch (stages.size()) {
+            case 0:
+                return input -> input;
+            case 1:
+                return stages.get(0);
+            case 2:
+                return new Chain2(stages.get(0), stages.get(1));
+            case 3:
+                return new Chain3(stages.get(0), stages.get(1), stages.get(2));
+            case MAX_NODE_SIZE:
+                return new Chain4(stages.get(0), stages.get(1), stages.get(2), stages.get(3));
+            default:
+                final List<Function> nodes = new ArrayList<>();
+                for (int i = 0; i < stages.size(); i += MAX_NODE_SIZE) {
+                    nodes.add(compile(stages.subList(i, Math.min(i + MAX_NODE_SIZE, stages.size()))));
+                }
+                return compile(nodes);
+        }
+    }
+
+    private static boolean isSequentialComposite(final Function function) {
+        return function instanceof FunctionComposite && FunctionComposite.class == declaringClassOfApply(function);
+    }
+
+    private static boolean isFusible(final Function function) {
+        if (!(function instanceof TupleAdaptedFunction) || AdaptedFunction.class != declaringClassOfApply(function)) {
+            return false;
+        }
+
+        final TupleAdaptedFunction tupleAdaptedFunction = (TupleAdaptedFunction) function;
+        return null != tupleAdaptedFunction.getFunction()
+                && null != tupleAdaptedFunction.getInputAdapter()
+                && TupleInputAdapter.class == tupleAdaptedFunction.getInputAdapter().getClass()
+                && null != tupleAdaptedFunction.getOutputAdapter()
+                && TupleOutputAdapter.class == tupleAdaptedFunction.getOutputAdapter().getClass();
+    }
+
+    private static Class<?> declaringClassOfApply(final Function function) {
+        try {
+            return function.getClass().getMethod("apply", Object.class).getDeclaringClass();
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalArgumentException("Unable to find apply method of " + function.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Applies a run of {@link TupleAdaptedFunction}s to a tuple, passing each
+     * single projected value on to the next function if it selects the same field.
+     */
+    private static final class TupleStage implements Function<Tuple, Tuple> {
+        private final TupleInputAdapter[] inputAdapters;
+        private final Function[] functions;
+        private final TupleOutputAdapter[] outputAdapters;
+        private final boolean[] passPrevious;
+
+        private TupleStage(final List<TupleAdaptedFunction> run) {
+            final int size = run.size();
+            inputAdapters = new TupleInputAdapter[size];
+            functions = new Function[size];
+            outputAdapters = new TupleOutputAdapter[size];
+            passPrevious = new boolean[size];
+            Object[] previousProjection = null;
+            for (int i = 0; i < size; i++) {
+                final TupleAdaptedFunction function = run.get(i);
+                inputAdapters[i] = function.getInputAdapter();
+                functions[i] = function.getFunction();
+                outputAdapters[i] = function.getOutputAdapter();
+                final Object[] selection = inputAdapters[i].getSelection();
+                passPrevious[i] = null != previousProjection && 1 == selection.length
+                        && Arrays.equals(previousProjection, selection);
+                final Object[] projection = outputAdapters[i].getProjection();
+                previousProjection = 1 == projection.length ? projection : null;
+            }
+        }
+
+        @Override
+        public Tuple apply(final Tuple input) {
+            Tuple tuple = input;
+            Object value = null;
+            for (int i = 0; i < functions.length; i++) {
+                final Object selected = passPrevious[i] && null != tuple ? value : inputAdapters[i].apply(tuple);
+                value = functions[i].apply(selected);
+                tuple = outputAdapters[i].apply(tuple, value);
+            }
+            return tuple;
+        }
+    }
+
+    private static final class Chain2 implements Function<Object, Object> {
+        private final Function first;
+        private final Function second;
+
+        private Chain2(final Function first, final Function second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public Object apply(final Object input) {
+            return second.apply(first.apply(input));
+        }
+    }
+
+    private static final class Chain3 implements Function<Object, Object> {
+        private final Function first;
+        private final Function second;
+        private final Function third;
+
+        private Chain3(final Function first, final Function second, final Function third) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+        }
+
+        @Override
+        public Object apply(final Object input) {
+            return third.apply(second.apply(first.apply(input)));
+        }
+    }
+
+    private static final class Chain4 implements Function<Object, Object> {
+        private final Function first;
+        private final Function second;
+        private final Function third;
+        private final Function fourth;
+
+        private Chain4(final Function first, final Function second, final Function third, final Function fourth) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+            this.fourth = fourth;
+        }
+
+        @Override
+        public Object apply(final Object input) {
+            return fourth.apply(third.apply(second.apply(first.apply(input))));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,7 +18,10 @@ package uk.gov.gchq.koryphe.impl.binaryoperator;
 
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
+import uk.gov.gchq.koryphe.binaryoperator.DoubleState;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
+import uk.gov.gchq.koryphe.binaryoperator.LongState;
+import uk.gov.gchq.koryphe.binaryoperator.PrimitiveAggregator;
 
 /**
  * A <code>Min</code> is a {@link KorypheBinaryOperator} that takes in
@@ -27,9 +30,19 @@ import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
  */
 @Since("1.0.0")
 @Summary("Calculates the min value")
-public class Min extends KorypheBinaryOperator<Comparable> {
+public class Min extends KorypheBinaryOperator<Comparable> implements PrimitiveAggregator {
     @Override
     protected Comparable _apply(final Comparable a, final Comparable b) {
         return a.compareTo(b) <= 0 ? a : b;
     }
+
+    @Override
+    public LongState createLongState() {
+        return new LongState(Math::min);
+    }
+
+    @Override
+    public DoubleState createDoubleState() {
+        return new DoubleState(Math::min);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,7 +18,13 @@ package uk.gov.gchq.koryphe.impl.binaryoperator;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import uk.gov.gchq.koryphe.binaryoperator.DoubleState;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
+import uk.gov.gchq.koryphe.binaryoperator.LongState;
+import uk.gov.gchq.koryphe.binaryoperator.PrimitiveAggregator;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
 
 /**
  * A <code>NumericAggregateFunction</code> is a {@link KorypheBinaryOperator} that takes in
@@ -26,10 +32,12 @@ import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
  * implement the init methods and aggregate methods for the different number types.
  * If you know the type of number that will be used then this can be set by calling setMode(NumberType),
  * otherwise it will be automatically set for you using the class of the first number passed in.
+ * To avoid boxing a new result for every input, aggregate into a {@link LongState} or
+ * {@link DoubleState} created by this function instead.
  *
  * @see NumericAggregateFunction
  */
-public abstract class NumericAggregateFunction extends KorypheBinaryOperator<Number> {
+public abstract class NumericAggregateFunction extends KorypheBinaryOperator<Number> implements PrimitiveAggregator {
     @SuppressFBWarnings(value = "BC_UNCONFIRMED_CAST", justification = "Assume both inputs are the same type")
     @Override
     public Number _apply(final Number a, final Number b) {
@@ -48,6 +56,32 @@ public abstract class NumericAggregateFunction extends KorypheBinaryOperator<Num
         return null;
     }
 
+    @Override
+    public LongState createLongState() {
+        return new LongState(longOperator());
+    }
+
+    @Override
+    public DoubleState createDoubleState() {
+        return new DoubleState(doubleOperator());
+    }
+
+    /**
+     * @return the operator used by {@link LongState}s created by this function.
+     * Override this to avoid boxing in {@link #aggregateLong(Long, Long)}.
+     */
+    protected LongBinaryOperator longOperator() {
+        return this::aggregateLong;
+    }
+
+    /**
+     * @return the operator used by {@link DoubleState}s created by this function.
+     * Override this to avoid boxing in {@link #aggregateDouble(Double, Double)}.
+     */
+    protected DoubleBinaryOperator doubleOperator() {
+        return this::aggregateDouble;
+    }
+
     protected abstract Integer aggregateInt(final Integer a, final Integer b);
 
     protected abstract Long aggregateLong(final Long a, final Long b);
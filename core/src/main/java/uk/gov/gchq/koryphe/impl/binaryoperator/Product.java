@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,9 @@ import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.ValidationResult;
 
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
 /**
  * A <code>Product</code> is a {@link java.util.function.BinaryOperator} that takes in
  * {@link Number}s of the same type and calculates the product.
@@ -36,6 +39,16 @@ import uk.gov.gchq.koryphe.ValidationResult;
 public class Product extends NumericAggregateFunction {
     private static final Logger LOGGER = LoggerFactory.getLogger(ValidationResult.class);
 
+    @Override
+    protected LongBinaryOperator longOperator() {
+        return (a, b) -> a * b;
+    }
+
+    @Override
+    protected DoubleBinaryOperator doubleOperator() {
+        return (a, b) -> a * b;
+    }
+
     @Override
     protected Integer aggregateInt(final Integer a, final Integer b) {
         return a * b;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2022 Crown Copyright
+ * Copyright 2019-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,13 +20,15 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.function.KorypheFunction;
+import uk.gov.gchq.koryphe.tuple.LayoutMap;
+import uk.gov.gchq.koryphe.tuple.TupleLayout;
+import uk.gov.gchq.koryphe.util.CsvColumnType;
 import uk.gov.gchq.koryphe.util.IterableUtil;
 
 import java.io.IOException;
@@ -35,8 +37,8 @@ import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -44,7 +46,7 @@ import static java.util.Objects.isNull;
 
 @Since("1.8.0")
 @Summary("Parses CSV lines into Maps")
-@JsonPropertyOrder(value = { "header", "firstRow", "delimiter", "quoted", "quoteChar", "trim", "nullString" }, alphabetic = true)
+@JsonPropertyOrder(value = { "header", "firstRow", "delimiter", "quoted", "quoteChar", "trim", "nullString", "columnTypes" }, alphabetic = true)
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public class CsvLinesToMaps extends KorypheFunction<Iterable<String>, Iterable<Map<String, Object>>>
         implements Serializable {
@@ -56,6 +58,10 @@ public class CsvLinesToMaps extends KorypheFunction<Iterable<String>, Iterable<M
     private char quoteChar = '\"';
     private boolean trim = false;
     private String nullString = "";
+    private Map<String, CsvColumnType> columnTypes = new LinkedHashMap<>();
+
+    // The format is built once, rather than for each line
+    private transient CSVFormat csvFormat;
 
     @Override
     public Iterable<Map<String, Object>> apply(final Iterable<String> csvStrings) {
@@ -63,50 +69,137 @@ public class CsvLinesToMaps extends KorypheFunction<Iterable<String>, Iterable<M
             return null;
         }
 
+        // All the rows share a layout, with a slot for each distinct column name
+        final TupleLayout<String> layout = new TupleLayout<>(new LinkedHashSet<>(header).toArray(new String[0]));
+        final int[] columnSlots = layout.slotsOf(header.toArray(new String[0]));
+        final CsvColumnType[] types = new CsvColumnType[header.size()];
+        for (int column = 0; column < types.length; column++) {
+            types[column] = columnTypes.getOrDefault(header.get(column), CsvColumnType.STRING);
+        }
+
         final Iterable<String> csvRecords = IterableUtil.limit(csvStrings, firstRow, null, false);
-        return IterableUtil.map(csvRecords, (item) -> createMap((String) item));
+        return IterableUtil.map(csvRecords, (item) -> createMap((String) item, layout, columnSlots, types));
     }
 
-    private Map<String, Object> createMap(final String csvItem) {
-        return extractMap(parseCsv(csvItem, false));
+    private Map<String, Object> createMap(final String csv, final TupleLayout<String> layout,
+                                          final int[] columnSlots, final CsvColumnType[] types) {
+        final LayoutMap<String> map = new LayoutMap<>(layout);
+        final int[] bounds = splitUnquoted(csv);
+        if (null != bounds) {
+            // Values are converted directly from the line
+            checkColumns(bounds.length / 2, false);
+            for (int column = 0; column < columnSlots.length; column++) {
+                final int start = bounds[2 * column];
+                final int end = bounds[2 * column + 1];
+                map.putSlot(columnSlots[column], isNullString(csv, start, end) ? null : types[column].parse(csv, start, end));
+            }
+        } else {
+            final List<String> values = parseRecord(csv, false);
+            for (int column = 0; column < columnSlots.length; column++) {
+                map.putSlot(columnSlots[column], types[column].parse(values.get(column)));
+            }
+        }
+        return map;
     }
 
-    private Map<String, Object> extractMap(final CSVRecord csvRecord) {
-        final Iterator<String> columnNamesItr = header.iterator();
-        final Map<String, Object> map = new HashMap<>();
-        for (final String columnValue : csvRecord) {
-            map.put(columnNamesItr.next(), columnValue);
+    private List<String> parseCsv(final String csv, final boolean isHeader) {
+        final int[] bounds = splitUnquoted(csv);
+        if (null == bounds) {
+            return parseRecord(csv, isHeader);
         }
-        return map;
+
+        checkColumns(bounds.length / 2, isHeader);
+        final List<String> values = new ArrayList<>(bounds.length / 2);
+        for (int i = 0; i < bounds.length; i += 2) {
+            values.add(isNullString(csv, bounds[i], bounds[i + 1]) ? null : csv.substring(bounds[i], bounds[i + 1]));
+        }
+        return values;
     }
 
-    private CSVRecord parseCsv(final String csv, final boolean isHeader) {
-        final CSVRecord csvRecord;
+    private List<String> parseRecord(final String csv, final boolean isHeader) {
+        final List<String> values;
         try (final CSVParser csvParser = new CSVParser(new StringReader(csv), getCsvFormat())) {
-            csvRecord = csvParser.iterator().next();
+            values = csvParser.iterator().next().toList();
         } catch (final IOException e) {
             throw new RuntimeException(e);
         }
 
-        if (csvRecord.size() != header.size() && !isHeader) {
+        checkColumns(values.size(), isHeader);
+        return values;
+    }
+
+    private void checkColumns(final int numColumns, final boolean isHeader) {
+        if (numColumns != header.size() && !isHeader) {
             throw new IllegalArgumentException(
-                    "CSV has " + csvRecord.size()
+                    "CSV has " + numColumns
                             + " columns, but there are " + header.size()
                             + " provided column names");
         }
-        return csvRecord;
     }
 
-    private CSVFormat getCsvFormat() {
-        final CSVFormat.Builder formatBuilder = CSVFormat.DEFAULT.builder()
-                .setDelimiter(delimiter)
-                .setTrim(trim)
-                .setNullString(nullString);
-        if (quoted) {
-            formatBuilder.setQuote(quoteChar);
+    // Finds the start and end of each value in a line with no quotes or line breaks, trimmed
+    // in the same way as a CSVParser would, without creating a parser or any strings.
+    // Returns null if the line needs to be parsed by a CSVParser.
+    private int[] splitUnquoted(final String csv) {
+        final CSVFormat format = getCsvFormat();
+        final Character quote = format.getQuoteCharacter();
+        final int length = csv.length();
+        if (0 == length) {
+            return null;
         }
 
-        return formatBuilder.build();
+        int numValues = 1;
+        for (int i = 0; i < length; i++) {
+            final char c = csv.charAt(i);
+            if ('\r' == c || '\n' == c || (null != quote && quote == c)) {
+                return null;
+            }
+            if (delimiter == c) {
+                numValues++;
+            }
+        }
+
+        final int[] bounds = new int[2 * numValues];
+        int value = 0;
+        int start = 0;
+        for (int i = 0; i <= length; i++) {
+            if (length == i || delimiter == csv.charAt(i)) {
+                int valueStart = start;
+                int valueEnd = i;
+                if (trim) {
+                    // The same characters as String.trim
+                    while (valueStart < valueEnd && csv.charAt(valueStart) <= ' ') {
+                        valueStart++;
+                    }
+                    while (valueEnd > valueStart && csv.charAt(valueEnd - 1) <= ' ') {
+                        valueEnd--;
+                    }
+                }
+                bounds[value++] = valueStart;
+                bounds[value++] = valueEnd;
+                start = i + 1;
+            }
+        }
+        return bounds;
+    }
+
+    private boolean isNullString(final String csv, final int start, final int end) {
+        return null != nullString && nullString.length() == end - start && csv.startsWith(nullString, start);
+    }
+
+    private CSVFormat getCsvFormat() {
+        if (null == csvFormat) {
+            final CSVFormat.Builder formatBuilder = CSVFormat.DEFAULT.builder()
+                    .setDelimiter(delimiter)
+                    .setTrim(trim)
+                    .setNullString(nullString);
+            if (quoted) {
+                formatBuilder.setQuote(quoteChar);
+            }
+
+            csvFormat = formatBuilder.build();
+        }
+        return csvFormat;
     }
 
     public List<String> getHeader() {
@@ -137,8 +230,7 @@ public class CsvLinesToMaps extends KorypheFunction<Iterable<String>, Iterable<M
     }
 
     public CsvLinesToMaps parseHeader(final String header) {
-        CSVRecord record = parseCsv(header, true);
-        return header(record.toList());
+        return header(parseCsv(header, true));
     }
 
     public CsvLinesToMaps header(final Collection<String> header) {
@@ -152,10 +244,12 @@ public class CsvLinesToMaps extends KorypheFunction<Iterable<String>, Iterable<M
 
     public void setDelimiter(final char delimiter) {
         this.delimiter = delimiter;
+        this.csvFormat = null;
     }
 
     public CsvLinesToMaps delimiter(final char delimiter) {
         this.delimiter = delimiter;
+        this.csvFormat = null;
         return this;
     }
 
@@ -165,15 +259,18 @@ public class CsvLinesToMaps extends KorypheFunction<Iterable<String>, Iterable<M
 
     public void setQuoted(final boolean quoted) {
         this.quoted = quoted;
+        this.csvFormat = null;
     }
 
     public CsvLinesToMaps quoted() {
         this.quoted = true;
+        this.csvFormat = null;
         return this;
     }
 
     public CsvLinesToMaps quoted(final boolean quoted) {
         this.quoted = quoted;
+        this.csvFormat = null;
         return this;
     }
 
@@ -183,10 +280,12 @@ public class CsvLinesToMaps extends KorypheFunction<Iterable<String>, Iterable<M
 
     public void setQuoteChar(final char quoteChar) {
         this.quoteChar = quoteChar;
+        this.csvFormat = null;
     }
 
     public CsvLinesToMaps quoteChar(final char quoteChar) {
         this.quoteChar = quoteChar;
+        this.csvFormat = null;
         return this;
     }
 
@@ -196,10 +295,12 @@ public class CsvLinesToMaps extends KorypheFunction<Iterable<String>, Iterable<M
 
     public void setTrim(final boolean trim) {
         this.trim = trim;
+        this.csvFormat = null;
     }
 
     public CsvLinesToMaps trim(final Boolean trim) {
         this.trim = trim;
+        this.csvFormat = null;
         return this;
     }
 
@@ -209,10 +310,36 @@ public class CsvLinesToMaps extends KorypheFunction<Iterable<String>, Iterable<M
 
     public void setNullString(final String nullString) {
         this.nullString = nullString;
+        this.csvFormat = null;
     }
 
     public CsvLinesToMaps nullString(final String nullString) {
         this.nullString = nullString;
+        this.csvFormat = null;
+        return this;
+    }
+
+    public Map<String, CsvColumnType> getColumnTypes() {
+        return columnTypes;
+    }
+
+    public void setColumnTypes(final Map<String, CsvColumnType> columnTypes) {
+        this.columnTypes.clear();
+        if (null != columnTypes) {
+            this.columnTypes.putAll(columnTypes);
+        }
+    }
+
+    /**
+     * Convert the values of a column to a type as they are parsed.
+     * Columns without a type are {@link CsvColumnType#STRING}s.
+     *
+     * @param column the column name
+     * @param type   the type of the column
+     * @return this function
+     */
+    public CsvLinesToMaps columnType(final String column, final CsvColumnType type) {
+        this.columnTypes.put(column, type);
         return this;
     }
 
@@ -235,6 +362,7 @@ public class CsvLinesToMaps extends KorypheFunction<Iterable<String>, Iterable<M
                 .append(delimiter, that.delimiter)
                 .append(trim, that.trim)
                 .append(nullString, that.nullString)
+                .append(columnTypes, that.columnTypes)
                 .isEquals();
     }
 
@@ -249,6 +377,7 @@ public class CsvLinesToMaps extends KorypheFunction<Iterable<String>, Iterable<M
                 .append(delimiter)
                 .append(trim)
                 .append(nullString)
+                .append(columnTypes)
                 .toHashCode();
     }
 }
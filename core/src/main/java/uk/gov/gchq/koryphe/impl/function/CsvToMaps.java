@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2022 Crown Copyright
+ * Copyright 2019-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,25 +27,48 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.function.KorypheFunction;
+import uk.gov.gchq.koryphe.tuple.LayoutMap;
+import uk.gov.gchq.koryphe.tuple.TupleLayout;
 import uk.gov.gchq.koryphe.util.CloseableUtil;
+import uk.gov.gchq.koryphe.util.CsvColumnType;
 import uk.gov.gchq.koryphe.util.IterableUtil;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.Serializable;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.isNull;
 
+/**
+ * A <code>CsvToMaps</code> is a {@link java.util.function.Function} that
+ * parses a CSV into a {@link Map} for each record, with the header as the keys.
+ * <p>
+ * The records are parsed lazily as the returned {@link Iterable} is iterated,
+ * so the CSV is never held as a list of records. The iterable is
+ * {@link Closeable}, which closes any iterators that have not been exhausted.
+ * </p>
+ */
 @Since("1.8.0")
 @Summary("Parses a CSV into Maps")
-@JsonPropertyOrder(value = { "header", "firstRow", "delimiter", "quoted", "quoteChar" }, alphabetic = true)
+@JsonPropertyOrder(value = { "header", "firstRow", "delimiter", "quoted", "quoteChar", "columnTypes" }, alphabetic = true)
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public class CsvToMaps extends KorypheFunction<String, Iterable<Map<String, Object>>> implements Serializable {
     private static final long serialVersionUID = 891938487168606844L;
@@ -54,6 +77,7 @@ public class CsvToMaps extends KorypheFunction<String, Iterable<Map<String, Obje
     private char delimiter = ',';
     private boolean quoted = false;
     private char quoteChar = '\"';
+    private Map<String, CsvColumnType> columnTypes = new LinkedHashMap<>();
 
     @Override
     public Iterable<Map<String, Object>> apply(final String csv) {
@@ -61,22 +85,68 @@ public class CsvToMaps extends KorypheFunction<String, Iterable<Map<String, Obje
             return null;
         }
 
-        Iterable<CSVRecord> csvRecords = null;
-        try (final CSVParser csvParser = new CSVParser(new StringReader(csv), getCsvFormat())) {
-            csvRecords = IterableUtil.limit(csvParser.getRecords(), firstRow, null, false);
-            return IterableUtil.map(csvRecords, (item) -> extractMap((CSVRecord) item));
-        } catch (final IOException e) {
-            throw new RuntimeException("Unable to parse csv", e);
-        } finally {
-            CloseableUtil.close(csvRecords);
+        return parse(() -> new StringReader(csv));
+    }
+
+    /**
+     * Parses a CSV from a {@link Reader}. The records are read as the result is
+     * iterated, so the CSV does not need to fit in memory. The result can only
+     * be iterated once, and the reader is closed when the iterator is exhausted
+     * or the result is closed.
+     *
+     * @param reader the reader to parse
+     * @return the maps, one for each record.
+     */
+    public Iterable<Map<String, Object>> parse(final Reader reader) {
+        if (isNull(reader)) {
+            return null;
+        }
+
+        final boolean[] isRead = {false};
+        return parse(() -> {
+            if (isRead[0]) {
+                throw new IllegalStateException("A CSV read from a Reader can only be iterated once");
+            }
+            isRead[0] = true;
+            return reader;
+        });
+    }
+
+    /**
+     * Parses a UTF-8 CSV from an {@link InputStream}.
+     *
+     * @param inputStream the input stream to parse
+     * @return the maps, one for each record.
+     * @see #parse(Reader)
+     */
+    public Iterable<Map<String, Object>> parse(final InputStream inputStream) {
+        return isNull(inputStream) ? null : parse(new InputStreamReader(inputStream, UTF_8));
+    }
+
+    private Iterable<Map<String, Object>> parse(final Supplier<Reader> readerSupplier) {
+        // All the rows share a layout, with a slot for each distinct column name
+        final TupleLayout<String> layout = new TupleLayout<>(new LinkedHashSet<>(header).toArray(new String[0]));
+        final int[] columnSlots = layout.slotsOf(header.toArray(new String[0]));
+        final CsvColumnType[] types = new CsvColumnType[header.size()];
+        for (int column = 0; column < types.length; column++) {
+            types[column] = columnTypes.getOrDefault(header.get(column), CsvColumnType.STRING);
         }
+
+        final Iterable<CSVRecord> csvRecords = IterableUtil.limit(
+                new CsvRecords(readerSupplier, getCsvFormat()), firstRow, null, false);
+        return IterableUtil.map(csvRecords, (item) -> extractMap((CSVRecord) item, layout, columnSlots, types));
     }
 
-    private Map<String, Object> extractMap(final CSVRecord csvRecord) {
-        final Iterator<String> columnNamesItr = header.iterator();
-        final Map<String, Object> map = new HashMap<>();
-        for (final String columnValue : csvRecord) {
-            map.put(columnNamesItr.next(), columnValue);
+    private Map<String, Object> extractMap(final Iterable<String> values, final TupleLayout<String> layout,
+                                           final int[] columnSlots, final CsvColumnType[] types) {
+        final LayoutMap<String> map = new LayoutMap<>(layout);
+        int column = 0;
+        for (final String columnValue : values) {
+            if (column == columnSlots.length) {
+                throw new NoSuchElementException("CSV has more columns than the " + columnSlots.length + " provided column names");
+            }
+            map.putSlot(columnSlots[column], types[column].parse(columnValue));
+            column++;
         }
         return map;
     }
@@ -165,6 +235,30 @@ public class CsvToMaps extends KorypheFunction<String, Iterable<Map<String, Obje
         return this;
     }
 
+    public Map<String, CsvColumnType> getColumnTypes() {
+        return columnTypes;
+    }
+
+    public void setColumnTypes(final Map<String, CsvColumnType> columnTypes) {
+        this.columnTypes.clear();
+        if (null != columnTypes) {
+            this.columnTypes.putAll(columnTypes);
+        }
+    }
+
+    /**
+     * Convert the values of a column to a type as they are parsed.
+     * Columns without a type are {@link CsvColumnType#STRING}s.
+     *
+     * @param column the column name
+     * @param type   the type of the column
+     * @return this function
+     */
+    public CsvToMaps columnType(final String column, final CsvColumnType type) {
+        this.columnTypes.put(column, type);
+        return this;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -182,6 +276,7 @@ public class CsvToMaps extends KorypheFunction<String, Iterable<Map<String, Obje
                 .append(quoteChar, that.quoteChar)
                 .append(firstRow, that.firstRow)
                 .append(delimiter, that.delimiter)
+                .append(columnTypes, that.columnTypes)
                 .isEquals();
     }
 
@@ -194,6 +289,83 @@ public class CsvToMaps extends KorypheFunction<String, Iterable<Map<String, Obje
                 .append(quoteChar)
                 .append(firstRow)
                 .append(delimiter)
+                .append(columnTypes)
                 .toHashCode();
     }
+
+    /**
+     * The records of a CSV, read by a new {@link CSVParser} for each iterator.
+     */
+    private static final class CsvRecords implements Closeable, Iterable<CSVRecord> {
+        private final Supplier<Reader> readerSupplier;
+        private final CSVFormat csvFormat;
+        private final Set<CSVParser> openParsers = new HashSet<>();
+
+        private CsvRecords(final Supplier<Reader> readerSupplier, final CSVFormat csvFormat) {
+            this.readerSupplier = readerSupplier;
+            this.csvFormat = csvFormat;
+        }
+
+        @Override
+        public Iterator<CSVRecord> iterator() {
+            final CSVParser csvParser;
+            try {
+                csvParser = new CSVParser(readerSupplier.get(), csvFormat);
+            } catch (final IOException e) {
+                throw new RuntimeException("Unable to parse csv", e);
+            }
+            openParsers.add(csvParser);
+            return new CsvRecordIterator(csvParser);
+        }
+
+        @Override
+        public void close() {
+            for (final CSVParser csvParser : new ArrayList<>(openParsers)) {
+                close(csvParser);
+            }
+        }
+
+        private void close(final CSVParser csvParser) {
+            openParsers.remove(csvParser);
+            CloseableUtil.close(csvParser);
+        }
+
+        private final class CsvRecordIterator implements Closeable, Iterator<CSVRecord> {
+            private final CSVParser csvParser;
+            private final Iterator<CSVRecord> records;
+
+            private CsvRecordIterator(final CSVParser csvParser) {
+                this.csvParser = csvParser;
+                this.records = csvParser.iterator();
+            }
+
+            @Override
+            public boolean hasNext() {
+                final boolean hasNext;
+                try {
+                    hasNext = records.hasNext();
+                } catch (final IllegalStateException | UncheckedIOException e) {
+                    close();
+                    throw new RuntimeException("Unable to parse csv", e);
+                }
+                if (!hasNext) {
+                    close();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public CSVRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return records.next();
+            }
+
+            @Override
+            public void close() {
+                CsvRecords.this.close(csvParser);
+            }
+        }
+    }
 }
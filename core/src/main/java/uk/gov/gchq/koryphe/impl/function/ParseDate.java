@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2020 Crown Copyright
+ * Copyright 2019-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,8 +26,6 @@ import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.function.KorypheFunction;
 import uk.gov.gchq.koryphe.util.DateUtil;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.TimeZone;
 
@@ -54,21 +52,10 @@ public class ParseDate extends KorypheFunction<String, Date> {
             return null;
         }
 
-        try {
-            final Date date;
-            if (isNull(format)) {
-                date = DateUtil.parse(dateString, timeZone, microseconds);
-            } else {
-                final SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
-                if (nonNull(timeZone)) {
-                    simpleDateFormat.setTimeZone(timeZone);
-                }
-                date = simpleDateFormat.parse(dateString);
-            }
-            return date;
-        } catch (final ParseException e) {
-            throw new IllegalArgumentException("Date string could not be parsed: " + dateString, e);
+        if (isNull(format)) {
+            return DateUtil.parse(dateString, timeZone, microseconds);
         }
+        return DateUtil.parse(dateString, format, timeZone);
     }
 
     public String getFormat() {
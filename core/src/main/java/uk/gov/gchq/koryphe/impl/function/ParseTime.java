@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2020 Crown Copyright
+ * Copyright 2019-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,8 +27,6 @@ import uk.gov.gchq.koryphe.function.KorypheFunction;
 import uk.gov.gchq.koryphe.util.DateUtil;
 import uk.gov.gchq.koryphe.util.TimeUnit;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.TimeZone;
 
 import static java.util.Objects.isNull;
@@ -55,21 +53,10 @@ public class ParseTime extends KorypheFunction<String, Long> {
             return null;
         }
 
-        try {
-            final Long time;
-            if (isNull(format)) {
-                time = DateUtil.parseTime(dateString, timeZone);
-            } else {
-                final SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
-                if (nonNull(timeZone)) {
-                    simpleDateFormat.setTimeZone(timeZone);
-                }
-                time = simpleDateFormat.parse(dateString).getTime();
-            }
-            return timeUnit.fromMilliSeconds(time);
-        } catch (final ParseException e) {
-            throw new IllegalArgumentException("Date string could not be parsed: " + dateString, e);
+        if (isNull(format)) {
+            return timeUnit.fromMilliSeconds(DateUtil.parseEpochMillis(dateString, timeZone, false));
         }
+        return timeUnit.fromMilliSeconds(DateUtil.parse(dateString, format, timeZone).getTime());
     }
 
     public String getFormat() {
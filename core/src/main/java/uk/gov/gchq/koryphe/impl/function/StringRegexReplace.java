@@ -1,5 +1,5 @@
 /*
- * Copyright 2020 Crown Copyright
+ * Copyright 2020-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,13 +22,15 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.function.KorypheFunction;
+import uk.gov.gchq.koryphe.util.RegexMatcher;
 
 /**
  * A {@code StringRegexReplace} is a {@link java.util.function.Function} which takes an input string and applies the
  * provided regular expression to find matching substrings to replace. It then replaces all of these matches with the
- * provided replacement string.
+ * provided replacement string. A regular expression that is a literal is found without the regex engine.
  *
  * @see StringReplace
+ * @see RegexMatcher
  */
 @Since("1.9.0")
 @Summary("Replace all portions of a string which match a regular expression.")
@@ -36,6 +38,7 @@ public class StringRegexReplace extends KorypheFunction<String, String> {
 
     private String regex;
     private String replacement;
+    private RegexMatcher matcher;
 
     public StringRegexReplace() {
     }
@@ -51,7 +54,10 @@ public class StringRegexReplace extends KorypheFunction<String, String> {
             return null;
         }
 
-        return input.replaceAll(regex, replacement);
+        if (null == matcher) {
+            matcher = new RegexMatcher(regex);
+        }
+        return matcher.replaceAll(input, replacement);
     }
 
     public String getRegex() {
@@ -60,6 +66,7 @@ public class StringRegexReplace extends KorypheFunction<String, String> {
 
     public void setRegex(final String regex) {
         this.regex = regex;
+        this.matcher = null;
     }
 
     public String getReplacement() {
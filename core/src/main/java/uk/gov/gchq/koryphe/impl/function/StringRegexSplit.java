@@ -1,5 +1,5 @@
 /*
- * Copyright 2020 Crown Copyright
+ * Copyright 2020-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,22 +22,23 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.function.KorypheFunction;
+import uk.gov.gchq.koryphe.util.RegexMatcher;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * A {@code StringRegexSplit} is a {@link java.util.function.Function} which splits an input string based on the
- * provided regular expression.
+ * provided regular expression. A regular expression that is a literal is split on without the regex engine.
  *
  * @see StringSplit
+ * @see RegexMatcher
  */
 @Since("1.9.0")
 @Summary("Split a string using the provided regular expression.")
 public class StringRegexSplit extends KorypheFunction<String, List<String>> {
 
     private String regex;
+    private RegexMatcher matcher;
 
     public StringRegexSplit() {
     }
@@ -52,8 +53,10 @@ public class StringRegexSplit extends KorypheFunction<String, List<String>> {
             return null;
         }
 
-        final Pattern pattern = Pattern.compile(regex);
-        return Arrays.asList(pattern.split(input));
+        if (null == matcher) {
+            matcher = new RegexMatcher(regex);
+        }
+        return matcher.split(input);
     }
 
     public String getRegex() {
@@ -62,6 +65,7 @@ public class StringRegexSplit extends KorypheFunction<String, List<String>> {
 
     public void setRegex(final String regex) {
         this.regex = regex;
+        this.matcher = null;
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.koryphe.impl.predicate;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -23,9 +24,17 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.BitmapUtil;
+import uk.gov.gchq.koryphe.util.ClockUtil;
+
+import java.time.Clock;
 
 /**
  * An <code>AgeOff</code> is a {@link java.util.function.Predicate} that ages off old data based on a provided age of time in milliseconds.
+ * <p>
+ * The current time is read from a {@link Clock}, which defaults to
+ * {@link ClockUtil#getClockDefault()}. A batch of values is tested against
+ * the same current time.
  */
 @Since("1.0.0")
 @Summary("Checks if a timestamp is recent based on a provided age off time")
@@ -39,6 +48,7 @@ public class AgeOff extends KoryphePredicate<Long> {
     public static final long AGE_OFF_TIME_DEFAULT = 365L * DAYS_TO_MILLISECONDS;
 
     private long ageOffTime = AGE_OFF_TIME_DEFAULT;
+    private Clock clock = ClockUtil.getClockDefault();
 
     // Default constructor for serialisation
     public AgeOff() {
@@ -50,7 +60,19 @@ public class AgeOff extends KoryphePredicate<Long> {
 
     @Override
     public boolean test(final Long input) {
-        return null != input && (System.currentTimeMillis() - input) < ageOffTime;
+        return null != input && (clock.millis() - input) < ageOffTime;
+    }
+
+    @Override
+    public void testBatch(final Object[] inputs, final int count, final long[] resultBitmap) {
+        final long now = clock.millis();
+        BitmapUtil.clear(resultBitmap, count);
+        for (int i = 0; i < count; i++) {
+            final Object input = inputs[i];
+            if (null != input && (now - (Long) input) < ageOffTime) {
+                BitmapUtil.set(resultBitmap, i);
+            }
+        }
     }
 
     public long getAgeOffTime() {
@@ -61,6 +83,15 @@ public class AgeOff extends KoryphePredicate<Long> {
         this.ageOffTime = ageOffTime;
     }
 
+    @JsonIgnore
+    public Clock getClock() {
+        return clock;
+    }
+
+    public void setClock(final Clock clock) {
+        this.clock = null != clock ? clock : ClockUtil.getClockDefault();
+    }
+
     public void setAgeOffDays(final int ageOfDays) {
         setAgeOffTime(DAYS_TO_MILLISECONDS * ageOfDays);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2025 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,6 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -28,6 +27,8 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.BloomFilter;
+import uk.gov.gchq.koryphe.util.CompactSets;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -40,13 +41,25 @@ import java.util.HashSet;
  * An optional nullOrEmptyAllowedValuesAccepted flag (defaults to true) can determine
  * whether the provided allowedValues collection can be null or empty. The return value
  * for any null or empty input will be equal to the value of the nullOrEmptyAllowedValuesAccepted flag.
+ *
+ * Allowed values given as an array, or deserialised from JSON, are stored in a
+ * read only set chosen by {@link CompactSets}, so large sets of numbers or
+ * strings use less memory. They are copied into a {@link HashSet} if
+ * {@link #getValues()} is called, so the values can be modified.
+ *
+ * An optional {@link BloomFilter} of the allowed values can be set. With allowed
+ * values, each input value is checked against the filter before the values.
+ * Without allowed values, the predicate is approximate: each input value is
+ * only checked against the filter, so values that are not allowed are accepted
+ * at the filter's false positive rate.
  */
 @Since("1.0.0")
 @Summary("Checks if a provided collection contains all the provided input values")
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public class AreIn extends KoryphePredicate<Collection<?>> {
-    private Collection<?> allowedValues;
+    private volatile Collection<?> allowedValues;
     private boolean nullOrEmptyAllowedValuesAccepted = true;
+    private BloomFilter bloomFilter;
 
     public AreIn() {
         // Required for serialisation
@@ -62,12 +75,32 @@ public class AreIn extends KoryphePredicate<Collection<?>> {
     }
 
     public AreIn(final Object... allowedValues) {
-        this.allowedValues = Sets.newHashSet(allowedValues);
+        this.allowedValues = CompactSets.of(Arrays.asList(allowedValues));
     }
 
+    /**
+     * Gets the allowed values, which can be modified to change the values
+     * this predicate accepts. If they are in a read only compact set, they
+     * are first copied into a {@link HashSet}, which this predicate then
+     * uses instead, so calling this gives up the memory saved by the compact
+     * set. Use {@link #getAllowedValuesArray()} to read the values without
+     * copying them.
+     *
+     * @return the allowed values
+     */
     @JsonIgnore
     public Collection<?> getValues() {
-        return allowedValues;
+        Collection<?> values = allowedValues;
+        if (CompactSets.isReadOnly(values)) {
+            synchronized (this) {
+                values = allowedValues;
+                if (CompactSets.isReadOnly(values)) {
+                    values = new HashSet<>(values);
+                    allowedValues = values;
+                }
+            }
+        }
+        return values;
     }
 
     public void setValues(final Collection<?> allowedValues) {
@@ -77,14 +110,15 @@ public class AreIn extends KoryphePredicate<Collection<?>> {
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
     @JsonProperty("values")
     public Object[] getAllowedValuesArray() {
-        return null != allowedValues ? allowedValues.toArray() : new Object[0];
+        final Collection<?> values = allowedValues;
+        return null != values ? values.toArray() : new Object[0];
     }
 
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
     @JsonProperty("values")
     public void setAllowedValues(final Object[] allowedValuesArray) {
         if (null != allowedValuesArray) {
-            allowedValues = new HashSet<>(Arrays.asList(allowedValuesArray));
+            allowedValues = CompactSets.of(Arrays.asList(allowedValuesArray));
         } else {
             allowedValues = new HashSet<>(0);
         }
@@ -100,13 +134,39 @@ public class AreIn extends KoryphePredicate<Collection<?>> {
         this.nullOrEmptyAllowedValuesAccepted = nullOrEmptyAllowedValuesAccepted;
     }
 
+    public BloomFilter getBloomFilter() {
+        return bloomFilter;
+    }
+
+    /**
+     * @param bloomFilter the filter of allowed values, which makes the predicate approximate
+     *                    if there are no allowed values, or null to remove the filter.
+     */
+    public void setBloomFilter(final BloomFilter bloomFilter) {
+        this.bloomFilter = bloomFilter;
+    }
+
     @Override
     public boolean test(final Collection<?> input) {
-        if (null == allowedValues || allowedValues.isEmpty()) {
+        final Collection<?> values = allowedValues;
+        final boolean noValues = null == values || values.isEmpty();
+        if (null != bloomFilter) {
+            if (null == input) {
+                return false;
+            }
+            for (final Object value : input) {
+                if (!bloomFilter.mightContain(value) || (!noValues && !values.contains(value))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (noValues) {
             return nullOrEmptyAllowedValuesAccepted;
         }
 
-        return (null != input && allowedValues.containsAll(input));
+        return (null != input && values.containsAll(input));
     }
 
     @Override
@@ -122,6 +182,7 @@ public class AreIn extends KoryphePredicate<Collection<?>> {
         final AreIn that = (AreIn) obj;
         return new EqualsBuilder()
                 .append(allowedValues, that.allowedValues)
+                .append(bloomFilter, that.bloomFilter)
                 .isEquals();
     }
 
@@ -129,6 +190,7 @@ public class AreIn extends KoryphePredicate<Collection<?>> {
     public int hashCode() {
         return new HashCodeBuilder(17, 37)
                 .append(allowedValues)
+                .append(bloomFilter)
                 .toHashCode();
     }
 
@@ -136,6 +198,7 @@ public class AreIn extends KoryphePredicate<Collection<?>> {
     public String toString() {
         return new ToStringBuilder(this)
                 .append("allowedValues", allowedValues)
+                .append("bloomFilter", bloomFilter)
                 .toString();
     }
 }
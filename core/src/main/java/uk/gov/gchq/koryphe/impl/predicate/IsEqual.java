@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.BitmapUtil;
 
 /**
  * An <code>IsEqual</code> is a {@link java.util.function.Predicate} that checks that the input is
@@ -62,6 +63,32 @@ public class IsEqual extends KoryphePredicate<Object> {
         return controlValue.equals(input);
     }
 
+    @Override
+    public void testBatch(final Object[] inputs, final int count, final long[] resultBitmap) {
+        BitmapUtil.clear(resultBitmap, count);
+        final Object control = controlValue;
+        if (null == control) {
+            for (int i = 0; i < count; i++) {
+                if (null == inputs[i]) {
+                    BitmapUtil.set(resultBitmap, i);
+                }
+            }
+        } else if (control instanceof Long) {
+            final long value = (Long) control;
+            for (int i = 0; i < count; i++) {
+                if (inputs[i] instanceof Long && value == (Long) inputs[i]) {
+                    BitmapUtil.set(resultBitmap, i);
+                }
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                if (control.equals(inputs[i])) {
+                    BitmapUtil.set(resultBitmap, i);
+                }
+            }
+        }
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2025 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,9 @@
 package uk.gov.gchq.koryphe.impl.predicate;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -27,6 +27,9 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.BitmapUtil;
+import uk.gov.gchq.koryphe.util.BloomFilter;
+import uk.gov.gchq.koryphe.util.CompactSets;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -36,42 +39,86 @@ import java.util.Set;
 /**
  * <code>IsIn</code> is a {@link java.util.function.Predicate} that checks that the input is
  * in a set of allowed values.
+ * <p>
+ * Allowed values given to the constructors, or deserialised from JSON, are
+ * stored in a read only set chosen by {@link CompactSets}, so large sets of
+ * numbers or strings use less memory. They are copied into a {@link HashSet}
+ * if {@link #getAllowedValues()} is called, so the values can be modified.
+ * <p>
+ * For very large sets, an optional {@link BloomFilter} of the allowed values
+ * can be set:
+ * <ul>
+ * <li>With allowed values, the filter is checked first, so inputs that are
+ * not allowed are usually rejected without looking them up in the set.</li>
+ * <li>Without allowed values, the predicate is approximate: it accepts every
+ * allowed value, and also other values at the filter's false positive rate.
+ * Only the filter is serialised, which is much smaller than the values.</li>
+ * </ul>
+ * For example, <code>isIn.setBloomFilter(BloomFilter.of(values, 0.001))</code>
+ * creates an approximate <code>IsIn</code> that accepts 0.1% of other values.
  */
 @Since("1.0.0")
 @Summary("Checks if an input is in a set of allowed values")
 public class IsIn extends KoryphePredicate<Object> {
-    private Set<Object> allowedValues;
+    private volatile Set<Object> allowedValues;
+    private BloomFilter bloomFilter;
 
     public IsIn() {
         // Required for serialisation
     }
 
     public IsIn(final Collection<Object> controlData) {
-        this.allowedValues = new HashSet<>(controlData);
+        this.allowedValues = CompactSets.of(controlData);
     }
 
     public IsIn(final Object... controlData) {
-        this.allowedValues = Sets.newHashSet(controlData);
+        this.allowedValues = CompactSets.of(Arrays.asList(controlData));
     }
 
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
     @JsonProperty("values")
     public Object[] getAllowedValuesArray() {
-        return null != allowedValues ? allowedValues.toArray() : new Object[0];
+        final Set<Object> values = allowedValues;
+        return null != values ? values.toArray() : new Object[0];
     }
 
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
     @JsonProperty("values")
     public void setAllowedValues(final Object[] allowedValuesArray) {
         if (null != allowedValuesArray) {
-            allowedValues = new HashSet<>(Arrays.asList(allowedValuesArray));
+            allowedValues = CompactSets.of(Arrays.asList(allowedValuesArray));
         } else {
             allowedValues = new HashSet<>(0);
         }
     }
 
+    /**
+     * Gets the allowed values, which can be modified to change the values
+     * this predicate accepts. If they are in a read only compact set, they
+     * are first copied into a {@link HashSet}, which this predicate then
+     * uses instead, so calling this gives up the memory saved by the compact
+     * set. Use {@link #getAllowedValuesArray()} to read the values without
+     * copying them.
+     *
+     * @return the allowed values
+     */
     @JsonIgnore
     public Set<Object> getAllowedValues() {
+        Set<Object> values = allowedValues;
+        if (CompactSets.isReadOnly(values)) {
+            synchronized (this) {
+                values = allowedValues;
+                if (CompactSets.isReadOnly(values)) {
+                    values = new HashSet<>(values);
+                    allowedValues = values;
+                }
+            }
+        }
+        return values;
+    }
+
+    // The allowed values as they are stored, without copying a read only set
+    Set<Object> allowedValues() {
         return allowedValues;
     }
 
@@ -79,9 +126,54 @@ public class IsIn extends KoryphePredicate<Object> {
         this.allowedValues = allowedValues;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public BloomFilter getBloomFilter() {
+        return bloomFilter;
+    }
+
+    /**
+     * @param bloomFilter the filter of allowed values, which makes the predicate approximate
+     *                    if there are no allowed values, or null to remove the filter.
+     */
+    public void setBloomFilter(final BloomFilter bloomFilter) {
+        this.bloomFilter = bloomFilter;
+    }
+
     @Override
     public boolean test(final Object input) {
-        return null != allowedValues && allowedValues.contains(input);
+        final Set<Object> values = allowedValues;
+        if (null != bloomFilter) {
+            if (!bloomFilter.mightContain(input)) {
+                return false;
+            }
+            if (null == values || values.isEmpty()) {
+                return true;
+            }
+        }
+        return null != values && values.contains(input);
+    }
+
+    @Override
+    public void testBatch(final Object[] inputs, final int count, final long[] resultBitmap) {
+        BitmapUtil.clear(resultBitmap, count);
+        if (null != bloomFilter) {
+            for (int i = 0; i < count; i++) {
+                if (test(inputs[i])) {
+                    BitmapUtil.set(resultBitmap, i);
+                }
+            }
+            return;
+        }
+
+        final Set<Object> values = allowedValues;
+        if (null == values || values.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            if (values.contains(inputs[i])) {
+                BitmapUtil.set(resultBitmap, i);
+            }
+        }
     }
 
     @Override
@@ -97,6 +189,7 @@ public class IsIn extends KoryphePredicate<Object> {
         final IsIn isIn = (IsIn) obj;
         return new EqualsBuilder()
                 .append(allowedValues, isIn.allowedValues)
+                .append(bloomFilter, isIn.bloomFilter)
                 .isEquals();
     }
 
@@ -104,6 +197,7 @@ public class IsIn extends KoryphePredicate<Object> {
     public int hashCode() {
         return new HashCodeBuilder(17, 37)
                 .append(allowedValues)
+                .append(bloomFilter)
                 .toHashCode();
     }
 
@@ -111,6 +205,7 @@ public class IsIn extends KoryphePredicate<Object> {
     public String toString() {
         return new ToStringBuilder(this)
                 .append("allowedValues", allowedValues)
+                .append("bloomFilter", bloomFilter)
                 .toString();
     }
 }
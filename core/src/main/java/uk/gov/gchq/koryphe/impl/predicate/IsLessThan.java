@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.ValidationResult;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
 import uk.gov.gchq.koryphe.signature.InputValidator;
+import uk.gov.gchq.koryphe.util.BitmapUtil;
 
 /**
  * An <code>IsLessThan</code> is a {@link java.util.function.Predicate} that checks that the input
@@ -76,12 +77,53 @@ public class IsLessThan extends KoryphePredicate<Comparable> implements InputVal
             return false;
         }
 
-        final int compareVal = controlValue.compareTo(input);
-        if (orEqualTo) {
-            return compareVal >= 0;
+        return passes(controlValue.compareTo(input));
+    }
+
+    @Override
+    public void testBatch(final Object[] inputs, final int count, final long[] resultBitmap) {
+        if (null == controlValue) {
+            super.testBatch(inputs, count, resultBitmap);
+            return;
         }
 
-        return compareVal > 0;
+        BitmapUtil.clear(resultBitmap, count);
+        // Long, Integer and Double are final, so only inputs of the same class are compared
+        if (controlValue instanceof Long) {
+            final long control = (Long) controlValue;
+            for (int i = 0; i < count; i++) {
+                if (inputs[i] instanceof Long && passes(Long.compare(control, (Long) inputs[i]))) {
+                    BitmapUtil.set(resultBitmap, i);
+                }
+            }
+        } else if (controlValue instanceof Integer) {
+            final int control = (Integer) controlValue;
+            for (int i = 0; i < count; i++) {
+                if (inputs[i] instanceof Integer && passes(Integer.compare(control, (Integer) inputs[i]))) {
+                    BitmapUtil.set(resultBitmap, i);
+                }
+            }
+        } else if (controlValue instanceof Double) {
+            final double control = (Double) controlValue;
+            for (int i = 0; i < count; i++) {
+                if (inputs[i] instanceof Double && passes(Double.compare(control, (Double) inputs[i]))) {
+                    BitmapUtil.set(resultBitmap, i);
+                }
+            }
+        } else {
+            final Comparable control = controlValue;
+            final Class<?> controlClass = control.getClass();
+            for (int i = 0; i < count; i++) {
+                final Object input = inputs[i];
+                if (null != input && controlClass.isAssignableFrom(input.getClass()) && passes(control.compareTo(input))) {
+                    BitmapUtil.set(resultBitmap, i);
+                }
+            }
+        }
+    }
+
+    private boolean passes(final int compareVal) {
+        return orEqualTo ? compareVal >= 0 : compareVal > 0;
     }
 
     @Override
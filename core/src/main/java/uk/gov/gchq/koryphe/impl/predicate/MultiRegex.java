@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,21 +25,44 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.RegexUtil;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * A {@link MultiRegex} is a {@link KoryphePredicate} that returns true
  * if an input string matches a provided multiregex pattern, false otherwise.
  * Multiple patterns are passed in as an array.
+ * <p>
+ * When the patterns are set they are compiled for matching many at once.
+ * Patterns that are literals are looked up in a hash set. The other patterns
+ * are combined into alternations, grouped by the first character of their
+ * literal prefix, so only the alternation for the first character of the
+ * input needs to be tried. Patterns that cannot be safely combined, such as
+ * those with flags or back references, are matched individually. The
+ * {@link Matcher}s are reused by each thread.
  */
 @Since("1.0.0")
 @Summary("Checks if a string matches at least one pattern")
 public class MultiRegex extends KoryphePredicate<String> {
+    private static final Pattern UNCOMBINABLE = Pattern.compile("\\\\(\\d|k<)|\\(\\?[a-zA-Z-]*x");
+
     private Pattern[] patterns;
+    private Set<String> literals;
+    private Map<Character, Integer> prefixed;
+    private int unprefixed;
+    private Pattern[] compiled;
+    private ThreadLocal<Matcher[]> matchers;
 
     public MultiRegex() {
         this((Pattern[]) null);
@@ -61,6 +84,7 @@ public class MultiRegex extends KoryphePredicate<String> {
         } else {
             this.patterns = new Pattern[0];
         }
+        compile();
     }
 
     @Override
@@ -68,14 +92,119 @@ public class MultiRegex extends KoryphePredicate<String> {
         if (null == input || input.getClass() != String.class) {
             return false;
         }
-        for (final Pattern pattern : patterns) {
-            if (pattern.matcher(input).matches()) {
+        if (literals.contains(input)) {
+            return true;
+        }
+
+        final Matcher[] threadMatchers = matchers.get();
+        if (!input.isEmpty()) {
+            final Integer index = prefixed.get(input.charAt(0));
+            if (null != index && matches(threadMatchers, index, input)) {
+                return true;
+            }
+        }
+
+        for (int i = unprefixed; i < compiled.length; i++) {
+            if (matches(threadMatchers, i, input)) {
                 return true;
             }
         }
         return false;
     }
 
+    private boolean matches(final Matcher[] threadMatchers, final int index, final String input) {
+        Matcher matcher = threadMatchers[index];
+        if (null == matcher) {
+            matcher = compiled[index].matcher(input);
+            threadMatchers[index] = matcher;
+        } else {
+            matcher.reset(input);
+        }
+        return matcher.matches();
+    }
+
+    // Compiled patterns are ordered with those grouped by prefix first,
+    // followed by those that must be tried for every input.
+    private void compile() {
+        literals = new HashSet<>();
+        final Map<Character, List<Pattern>> byPrefix = new LinkedHashMap<>();
+        final List<Pattern> withoutPrefix = new ArrayList<>();
+        final List<Pattern> uncombinable = new ArrayList<>();
+        for (final Pattern pattern : patterns) {
+            final String literal = RegexUtil.getLiteral(pattern);
+            if (null != literal) {
+                literals.add(literal);
+            } else if (!isCombinable(pattern)) {
+                uncombinable.add(pattern);
+            } else {
+                final String prefix = RegexUtil.getLiteralPrefix(pattern);
+                if (prefix.isEmpty()) {
+                    withoutPrefix.add(pattern);
+                } else {
+                    byPrefix.computeIfAbsent(prefix.charAt(0), k -> new ArrayList<>()).add(pattern);
+                }
+            }
+        }
+
+        final List<Pattern> compiledList = new ArrayList<>();
+        prefixed = new HashMap<>();
+        for (final Map.Entry<Character, List<Pattern>> entry : byPrefix.entrySet()) {
+            final Pattern combined = combine(entry.getValue());
+            if (null != combined) {
+                prefixed.put(entry.getKey(), compiledList.size());
+                compiledList.add(combined);
+            } else {
+                uncombinable.addAll(entry.getValue());
+            }
+        }
+
+        unprefixed = compiledList.size();
+        final Pattern combined = combine(withoutPrefix);
+        if (null != combined) {
+            compiledList.add(combined);
+        } else {
+            uncombinable.addAll(withoutPrefix);
+        }
+        compiledList.addAll(uncombinable);
+
+        compiled = compiledList.toArray(new Pattern[compiledList.size()]);
+        final int size = compiled.length;
+        matchers = ThreadLocal.withInitial(() -> new Matcher[size]);
+    }
+
+    private static boolean isCombinable(final Pattern pattern) {
+        final String regex = pattern.pattern();
+        final int quoteStart = regex.lastIndexOf("\\Q");
+        return 0 == pattern.flags()
+                && !UNCOMBINABLE.matcher(regex).find()
+                && (quoteStart < 0 || regex.indexOf("\\E", quoteStart) >= 0);
+    }
+
+    // Returns null if the patterns are not valid once combined, for example
+    // if two of them have a named group with the same name.
+    private static Pattern combine(final List<Pattern> patterns) {
+        if (patterns.isEmpty()) {
+            return null;
+        }
+        if (1 == patterns.size()) {
+            return patterns.get(0);
+        }
+
+        final StringBuilder regex = new StringBuilder();
+        for (final Pattern pattern : patterns) {
+            if (regex.length() > 0) {
+                regex.append('|');
+            }
+            regex.append("(?:").append(pattern.pattern()).append(')');
+        }
+
+        try {
+            return Pattern.compile(regex.toString());
+        } catch (final PatternSyntaxException e) {
+            return null;
+        }
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,9 +23,8 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.PredicateComposite;
-import uk.gov.gchq.koryphe.tuple.Tuple;
 import uk.gov.gchq.koryphe.tuple.predicate.IntegerTupleAdaptedPredicate;
-import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.util.BitmapUtil;
 
 import java.util.List;
 import java.util.function.Predicate;
@@ -53,25 +52,55 @@ public class Or<I> extends PredicateComposite<I, Predicate<I>> {
 
     @Override
     public boolean test(final I input) {
+        if (null == components) {
+            return false;
+        }
+
+        if (isAdaptive()) {
+            return testAdaptively(input, true);
+        }
+
         for (final Predicate<I> predicate : components) {
-            try {
-                if (predicate.test(input)) {
-                    return true;
-                }
-            } catch (final ClassCastException e) {
-                // This may occur if the predicate was given a tuple1 and the tuple1 was automatically unpacked.
-                if (predicate instanceof TupleAdaptedPredicate && !(input instanceof Tuple)) {
-                    if (((TupleAdaptedPredicate) predicate).getPredicate().test(input)) {
-                        return true;
-                    }
-                } else {
-                    throw e;
-                }
+            if (testComponent(predicate, input)) {
+                return true;
             }
         }
         return false;
     }
 
+    /**
+     * Apply the predicates in turn to a block of inputs. Each predicate is
+     * only applied to the inputs that failed all previous predicates, as with
+     * {@link #test(Object)}.
+     *
+     * @param inputs       the inputs to test
+     * @param count        the number of inputs to test
+     * @param resultBitmap the bitmap to record results in
+     */
+    @Override
+    public void testBatch(final Object[] inputs, final int count, final long[] resultBitmap) {
+        BitmapUtil.clear(resultBitmap, count);
+        if (null == components || components.isEmpty()) {
+            return;
+        }
+
+        final Object[] selected = new Object[count];
+        final int[] indexes = new int[count];
+        final long[] passed = new long[BitmapUtil.words(count)];
+        for (final Predicate<I> predicate : getOrderedComponents()) {
+            final int selectedCount = select(inputs, count, resultBitmap, false, selected, indexes);
+            if (0 == selectedCount) {
+                return;
+            }
+            testComponentBatch(predicate, selected, selectedCount, passed);
+            for (int i = 0; i < selectedCount; i++) {
+                if (BitmapUtil.isSet(passed, i)) {
+                    BitmapUtil.set(resultBitmap, indexes[i]);
+                }
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
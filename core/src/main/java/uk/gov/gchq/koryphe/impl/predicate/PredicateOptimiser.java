@@ -0,0 +1,469 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.impl.predicate;
+
+import uk.gov.gchq.koryphe.impl.predicate.range.InRange;
+import uk.gov.gchq.koryphe.predicate.PredicateComposite;
+import uk.gov.gchq.koryphe.tuple.TupleInputAdapter;
+import uk.gov.gchq.koryphe.tuple.predicate.IntegerTupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicateComposite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Rewrites a tree of predicates, such as one that has been deserialised from
+ * JSON, into an equivalent tree that is cheaper to test.
+ * <ul>
+ * <li>Nested {@link And}s and {@link Or}s are flattened, and an {@link And}
+ * or {@link Or} with a single component is replaced by that component.</li>
+ * <li>Double negation is removed, so <code>Not(Not(p))</code> becomes <code>p</code>.</li>
+ * <li>{@link IsEqual} and {@link IsIn} alternatives of an {@link Or} are merged
+ * into a single {@link IsIn}.</li>
+ * <li>{@link InRange}, {@link IsMoreThan} and {@link IsLessThan} components of
+ * an {@link And} with bounds of the same class are merged into the tightest
+ * bounds. They are merged into a single {@link InRange} when the first of
+ * them is an {@link InRange}, as only then do inputs of other classes behave
+ * the same.</li>
+ * <li>Consecutive {@link TupleAdaptedPredicate}s of an {@link And} or
+ * {@link Or} that select the same fields are hoisted into a single
+ * {@link TupleAdaptedPredicate}, so the fields are selected once.</li>
+ * </ul>
+ * Only the exact classes above are rewritten, as subclasses may test
+ * differently, and ranges are only merged for bounds of final classes whose
+ * ordering is known, such as {@link Long} and {@link String}. The predicates
+ * are assumed to be free of side effects, and the rewritten tree returns the
+ * same result for any input the original tree does not throw an exception for.
+ * The original tree is not modified, but unchanged predicates are shared
+ * between the two trees.
+ */
+public final class PredicateOptimiser {
+    private static final Set<Class<?>> RANGE_TYPES = new HashSet<>(Arrays.asList(
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            Character.class, String.class));
+
+    private PredicateOptimiser() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * Rewrite a predicate into an equivalent predicate that is cheaper to test.
+     *
+     * @param predicate the predicate to rewrite
+     * @param <I>       the input type
+     * @return the rewritten predicate
+     */
+    public static <I> Predicate<I> optimise(final Predicate<I> predicate) {
+        if (null == predicate) {
+            return null;
+        }
+
+        final Class<?> type = predicate.getClass();
+        if (And.class == type || PredicateComposite.class == type) {
+            return optimiseComposite((PredicateComposite) predicate, true);
+        }
+        if (Or.class == type) {
+            return optimiseComposite((Or) predicate, false);
+        }
+        if (TupleAdaptedPredicateComposite.class == type) {
+            return optimiseTupleAdaptedComposite((TupleAdaptedPredicateComposite) predicate);
+        }
+        if (Not.class == type) {
+            return optimiseNot((Not) predicate);
+        }
+        if (If.class == type) {
+            return optimiseIf((If) predicate);
+        }
+        if (isPlainTupleAdapted(predicate)) {
+            final TupleAdaptedPredicate tupleAdapted = (TupleAdaptedPredicate) predicate;
+            return copyTupleAdapted(tupleAdapted, optimise(tupleAdapted.getPredicate()));
+        }
+        return predicate;
+    }
+
+    private static Predicate optimiseComposite(final PredicateComposite composite, final boolean conjunction) {
+        final List<Predicate> original = composite.getComponents();
+        if (null == original) {
+            return composite;
+        }
+
+        final List<Predicate> components = new ArrayList<>(original.size());
+        for (final Predicate component : original) {
+            final Predicate optimised = optimise(component);
+            if (isComposite(optimised, conjunction) && null != ((PredicateComposite) optimised).getComponents()) {
+                components.addAll(((PredicateComposite) optimised).getComponents());
+            } else {
+                components.add(optimised);
+            }
+        }
+
+        List<Predicate> rewritten = hoistSelections(components, conjunction);
+        rewritten = conjunction ? mergeRanges(rewritten) : mergeEquals(rewritten);
+
+        // A composite unpacks a tuple adapted component when given a non tuple
+        // input, so such a component cannot be used on its own.
+        if (1 == rewritten.size() && !(rewritten.get(0) instanceof TupleAdaptedPredicate)) {
+            return rewritten.get(0);
+        }
+
+        final PredicateComposite result = conjunction ? new And(rewritten) : new Or(rewritten);
+        result.setAdaptive(composite.isAdaptive());
+        return result;
+    }
+
+    private static Predicate optimiseTupleAdaptedComposite(final TupleAdaptedPredicateComposite composite) {
+        final List<TupleAdaptedPredicate> original = composite.getComponents();
+        if (null == original) {
+            return composite;
+        }
+
+        final List<Predicate> components = new ArrayList<>(original.size());
+        for (final TupleAdaptedPredicate component : original) {
+            components.add(optimise(component));
+        }
+
+        final TupleAdaptedPredicateComposite result = new TupleAdaptedPredicateComposite();
+        result.getComponents().addAll(hoistSelections(components, true));
+        result.setAdaptive(composite.isAdaptive());
+        return result;
+    }
+
+    private static Predicate optimiseNot(final Not not) {
+        if (null == not.getPredicate()) {
+            return not;
+        }
+
+        final Predicate optimised = optimise(not.getPredicate());
+        if (Not.class == optimised.getClass() && null != ((Not) optimised).getPredicate()) {
+            return ((Not) optimised).getPredicate();
+        }
+        return new Not<>(optimised);
+    }
+
+    private static Predicate optimiseIf(final If predicate) {
+        final If result = new If<>();
+        if (null != predicate.getCondition()) {
+            result.setCondition(predicate.getCondition());
+        }
+        result.setPredicate(optimise(predicate.getPredicate()));
+        result.setThen(optimise(predicate.getThen()));
+        result.setOtherwise(optimise(predicate.getOtherwise()));
+        return result;
+    }
+
+    // Replace each run of tuple adapted predicates that select the same fields
+    // with one tuple adapted predicate, wrapping an And or Or of their predicates.
+    private static List<Predicate> hoistSelections(final List<Predicate> components, final boolean conjunction) {
+        final List<Predicate> hoisted = new ArrayList<>(components.size());
+        int start = 0;
+        while (start < components.size()) {
+            int end = start + 1;
+            while (end < components.size() && isSameSelection(components.get(start), components.get(end))) {
+                end++;
+            }
+
+            if (end - start > 1) {
+                final List<Predicate> predicates = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    predicates.add(((TupleAdaptedPredicate) components.get(i)).getPredicate());
+                }
+                final PredicateComposite inner = conjunction ? new And(predicates) : new Or(predicates);
+                final TupleAdaptedPredicate first = (TupleAdaptedPredicate) components.get(start);
+                hoisted.add(copyTupleAdapted(first, optimise(inner)));
+            } else {
+                hoisted.add(components.get(start));
+            }
+            start = end;
+        }
+        return hoisted;
+    }
+
+    private static boolean isSameSelection(final Predicate first, final Predicate second) {
+        if (!isPlainTupleAdapted(first) || !isPlainTupleAdapted(second)) {
+            return false;
+        }
+
+        final TupleAdaptedPredicate firstTupleAdapted = (TupleAdaptedPredicate) first;
+        final TupleAdaptedPredicate secondTupleAdapted = (TupleAdaptedPredicate) second;
+        return first.getClass() == second.getClass()
+                && null != firstTupleAdapted.getPredicate()
+                && null != secondTupleAdapted.getPredicate()
+                && Arrays.equals(firstTupleAdapted.getSelection(), secondTupleAdapted.getSelection())
+                && firstTupleAdapted.getInputAdapter().getLayout() == secondTupleAdapted.getInputAdapter().getLayout();
+    }
+
+    // Merge the IsEqual and IsIn alternatives into one IsIn, in place of the first of them.
+    private static List<Predicate> mergeEquals(final List<Predicate> components) {
+        final Set<Object> values = new LinkedHashSet<>();
+        int first = -1;
+        int count = 0;
+        for (int i = 0; i < components.size(); i++) {
+            final Predicate component = components.get(i);
+            if (!isEqualOrIn(component)) {
+                continue;
+            }
+
+            if (component instanceof IsEqual) {
+                values.add(((IsEqual) component).getControlValue());
+            } else {
+                values.addAll(((IsIn) component).allowedValues());
+            }
+
+            if (-1 == first) {
+                first = i;
+            }
+            count++;
+        }
+
+        if (count < 2) {
+            return components;
+        }
+
+        final List<Predicate> merged = new ArrayList<>(components.size() - count + 1);
+        for (int i = 0; i < components.size(); i++) {
+            final Predicate component = components.get(i);
+            if (i == first) {
+                merged.add(new IsIn(values));
+            } else if (!isEqualOrIn(component)) {
+                merged.add(component);
+            }
+        }
+        return merged;
+    }
+
+    // An IsIn with a Bloom filter may be approximate, so it cannot be merged
+    private static boolean isEqualOrIn(final Predicate predicate) {
+        return null != predicate && (IsEqual.class == predicate.getClass()
+                || (IsIn.class == predicate.getClass() && null != ((IsIn) predicate).allowedValues()
+                && null == ((IsIn) predicate).getBloomFilter()));
+    }
+
+    // Merge the range checks on bounds of each class into the tightest bounds.
+    private static List<Predicate> mergeRanges(final List<Predicate> components) {
+        final Map<Class<?>, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < components.size(); i++) {
+            final Class<?> boundClass = getBoundClass(components.get(i));
+            if (null != boundClass) {
+                groups.computeIfAbsent(boundClass, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        final Predicate[] merged = components.toArray(new Predicate[components.size()]);
+        for (final List<Integer> group : groups.values()) {
+            if (group.size() > 1) {
+                if (InRange.class == merged[group.get(0)].getClass()) {
+                    mergeIntoRange(merged, group);
+                } else {
+                    mergeBounds(merged, group);
+                }
+            }
+        }
+
+        final List<Predicate> result = new ArrayList<>(merged.length);
+        for (final Predicate predicate : merged) {
+            if (null != predicate) {
+                result.add(predicate);
+            }
+        }
+        return result;
+    }
+
+    private static void mergeIntoRange(final Predicate[] components, final List<Integer> group) {
+        Bound lower = null;
+        Bound upper = null;
+        for (final int index : group) {
+            lower = Bound.tighter(lower, getLowerBound(components[index]), true);
+            upper = Bound.tighter(upper, getUpperBound(components[index]), false);
+        }
+
+        // An empty range would match inputs outside of it, as an inverted range does
+        if (!isProperRange(lower, upper)) {
+            return;
+        }
+
+        final InRange.Builder builder = new InRange.Builder();
+        if (null != lower) {
+            builder.start(lower.value).startInclusive(lower.inclusive);
+        }
+        if (null != upper) {
+            builder.end(upper.value).endInclusive(upper.inclusive);
+        }
+        components[group.get(0)] = builder.build();
+        for (int i = 1; i < group.size(); i++) {
+            components[group.get(i)] = null;
+        }
+    }
+
+    private static void mergeBounds(final Predicate[] components, final List<Integer> group) {
+        int lowerIndex = -1;
+        int upperIndex = -1;
+        Bound lower = null;
+        Bound upper = null;
+        for (final int index : group) {
+            final Class<?> type = components[index].getClass();
+            if (IsMoreThan.class == type) {
+                lower = Bound.tighter(lower, getLowerBound(components[index]), true);
+                lowerIndex = mergeIndex(components, lowerIndex, index);
+            } else if (IsLessThan.class == type) {
+                upper = Bound.tighter(upper, getUpperBound(components[index]), false);
+                upperIndex = mergeIndex(components, upperIndex, index);
+            }
+        }
+
+        if (null != lower) {
+            components[lowerIndex] = new IsMoreThan(lower.value, lower.inclusive);
+        }
+        if (null != upper) {
+            components[upperIndex] = new IsLessThan(upper.value, upper.inclusive);
+        }
+    }
+
+    // Keep the first index of the merged bound, removing the others.
+    private static int mergeIndex(final Predicate[] components, final int first, final int index) {
+        if (-1 == first) {
+            return index;
+        }
+        components[index] = null;
+        return first;
+    }
+
+    private static Class<?> getBoundClass(final Predicate predicate) {
+        if (null == predicate) {
+            return null;
+        }
+
+        final Class<?> type = predicate.getClass();
+        if (IsMoreThan.class == type) {
+            return getRangeType(((IsMoreThan) predicate).getControlValue());
+        }
+        if (IsLessThan.class == type) {
+            return getRangeType(((IsLessThan) predicate).getControlValue());
+        }
+        if (InRange.class == type) {
+            final Bound lower = getLowerBound(predicate);
+            final Bound upper = getUpperBound(predicate);
+            if (!isProperRange(lower, upper)) {
+                return null;
+            }
+            final Class<?> lowerType = null == lower ? null : getRangeType(lower.value);
+            final Class<?> upperType = null == upper ? null : getRangeType(upper.value);
+            if (null != lower && null != upper) {
+                return lowerType == upperType ? lowerType : null;
+            }
+            return null != lowerType ? lowerType : upperType;
+        }
+        return null;
+    }
+
+    private static Class<?> getRangeType(final Object value) {
+        return null != value && RANGE_TYPES.contains(value.getClass()) ? value.getClass() : null;
+    }
+
+    private static Bound getLowerBound(final Predicate predicate) {
+        if (predicate instanceof IsMoreThan) {
+            final IsMoreThan isMoreThan = (IsMoreThan) predicate;
+            return new Bound(isMoreThan.getControlValue(), isMoreThan.getOrEqualTo());
+        }
+        if (predicate instanceof InRange && null != ((InRange) predicate).getStart()) {
+            final InRange inRange = (InRange) predicate;
+            return new Bound(inRange.getStart(), !Boolean.FALSE.equals(inRange.isStartInclusive()));
+        }
+        return null;
+    }
+
+    private static Bound getUpperBound(final Predicate predicate) {
+        if (predicate instanceof IsLessThan) {
+            final IsLessThan isLessThan = (IsLessThan) predicate;
+            return new Bound(isLessThan.getControlValue(), isLessThan.getOrEqualTo());
+        }
+        if (predicate instanceof InRange && null != ((InRange) predicate).getEnd()) {
+            final InRange inRange = (InRange) predicate;
+            return new Bound(inRange.getEnd(), !Boolean.FALSE.equals(inRange.isEndInclusive()));
+        }
+        return null;
+    }
+
+    // A range with at least one bound that matches exactly the values between its bounds
+    private static boolean isProperRange(final Bound lower, final Bound upper) {
+        if (null == lower || null == upper) {
+            return null != lower || null != upper;
+        }
+
+        final int compare = lower.value.compareTo(upper.value);
+        return compare < 0 || (0 == compare && lower.inclusive && upper.inclusive);
+    }
+
+    private static boolean isComposite(final Predicate predicate, final boolean conjunction) {
+        if (null == predicate) {
+            return false;
+        }
+
+        return conjunction
+                ? And.class == predicate.getClass() || PredicateComposite.class == predicate.getClass()
+                : Or.class == predicate.getClass();
+    }
+
+    private static boolean isPlainTupleAdapted(final Predicate predicate) {
+        return null != predicate
+                && (TupleAdaptedPredicate.class == predicate.getClass() || IntegerTupleAdaptedPredicate.class == predicate.getClass())
+                && TupleInputAdapter.class == ((TupleAdaptedPredicate) predicate).getInputAdapter().getClass();
+    }
+
+    private static TupleAdaptedPredicate copyTupleAdapted(final TupleAdaptedPredicate template, final Predicate predicate) {
+        final TupleAdaptedPredicate copy = template instanceof IntegerTupleAdaptedPredicate
+                ? new IntegerTupleAdaptedPredicate()
+                : new TupleAdaptedPredicate();
+        copy.setPredicate(predicate);
+        copy.setSelection(template.getSelection());
+        copy.bind(template.getInputAdapter().getLayout());
+        return copy;
+    }
+
+    private static final class Bound {
+        private final Comparable value;
+        private final boolean inclusive;
+
+        private Bound(final Comparable value, final boolean inclusive) {
+            this.value = value;
+            this.inclusive = inclusive;
+        }
+
+        // The bound that excludes more values, with exclusive bounds winning ties
+        private static Bound tighter(final Bound current, final Bound candidate, final boolean lower) {
+            if (null == current) {
+                return candidate;
+            }
+            if (null == candidate) {
+                return current;
+            }
+
+            final int compare = candidate.value.compareTo(current.value);
+            if (0 == compare) {
+                return candidate.inclusive ? current : candidate;
+            }
+            return (compare > 0) == lower ? candidate : current;
+        }
+    }
+}
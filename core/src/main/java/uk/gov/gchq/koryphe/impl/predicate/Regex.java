@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,17 +25,23 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.RegexMatcher;
 
 import java.util.regex.Pattern;
 
 /**
  * A {@link Regex} is a {@link KoryphePredicate} that returns true if an input
  * string matches a supplied regex pattern, false otherwise.
+ * Patterns that are literals, or literals with a leading or trailing
+ * <code>.*</code>, are matched without the regex engine.
+ *
+ * @see RegexMatcher
  */
 @Since("1.0.0")
 @Summary("Checks if a string matches a pattern")
 public class Regex extends KoryphePredicate<String> {
     private Pattern controlValue;
+    private RegexMatcher matcher;
 
     public Regex() {
         // Required for serialisation
@@ -46,7 +52,7 @@ public class Regex extends KoryphePredicate<String> {
     }
 
     public Regex(final Pattern controlValue) {
-        this.controlValue = controlValue;
+        setControlValue(controlValue);
     }
 
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
@@ -57,12 +63,13 @@ public class Regex extends KoryphePredicate<String> {
 
     public void setControlValue(final Pattern controlValue) {
         this.controlValue = controlValue;
+        this.matcher = null != controlValue ? new RegexMatcher(controlValue) : null;
     }
 
     @Override
     public boolean test(final String input) {
         return !(null == input || input.getClass() != String.class)
-                && controlValue.matcher(input).matches();
+                && matcher.matches(input);
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package uk.gov.gchq.koryphe.impl.predicate.range;
 
 import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonSetter;
@@ -26,8 +27,11 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.BitmapUtil;
+import uk.gov.gchq.koryphe.util.RangeCheck;
 import uk.gov.gchq.koryphe.util.TimeUnit;
 
+import java.time.Clock;
 import java.util.TimeZone;
 
 /**
@@ -82,7 +86,26 @@ public abstract class AbstractInTimeRange<T extends Comparable<T>> extends Koryp
 
     @Override
     public boolean test(final T value) {
-        return predicate.test(value, value);
+        return predicate.getRangeCheck().test(value);
+    }
+
+    /**
+     * Test a block of values with the same semantics as {@link #test(Comparable)},
+     * against the range for the same current time.
+     *
+     * @param inputs       the inputs to test
+     * @param count        the number of inputs to test
+     * @param resultBitmap the bitmap to record results in
+     */
+    @Override
+    public void testBatch(final Object[] inputs, final int count, final long[] resultBitmap) {
+        final RangeCheck<T> check = predicate.getRangeCheck();
+        BitmapUtil.clear(resultBitmap, count);
+        for (int i = 0; i < count; i++) {
+            if (check.test((T) inputs[i])) {
+                BitmapUtil.set(resultBitmap, i);
+            }
+        }
     }
 
     public String getStart() {
@@ -131,6 +154,11 @@ public abstract class AbstractInTimeRange<T extends Comparable<T>> extends Koryp
         predicate.setTimeZone(timeZone);
     }
 
+    @JsonIgnore
+    public Clock getClock() {
+        return predicate.getClock();
+    }
+
     protected AbstractInTimeRangeDual<T> getPredicate() {
         return predicate;
     }
@@ -225,6 +253,12 @@ public abstract class AbstractInTimeRange<T extends Comparable<T>> extends Koryp
             return getSelf();
         }
 
+        @JsonIgnore
+        public B clock(final Clock clock) {
+            predicate.getPredicate().setClock(clock);
+            return getSelf();
+        }
+
 
         public R build() {
             predicate.getPredicate().initialise();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package uk.gov.gchq.koryphe.impl.predicate.range;
 
 import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonSetter;
@@ -26,10 +27,12 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import uk.gov.gchq.koryphe.tuple.predicate.KoryphePredicate2;
+import uk.gov.gchq.koryphe.util.ClockUtil;
 import uk.gov.gchq.koryphe.util.DateUtil;
-import uk.gov.gchq.koryphe.util.RangeUtil;
+import uk.gov.gchq.koryphe.util.RangeCheck;
 import uk.gov.gchq.koryphe.util.TimeUnit;
 
+import java.time.Clock;
 import java.util.TimeZone;
 import java.util.function.Function;
 
@@ -65,6 +68,9 @@ import java.util.function.Function;
  * At the point when test is called on the class the
  * current system time is used to calculate the start and end values based on:
  * System.currentTimeMillis() + offset.
+ * The current time is read from a {@link Clock}, which defaults to
+ * {@link ClockUtil#getClockDefault()}, and the start and end values are only
+ * recalculated when the time changes.
  * </p>
  * <p>
  * By default checks are carried out assuming the data will be in milliseconds.
@@ -105,6 +111,12 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
 
     private TimeZone timeZone;
 
+    // The range check, if the range has no offsets from the current time
+    private RangeCheck<T> rangeCheck;
+    // The range check for the last current time, if the range has offsets from it
+    private OffsetRangeCheck<T> offsetRangeCheck;
+    private Clock clock = ClockUtil.getClockDefault();
+
     private final Function<Long, T> toT;
 
     protected AbstractInTimeRangeDual() {
@@ -123,15 +135,47 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
         this.endTime = timeUnit.fromMilliSeconds(DateUtil.parseTime(end, timeZone));
         this.startOffsetTime = timeUnit.fromMilliSeconds(TimeUnit.asMilliSeconds(offsetUnit, startOffset));
         this.endOffsetTime = timeUnit.fromMilliSeconds(TimeUnit.asMilliSeconds(offsetUnit, endOffset));
+        this.rangeCheck = isOffsetFromNow() ? null : createRangeCheck(0L);
+        this.offsetRangeCheck = null;
     }
 
     @Override
     public boolean test(final Comparable<T> startValue, final Comparable<T> endValue) {
-        return RangeUtil.inRange(
-                startValue,
-                endValue,
-                getValueFromOffset(startTime, startOffsetTime),
-                getValueFromOffset(endTime, endOffsetTime),
+        return getRangeCheck().test(startValue, endValue);
+    }
+
+    /**
+     * Get the range check for the current time. If the range has no offsets
+     * from the current time, the range check created by {@link #initialise()}
+     * is reused. Otherwise the range check is reused until the time changes.
+     *
+     * @return the range check.
+     */
+    protected RangeCheck<T> getRangeCheck() {
+        if (null != rangeCheck) {
+            return rangeCheck;
+        }
+        if (!isOffsetFromNow()) {
+            return createRangeCheck(0L);
+        }
+
+        final long now = timeUnit.fromMilliSeconds(clock.millis());
+        OffsetRangeCheck<T> check = offsetRangeCheck;
+        if (null == check || now != check.now) {
+            check = new OffsetRangeCheck<>(now, createRangeCheck(now));
+            offsetRangeCheck = check;
+        }
+        return check.rangeCheck;
+    }
+
+    private boolean isOffsetFromNow() {
+        return (null != startOffsetTime && null == startTime) || (null != endOffsetTime && null == endTime);
+    }
+
+    private RangeCheck<T> createRangeCheck(final long now) {
+        return RangeCheck.of(
+                getValueFromOffset(startTime, startOffsetTime, now),
+                getValueFromOffset(endTime, endOffsetTime, now),
                 startInclusive,
                 endInclusive,
                 startFullyContained,
@@ -139,12 +183,12 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
         );
     }
 
-    private T getValueFromOffset(final Long value, final Long offset) {
+    private T getValueFromOffset(final Long value, final Long offset, final long now) {
         if (null == offset) {
             return null != value ? toT.apply(value) : null;
         }
 
-        final long base = null != value ? value : timeUnit.fromMilliSeconds(System.currentTimeMillis());
+        final long base = null != value ? value : now;
         return toT.apply(base + offset);
     }
 
@@ -262,10 +306,14 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
 
     protected void setStartInclusive(final Boolean startInclusive) {
         this.startInclusive = startInclusive;
+        this.rangeCheck = null;
+        this.offsetRangeCheck = null;
     }
 
     protected void setStartFullyContained(final Boolean startFullyContained) {
         this.startFullyContained = startFullyContained;
+        this.rangeCheck = null;
+        this.offsetRangeCheck = null;
     }
 
     protected void setEnd(final String end) {
@@ -278,10 +326,14 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
 
     protected void setEndInclusive(final Boolean endInclusive) {
         this.endInclusive = endInclusive;
+        this.rangeCheck = null;
+        this.offsetRangeCheck = null;
     }
 
     protected void setEndFullyContained(final Boolean endFullyContained) {
         this.endFullyContained = endFullyContained;
+        this.rangeCheck = null;
+        this.offsetRangeCheck = null;
     }
 
     protected void setOffsetUnit(final TimeUnit offsetUnit) {
@@ -301,6 +353,29 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
         this.timeZone = timeZone;
     }
 
+    @JsonIgnore
+    public Clock getClock() {
+        return clock;
+    }
+
+    protected void setClock(final Clock clock) {
+        this.clock = null != clock ? clock : ClockUtil.getClockDefault();
+        this.offsetRangeCheck = null;
+    }
+
+    /**
+     * A range check for a current time.
+     */
+    private static final class OffsetRangeCheck<T extends Comparable<T>> {
+        private final long now;
+        private final RangeCheck<T> rangeCheck;
+
+        private OffsetRangeCheck(final long now, final RangeCheck<T> rangeCheck) {
+            this.now = now;
+            this.rangeCheck = rangeCheck;
+        }
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public abstract static class BaseBuilder<
             B extends BaseBuilder<B, R, T>,
@@ -373,6 +448,12 @@ public abstract class AbstractInTimeRangeDual<T extends Comparable<T>> extends K
             return getSelf();
         }
 
+        @JsonIgnore
+        public B clock(final Clock clock) {
+            getPredicate().setClock(clock);
+            return getSelf();
+        }
+
         public R build() {
             predicate.initialise();
             return (R) predicate;
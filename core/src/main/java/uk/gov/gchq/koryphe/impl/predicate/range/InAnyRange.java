@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.impl.predicate.range;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import uk.gov.gchq.koryphe.Since;
+import uk.gov.gchq.koryphe.Summary;
+import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * <p>
+ * An <code>InAnyRange</code> is a {@link java.util.function.Predicate}
+ * that tests if a {@link Comparable} is within any of a list of {@link InRange}s.
+ * It gives the same result as an {@link uk.gov.gchq.koryphe.impl.predicate.Or}
+ * of the ranges, including their inclusive and exclusive bounds.
+ * </p>
+ * <p>
+ * The ranges are merged into a sorted array of disjoint intervals when they
+ * are set, so each test is a binary search taking O(log N) comparisons, rather
+ * than N. {@link Long} and {@link Date} values are compared without boxing.
+ * All the bounds must be instances of the same class.
+ * </p>
+ * <p>
+ * If the test value is null then the predicate will return false.
+ * </p>
+ */
+@Since("2.6.1")
+@Summary("Checks if a comparable is within any of a list of ranges")
+public class InAnyRange<T extends Comparable<T>> extends KoryphePredicate<T> {
+    private static final Comparator<Interval> BY_START = (first, second) -> {
+        if (null == first.start || null == second.start) {
+            return null == first.start ? (null == second.start ? 0 : -1) : 1;
+        }
+        final int compare = first.start.compareTo(second.start);
+        if (0 != compare) {
+            return compare;
+        }
+        return Boolean.compare(second.startInclusive, first.startInclusive);
+    };
+
+    private List<InRange<T>> ranges = Collections.emptyList();
+
+    // The disjoint intervals, sorted by start. A null bound is unbounded.
+    private Class<?> boundClass;
+    private Comparable[] starts;
+    private Comparable[] ends;
+    private boolean[] startInclusive;
+    private boolean[] endInclusive;
+
+    // The bounds as longs, if they are Longs or Dates
+    private long[] startLongs;
+    private long[] endLongs;
+
+    public InAnyRange() {
+        setRanges(Collections.emptyList());
+    }
+
+    public InAnyRange(final List<InRange<T>> ranges) {
+        setRanges(ranges);
+    }
+
+    @SafeVarargs
+    public InAnyRange(final InRange<T>... ranges) {
+        this(Arrays.asList(ranges));
+    }
+
+    public List<InRange<T>> getRanges() {
+        return ranges;
+    }
+
+    public void setRanges(final List<InRange<T>> ranges) {
+        this.ranges = null != ranges ? new ArrayList<>(ranges) : Collections.emptyList();
+        index(merge(normalise(this.ranges)));
+    }
+
+    @Override
+    public boolean test(final T value) {
+        if (null == value || 0 == starts.length) {
+            return false;
+        }
+
+        if (null != startLongs && value.getClass() == boundClass) {
+            return testLong(toLong(value));
+        }
+
+        // Find the last interval that starts at or before the value
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (null == starts[mid] || value.compareTo((T) starts[mid]) >= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        final int index = high;
+        if (index < 0) {
+            return false;
+        }
+        if (!startInclusive[index] && null != starts[index] && 0 == value.compareTo((T) starts[index])) {
+            return false;
+        }
+        if (null == ends[index]) {
+            return true;
+        }
+        final int endCompare = value.compareTo((T) ends[index]);
+        return endInclusive[index] ? endCompare <= 0 : endCompare < 0;
+    }
+
+    private boolean testLong(final long value) {
+        int low = 0;
+        int high = startLongs.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (value >= startLongs[mid]) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        final int index = high;
+        return index >= 0
+                && (startInclusive[index] || value != startLongs[index])
+                && (endInclusive[index] ? value <= endLongs[index] : value < endLongs[index]);
+    }
+
+    // Converts each range to an interval whose start is not after its end.
+    // A single value tests both bounds of an InRange, which is true if it is
+    // either in the range or outside both bounds of an inverted range, so an
+    // inverted range is the interval between its bounds with the inclusivity flipped.
+    private List<Interval> normalise(final List<InRange<T>> rangeList) {
+        boundClass = null;
+        final List<Interval> intervals = new ArrayList<>(rangeList.size());
+        for (final InRange<T> range : rangeList) {
+            final T start = range.getStart();
+            final T end = range.getEnd();
+            checkBoundClass(start);
+            checkBoundClass(end);
+
+            final boolean isStartInclusive = !Boolean.FALSE.equals(range.isStartInclusive());
+            final boolean isEndInclusive = !Boolean.FALSE.equals(range.isEndInclusive());
+            final int compare = null == start || null == end ? -1 : start.compareTo(end);
+            if (compare > 0 || (0 == compare && !isStartInclusive && !isEndInclusive)) {
+                intervals.add(new Interval(end, !isEndInclusive, start, !isStartInclusive));
+            } else if (0 != compare || isStartInclusive == isEndInclusive) {
+                intervals.add(new Interval(start, isStartInclusive, end, isEndInclusive));
+            }
+        }
+        return intervals;
+    }
+
+    private void checkBoundClass(final T bound) {
+        if (null != bound) {
+            if (null == boundClass) {
+                boundClass = bound.getClass();
+            } else if (boundClass != bound.getClass()) {
+                throw new IllegalArgumentException("All range bounds should be instances of the same class");
+            }
+        }
+    }
+
+    // Merges overlapping and touching intervals, so the result is sorted and disjoint
+    private static List<Interval> merge(final List<Interval> intervals) {
+        intervals.sort(BY_START);
+        final List<Interval> merged = new ArrayList<>(intervals.size());
+        Interval current = null;
+        for (final Interval next : intervals) {
+            if (null != current && current.touches(next)) {
+                current.extend(next);
+            } else {
+                current = next;
+                merged.add(current);
+            }
+        }
+        return merged;
+    }
+
+    private void index(final List<Interval> intervals) {
+        final int size = intervals.size();
+        starts = new Comparable[size];
+        ends = new Comparable[size];
+        startInclusive = new boolean[size];
+        endInclusive = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            final Interval interval = intervals.get(i);
+            starts[i] = interval.start;
+            ends[i] = interval.end;
+            startInclusive[i] = interval.startInclusive;
+            endInclusive[i] = interval.endInclusive;
+        }
+
+        if (Long.class == boundClass || Date.class == boundClass) {
+            startLongs = new long[size];
+            endLongs = new long[size];
+            for (int i = 0; i < size; i++) {
+                // Unbounded ends include every long
+                if (null == starts[i]) {
+                    startInclusive[i] = true;
+                }
+                if (null == ends[i]) {
+                    endInclusive[i] = true;
+                }
+                startLongs[i] = null == starts[i] ? Long.MIN_VALUE : toLong(starts[i]);
+                endLongs[i] = null == ends[i] ? Long.MAX_VALUE : toLong(ends[i]);
+            }
+        } else {
+            startLongs = null;
+            endLongs = null;
+        }
+    }
+
+    private static long toLong(final Object value) {
+        return value instanceof Date ? ((Date) value).getTime() : (Long) value;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (null == obj || !getClass().equals(obj.getClass())) {
+            return false;
+        }
+
+        final InAnyRange otherPredicate = (InAnyRange) obj;
+        return new EqualsBuilder()
+                .append(ranges, otherPredicate.ranges)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(23, 31)
+                .append(ranges)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("ranges", ranges)
+                .toString();
+    }
+
+    private static final class Interval {
+        private final Comparable start;
+        private final boolean startInclusive;
+        private Comparable end;
+        private boolean endInclusive;
+
+        private Interval(final Comparable start, final boolean startInclusive, final Comparable end, final boolean endInclusive) {
+            this.start = start;
+            this.startInclusive = startInclusive;
+            this.end = end;
+            this.endInclusive = endInclusive;
+        }
+
+        // True if the next interval, which does not start before this one, overlaps or is adjacent to it
+        private boolean touches(final Interval next) {
+            if (null == end || null == next.start) {
+                return true;
+            }
+            final int compare = next.start.compareTo(end);
+            return compare < 0 || (0 == compare && (endInclusive || next.startInclusive));
+        }
+
+        private void extend(final Interval next) {
+            if (null == end) {
+                return;
+            }
+            if (null == next.end) {
+                end = null;
+                endInclusive = true;
+                return;
+            }
+            final int compare = next.end.compareTo(end);
+            if (compare > 0) {
+                end = next.end;
+                endInclusive = next.endInclusive;
+            } else if (0 == compare) {
+                endInclusive = endInclusive || next.endInclusive;
+            }
+        }
+    }
+}
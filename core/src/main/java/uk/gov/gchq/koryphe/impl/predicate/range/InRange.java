@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,8 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.KoryphePredicate;
+import uk.gov.gchq.koryphe.util.BitmapUtil;
+import uk.gov.gchq.koryphe.util.RangeCheck;
 
 /**
  * <p>
@@ -63,7 +65,26 @@ public class InRange<T extends Comparable<T>> extends KoryphePredicate<T> {
 
     @Override
     public boolean test(final T value) {
-        return predicate.test(value, value);
+        return predicate.getRangeCheck().test(value);
+    }
+
+    /**
+     * Test a block of values with the same semantics as {@link #test(Comparable)},
+     * using the range check of the predicate for every value.
+     *
+     * @param inputs       the inputs to test
+     * @param count        the number of inputs to test
+     * @param resultBitmap the bitmap to record results in
+     */
+    @Override
+    public void testBatch(final Object[] inputs, final int count, final long[] resultBitmap) {
+        final RangeCheck<T> check = predicate.getRangeCheck();
+        BitmapUtil.clear(resultBitmap, count);
+        for (int i = 0; i < count; i++) {
+            if (check.test((T) inputs[i])) {
+                BitmapUtil.set(resultBitmap, i);
+            }
+        }
     }
 
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,7 +27,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.tuple.predicate.KoryphePredicate2;
-import uk.gov.gchq.koryphe.util.RangeUtil;
+import uk.gov.gchq.koryphe.util.RangeCheck;
 
 /**
  * <p>
@@ -68,6 +68,8 @@ public class InRangeDual<T extends Comparable<T>> extends KoryphePredicate2<Comp
     private Boolean startFullyContained;
     private Boolean endFullyContained;
 
+    private RangeCheck<T> rangeCheck;
+
     public void initialise() {
         if (null != getStart() && null != getEnd()
                 && !getStart().getClass().equals(getEnd().getClass())) {
@@ -77,12 +79,22 @@ public class InRangeDual<T extends Comparable<T>> extends KoryphePredicate2<Comp
 
     @Override
     public boolean test(final Comparable<T> startValue, final Comparable<T> endValue) {
-        return RangeUtil.inRange(
-                startValue, endValue,
-                start, end,
-                startInclusive, endInclusive,
-                startFullyContained, endFullyContained
-        );
+        return getRangeCheck().test(startValue, endValue);
+    }
+
+    /**
+     * Get the range check for the current configuration, which is created
+     * on first use and recreated after the configuration changes.
+     *
+     * @return the range check.
+     */
+    protected RangeCheck<T> getRangeCheck() {
+        RangeCheck<T> check = rangeCheck;
+        if (null == check) {
+            check = RangeCheck.of(start, end, startInclusive, endInclusive, startFullyContained, endFullyContained);
+            rangeCheck = check;
+        }
+        return check;
     }
 
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_OBJECT)
@@ -113,26 +125,32 @@ public class InRangeDual<T extends Comparable<T>> extends KoryphePredicate2<Comp
 
     protected void setStart(final T start) {
         this.start = start;
+        this.rangeCheck = null;
     }
 
     protected void setEnd(final T end) {
         this.end = end;
+        this.rangeCheck = null;
     }
 
     protected void setStartInclusive(final Boolean startInclusive) {
         this.startInclusive = startInclusive;
+        this.rangeCheck = null;
     }
 
     protected void setEndInclusive(final Boolean endInclusive) {
         this.endInclusive = endInclusive;
+        this.rangeCheck = null;
     }
 
     protected void setStartFullyContained(final Boolean startFullyContained) {
         this.startFullyContained = startFullyContained;
+        this.rangeCheck = null;
     }
 
     protected void setEndFullyContained(final Boolean endFullyContained) {
         this.endFullyContained = endFullyContained;
+        this.rangeCheck = null;
     }
 
     @Override
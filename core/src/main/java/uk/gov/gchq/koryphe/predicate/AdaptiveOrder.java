@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.predicate;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The order in which an adaptive {@link PredicateComposite} evaluates its
+ * components. A sample of tests is timed, recording how long each component
+ * takes and how often its result decides the outcome of the composite. After
+ * every {@link #REORDER_INTERVAL} samples, the components are sorted so the
+ * cheapest components that most often decide the outcome are evaluated first.
+ * <p>
+ * The statistics are updated without synchronisation, so samples may be lost
+ * when the composite is used by many threads at once. This only affects the
+ * quality of the order, as each published order is a complete permutation of
+ * the components.
+ *
+ * @param <C> Type of Predicate components
+ */
+final class AdaptiveOrder<C> {
+    /**
+     * On average, one in this many tests is timed. Must be a power of two.
+     */
+    static final int SAMPLE_RATE = 16;
+
+    /**
+     * The number of timed tests between reorders.
+     */
+    static final int REORDER_INTERVAL = 1024;
+
+    private final List<C> source;
+    private final int sourceSize;
+    private final Object[] components;
+    private final long[] evaluations;
+    private final long[] decisions;
+    private final long[] nanos;
+    private volatile int[] order;
+    private int random = 0x9E3779B9;
+    private int samples;
+
+    AdaptiveOrder(final List<C> source) {
+        this.source = source;
+        this.sourceSize = source.size();
+        this.components = source.toArray();
+        this.evaluations = new long[sourceSize];
+        this.decisions = new long[sourceSize];
+        this.nanos = new long[sourceSize];
+        final int[] initialOrder = new int[sourceSize];
+        for (int i = 0; i < sourceSize; i++) {
+            initialOrder[i] = i;
+        }
+        this.order = initialOrder;
+    }
+
+    /**
+     * @param list the current components of the composite
+     * @return true if this order was created from the list, and the list has
+     * not been added to or removed from since
+     */
+    boolean isFor(final List<C> list) {
+        return source == list && sourceSize == list.size();
+    }
+
+    /**
+     * @return the indexes of the components, in the order they should be evaluated.
+     * The array must not be modified.
+     */
+    int[] getOrder() {
+        return order;
+    }
+
+    C getComponent(final int index) {
+        return (C) components[index];
+    }
+
+    /**
+     * @return the components, in the order they should be evaluated.
+     */
+    List<C> getOrderedComponents() {
+        final int[] currentOrder = order;
+        final Object[] ordered = new Object[currentOrder.length];
+        for (int i = 0; i < currentOrder.length; i++) {
+            ordered[i] = components[currentOrder[i]];
+        }
+        return (List<C>) Arrays.asList(ordered);
+    }
+
+    /**
+     * Tests are chosen pseudo-randomly, rather than every n-th test, so the
+     * sample is not skewed by inputs that repeat with a regular period.
+     *
+     * @return true if the next test should be timed.
+     */
+    boolean sample() {
+        // Xorshift
+        int next = random;
+        next ^= next << 13;
+        next ^= next >>> 17;
+        next ^= next << 5;
+        random = next;
+        return 0 == (next & (SAMPLE_RATE - 1));
+    }
+
+    /**
+     * Record a timed evaluation of a component.
+     *
+     * @param index    the index of the component
+     * @param elapsed  the time the evaluation took, in nanoseconds
+     * @param decisive true if the result decided the outcome of the composite
+     */
+    void record(final int index, final long elapsed, final boolean decisive) {
+        evaluations[index]++;
+        nanos[index] += elapsed;
+        if (decisive) {
+            decisions[index]++;
+        }
+    }
+
+    /**
+     * Mark the end of a timed test, reordering the components if enough tests
+     * have been timed since the last reorder.
+     */
+    void endSample() {
+        if (++samples >= REORDER_INTERVAL) {
+            samples = 0;
+            reorder();
+        }
+    }
+
+    private void reorder() {
+        final double[] scores = new double[components.length];
+        final Integer[] newOrder = new Integer[components.length];
+        for (int i = 0; i < components.length; i++) {
+            newOrder[i] = order[i];
+            scores[i] = score(i);
+            // Halve the statistics so the order adapts if the data changes
+            evaluations[i] >>= 1;
+            decisions[i] >>= 1;
+            nanos[i] >>= 1;
+        }
+
+        // The sort is stable, so components with equal scores keep their relative order
+        Arrays.sort(newOrder, Comparator.comparingDouble(index -> scores[index]));
+        final int[] published = new int[newOrder.length];
+        for (int i = 0; i < newOrder.length; i++) {
+            published[i] = newOrder[i];
+        }
+        order = published;
+    }
+
+    // The expected time spent on a component for each time it decides the
+    // outcome. Components that have not been timed are scored last.
+    private double score(final int index) {
+        if (0 == evaluations[index]) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final double cost = Math.max(1, nanos[index]) / (double) evaluations[index];
+        final double decisiveRate = Math.max(1, decisions[index]) / (double) evaluations[index];
+        return cost / decisiveRate;
+    }
+}
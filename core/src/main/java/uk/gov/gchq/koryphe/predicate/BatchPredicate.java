@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.predicate;
+
+import uk.gov.gchq.koryphe.util.BitmapUtil;
+
+import java.util.function.Predicate;
+
+/**
+ * A <code>BatchPredicate</code> is a {@link Predicate} that can test a block of
+ * inputs in one call, recording the results in a bitmap. Testing a block at a
+ * time keeps the loop within a single predicate, so it can be specialised and
+ * optimised for that predicate, rather than making a virtual call per input.
+ * <p>
+ * The result of {@link #testBatch(Object[], int, long[])} must match calling
+ * {@link #test(Object)} on each input in turn, so implementations that change
+ * {@link #test(Object)} should also override the batch method.
+ * </p>
+ *
+ * @param <I> Input type
+ * @see BitmapUtil
+ */
+public interface BatchPredicate<I> extends Predicate<I> {
+    /**
+     * Test the first <code>count</code> inputs, setting bit <code>i</code> of
+     * the result bitmap if input <code>i</code> passes and clearing it otherwise.
+     *
+     * @param inputs       the inputs to test
+     * @param count        the number of inputs to test
+     * @param resultBitmap the bitmap to record results in, with at least
+     *                     {@link BitmapUtil#words(int)} words
+     */
+    default void testBatch(final Object[] inputs, final int count, final long[] resultBitmap) {
+        BitmapUtil.clear(resultBitmap, count);
+        for (int i = 0; i < count; i++) {
+            if (test((I) inputs[i])) {
+                BitmapUtil.set(resultBitmap, i);
+            }
+        }
+    }
+
+    /**
+     * Test a block of inputs with any {@link Predicate}, using its batch method
+     * if it is a <code>BatchPredicate</code>.
+     *
+     * @param predicate    the predicate to test with
+     * @param inputs       the inputs to test
+     * @param count        the number of inputs to test
+     * @param resultBitmap the bitmap to record results in
+     * @see #testBatch(Object[], int, long[])
+     */
+    static void testBatch(final Predicate predicate, final Object[] inputs, final int count, final long[] resultBitmap) {
+        if (predicate instanceof BatchPredicate) {
+            ((BatchPredicate) predicate).testBatch(inputs, count, resultBitmap);
+        } else {
+            BitmapUtil.clear(resultBitmap, count);
+            for (int i = 0; i < count; i++) {
+                if (predicate.test(inputs[i])) {
+                    BitmapUtil.set(resultBitmap, i);
+                }
+            }
+        }
+    }
+}
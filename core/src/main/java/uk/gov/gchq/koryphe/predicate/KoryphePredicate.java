@@ -19,15 +19,14 @@ package uk.gov.gchq.koryphe.predicate;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
-import java.util.function.Predicate;
-
 /**
- * Abstract superclass provided for convenience.
+ * Abstract superclass provided for convenience. Predicates can also be applied
+ * to blocks of inputs, see {@link BatchPredicate}.
  *
  * @param <I> Input type
  */
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, property = "class")
-public abstract class KoryphePredicate<I> implements Predicate<I> {
+public abstract class KoryphePredicate<I> implements BatchPredicate<I> {
     @SuppressFBWarnings(value = "BC_EQUALS_METHOD_SHOULD_WORK_FOR_ALL_OBJECTS", justification = "the method classEquals does the check")
     @Override
     public boolean equals(final Object obj) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,10 @@
 
 package uk.gov.gchq.koryphe.predicate;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
@@ -26,6 +29,7 @@ import uk.gov.gchq.koryphe.signature.InputValidator;
 import uk.gov.gchq.koryphe.signature.Signature;
 import uk.gov.gchq.koryphe.tuple.Tuple;
 import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.util.BitmapUtil;
 
 import java.util.List;
 import java.util.function.Predicate;
@@ -33,13 +37,22 @@ import java.util.function.Predicate;
 /**
  * A {@link Composite} {@link Predicate} that applies each predicate in turn, returning true if all Predicates are met,
  * otherwise false.
+ * <p>
+ * By default the predicates are applied in the order they are declared. If the composite is set to be adaptive,
+ * a sample of tests is timed and the predicates are periodically reordered, so the cheapest predicates that most
+ * often decide the result are applied first. The result is unchanged by the order, provided the predicates are
+ * independent of each other - for example, a later predicate must not rely on an earlier one having rejected inputs
+ * it would fail on.
  *
  * @param <I> Input type
  * @param <C> Type of Predicate components
  */
 @Since("1.0.0")
 @Summary("Returns true if all of its predicates are true")
-public class PredicateComposite<I, C extends Predicate<I>> extends Composite<C> implements Predicate<I>, InputValidator {
+public class PredicateComposite<I, C extends Predicate<I>> extends Composite<C> implements BatchPredicate<I>, InputValidator {
+    private boolean adaptive;
+    private volatile AdaptiveOrder<C> adaptiveOrder;
+
     /**
      * Default - for serialisation.
      */
@@ -64,23 +77,192 @@ public class PredicateComposite<I, C extends Predicate<I>> extends Composite<C>
      */
     @Override
     public boolean test(final I input) {
+        if (adaptive) {
+            return testAdaptively(input, false);
+        }
+
         for (final C predicate : components) {
-            try {
-                if (!predicate.test(input)) {
-                    return false;
+            if (!testComponent(predicate, input)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Apply the predicate components in turn to a block of inputs. Each
+     * component is only applied to the inputs that passed all previous
+     * components, as with {@link #test(Object)}.
+     *
+     * @param inputs       the inputs to test
+     * @param count        the number of inputs to test
+     * @param resultBitmap the bitmap to record results in
+     */
+    @Override
+    public void testBatch(final Object[] inputs, final int count, final long[] resultBitmap) {
+        BitmapUtil.setAll(resultBitmap, count);
+        if (null == components || components.isEmpty()) {
+            return;
+        }
+
+        final Object[] selected = new Object[count];
+        final int[] indexes = new int[count];
+        final long[] passed = new long[BitmapUtil.words(count)];
+        for (final C predicate : getOrderedComponents()) {
+            final int selectedCount = select(inputs, count, resultBitmap, true, selected, indexes);
+            if (0 == selectedCount) {
+                return;
+            }
+            testComponentBatch(predicate, selected, selectedCount, passed);
+            for (int i = 0; i < selectedCount; i++) {
+                if (!BitmapUtil.isSet(passed, i)) {
+                    BitmapUtil.unset(resultBitmap, indexes[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply the predicate components in the adaptive order, until one of them
+     * returns the decisive result. A sample of calls are timed to update the order.
+     *
+     * @param input    Input value
+     * @param decisive the component result that decides the result of the composite
+     * @return the decisive result if any component returned it, otherwise its negation
+     */
+    protected boolean testAdaptively(final I input, final boolean decisive) {
+        final AdaptiveOrder<C> order = getAdaptiveOrder();
+        final int[] indexes = order.getOrder();
+        if (!order.sample()) {
+            for (final int index : indexes) {
+                if (decisive == testComponent(order.getComponent(index), input)) {
+                    return decisive;
                 }
+            }
+            return !decisive;
+        }
+
+        boolean result = !decisive;
+        for (final int index : indexes) {
+            final long start = System.nanoTime();
+            final boolean componentResult = testComponent(order.getComponent(index), input);
+            order.record(index, System.nanoTime() - start, decisive == componentResult);
+            if (decisive == componentResult) {
+                result = decisive;
+                break;
+            }
+        }
+        order.endSample();
+        return result;
+    }
+
+    /**
+     * @return the components in the order they should be applied - the
+     * adaptive order if this composite is adaptive, otherwise the declared order.
+     */
+    protected List<C> getOrderedComponents() {
+        if (!adaptive || null == components) {
+            return components;
+        }
+        return getAdaptiveOrder().getOrderedComponents();
+    }
+
+    private AdaptiveOrder<C> getAdaptiveOrder() {
+        AdaptiveOrder<C> order = adaptiveOrder;
+        if (null == order || !order.isFor(components)) {
+            // The components have changed, so start again from the declared order
+            order = new AdaptiveOrder<>(components);
+            adaptiveOrder = order;
+        }
+        return order;
+    }
+
+    /**
+     * Test a single input with a component. If the component is a
+     * {@link TupleAdaptedPredicate} and the input is not a {@link Tuple}, the
+     * input is assumed to be an automatically unpacked tuple1, so it is
+     * given directly to the adapted predicate.
+     *
+     * @param predicate the component
+     * @param input     the input to test
+     * @return the result of the component
+     */
+    protected boolean testComponent(final C predicate, final I input) {
+        if (predicate instanceof TupleAdaptedPredicate && !(input instanceof Tuple)) {
+            if (null != input) {
+                // The tuple adapted predicate would always reject a non tuple input with a ClassCastException
+                return ((TupleAdaptedPredicate) predicate).getPredicate().test(input);
+            }
+
+            try {
+                return predicate.test(null);
             } catch (final ClassCastException e) {
-                // This may occur if the predicate was given a tuple1 and the tuple1 was automatically unpacked.
-                if (predicate instanceof TupleAdaptedPredicate && !(input instanceof Tuple)) {
-                    if (!((TupleAdaptedPredicate) predicate).getPredicate().test(input)) {
-                        return false;
-                    }
-                } else {
-                    throw e;
+                // A null input can only be unpacked if the adapted predicate does not accept the selection
+                return ((TupleAdaptedPredicate) predicate).getPredicate().test(null);
+            }
+        }
+
+        return predicate.test(input);
+    }
+
+    /**
+     * Test a block of inputs with a component, using its batch method if it
+     * has one.
+     *
+     * @param predicate    the component
+     * @param inputs       the inputs to test
+     * @param count        the number of inputs to test
+     * @param resultBitmap the bitmap to record results in
+     */
+    protected void testComponentBatch(final C predicate, final Object[] inputs, final int count, final long[] resultBitmap) {
+        if (predicate instanceof BatchPredicate) {
+            ((BatchPredicate) predicate).testBatch(inputs, count, resultBitmap);
+        } else {
+            BitmapUtil.clear(resultBitmap, count);
+            for (int i = 0; i < count; i++) {
+                if (testComponent(predicate, (I) inputs[i])) {
+                    BitmapUtil.set(resultBitmap, i);
                 }
             }
         }
-        return true;
+    }
+
+    /**
+     * Copy the inputs whose bit in a bitmap matches the given state.
+     *
+     * @param inputs   the inputs
+     * @param count    the number of inputs
+     * @param bitmap   the bitmap to select inputs by
+     * @param state    true to select inputs whose bit is set, false for those whose bit is clear
+     * @param selected the array to copy the selected inputs to
+     * @param indexes  the array to record the index of each selected input in
+     * @return the number of inputs selected
+     */
+    protected static int select(final Object[] inputs, final int count, final long[] bitmap, final boolean state,
+                                final Object[] selected, final int[] indexes) {
+        int selectedCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (state == BitmapUtil.isSet(bitmap, i)) {
+                selected[selectedCount] = inputs[i];
+                indexes[selectedCount++] = i;
+            }
+        }
+        return selectedCount;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Set whether the predicates should be reordered based on how long they
+     * take and how often they decide the result.
+     *
+     * @param adaptive true to reorder the predicates, false to apply them in the declared order
+     */
+    public void setAdaptive(final boolean adaptive) {
+        this.adaptive = adaptive;
     }
 
     @Override
@@ -96,4 +278,27 @@ public class PredicateComposite<I, C extends Predicate<I>> extends Composite<C>
 
         return result;
     }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!super.equals(obj)) {
+            return false; // Does class checking
+        }
+
+        return new EqualsBuilder()
+                .append(adaptive, ((PredicateComposite) obj).adaptive)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37)
+                .appendSuper(super.hashCode())
+                .append(adaptive)
+                .toHashCode();
+    }
 }
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A <code>ColumnBatch</code> holds a batch of tuples with the same
+ * {@link TupleLayout} as one array of values per field, rather than one
+ * object per tuple. Functions can then be applied a column at a time with
+ * {@link #apply(Object[], Function, Object[])}, so each selected column is
+ * read and each projected column is written in a single pass over the batch.
+ *
+ * @param <R> The type of reference used to identify fields.
+ */
+public final class ColumnBatch<R> {
+    private final TupleLayout<R> layout;
+    private final Object[][] columns;
+    private final int capacity;
+    private int size;
+
+    /**
+     * Create an empty <code>ColumnBatch</code>.
+     *
+     * @param layout   Layout of the tuples in the batch.
+     * @param capacity Maximum number of tuples in the batch.
+     */
+    public ColumnBatch(final TupleLayout<R> layout, final int capacity) {
+        this.layout = requireNonNull(layout, "Layout is required");
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        this.columns = new Object[layout.size()][capacity];
+        this.capacity = capacity;
+    }
+
+    /**
+     * Append a tuple to the batch, copying the value of each field in the layout.
+     *
+     * @param tuple the tuple to add
+     * @throws IllegalStateException if the batch is full
+     */
+    public void add(final Tuple<R> tuple) {
+        if (size == capacity) {
+            throw new IllegalStateException("Column batch is full: " + size);
+        }
+
+        if (tuple instanceof LayoutTuple && ((LayoutTuple<R>) tuple).getLayout() == layout) {
+            final LayoutTuple<R> layoutTuple = (LayoutTuple<R>) tuple;
+            for (int slot = 0; slot < columns.length; slot++) {
+                columns[slot][size] = layoutTuple.get(slot);
+            }
+        } else {
+            final R[] references = layout.getReferences();
+            for (int slot = 0; slot < columns.length; slot++) {
+                columns[slot][size] = tuple.get(references[slot]);
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Apply a function to every tuple in the batch, one column at a time.
+     * This is equivalent to applying a {@link TupleInputAdapter} with the
+     * selection, the function and then a {@link TupleOutputAdapter} with the
+     * projection to each tuple in turn. When more than one field is selected,
+     * the function is given a view of the current row that is reused for
+     * every row, so it should not be retained by the function.
+     *
+     * @param selection  Field references to select.
+     * @param function   Function to apply.
+     * @param projection Field references to project the output to.
+     * @throws IllegalArgumentException if a selected or projected reference is not in the layout
+     */
+    public void apply(final R[] selection, final Function function, final R[] projection) {
+        final int[] selectionSlots = layout.slotsOf(selection);
+        final int[] projectionSlots = layout.slotsOf(projection);
+
+        if (1 == selectionSlots.length && 1 == projectionSlots.length) {
+            final Object[] input = columns[selectionSlots[0]];
+            final Object[] output = columns[projectionSlots[0]];
+            for (int row = 0; row < size; row++) {
+                output[row] = function.apply(input[row]);
+            }
+            return;
+        }
+
+        final Object[] input = 1 == selectionSlots.length ? columns[selectionSlots[0]] : null;
+        final RowTuple view = null == input ? new RowTuple(selection, selectionSlots) : null;
+        final Object[] values = 1 == projectionSlots.length ? null : new Object[projectionSlots.length];
+        for (int row = 0; row < size; row++) {
+            final Object result;
+            if (null == input) {
+                view.row = row;
+                result = function.apply(view);
+            } else {
+                result = function.apply(input[row]);
+            }
+
+            if (1 == projectionSlots.length) {
+                columns[projectionSlots[0]][row] = result;
+            } else {
+                // The result may be a view of this row, so read all of it before writing
+                int i = 0;
+                for (final Object obj : (Iterable) result) {
+                    values[i++] = obj;
+                }
+                for (i = 0; i < projectionSlots.length; i++) {
+                    columns[projectionSlots[i]][row] = values[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy the values of a tuple in the batch into another tuple.
+     *
+     * @param row    the index of the tuple in the batch
+     * @param target the tuple to copy the values into
+     */
+    public void copyTo(final int row, final Tuple<R> target) {
+        checkRow(row);
+        if (target instanceof LayoutTuple && ((LayoutTuple<R>) target).getLayout() == layout) {
+            final LayoutTuple<R> layoutTuple = (LayoutTuple<R>) target;
+            for (int slot = 0; slot < columns.length; slot++) {
+                layoutTuple.put(slot, columns[slot][row]);
+            }
+        } else {
+            final R[] references = layout.getReferences();
+            for (int slot = 0; slot < columns.length; slot++) {
+                target.put(references[slot], columns[slot][row]);
+            }
+        }
+    }
+
+    /**
+     * @param row the index of the tuple in the batch
+     * @return a new {@link LayoutTuple} with the values of the tuple.
+     */
+    public LayoutTuple<R> getTuple(final int row) {
+        final LayoutTuple<R> tuple = layout.newTuple();
+        copyTo(row, tuple);
+        return tuple;
+    }
+
+    /**
+     * @param reference Field reference.
+     * @return the values of the field, indexed by row. Only the first
+     * {@link #size()} values are part of the batch.
+     * @throws IllegalArgumentException if the reference is not in the layout
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The column is exposed so it can be read and written without copying")
+    public Object[] getColumn(final R reference) {
+        final int slot = layout.slotOf(reference);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Reference is not in tuple layout: " + reference);
+        }
+        return columns[slot];
+    }
+
+    /**
+     * Remove all tuples from the batch, so it can be refilled.
+     */
+    public void clear() {
+        for (final Object[] column : columns) {
+            Arrays.fill(column, 0, size, null);
+        }
+        size = 0;
+    }
+
+    public TupleLayout<R> getLayout() {
+        return layout;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private void checkRow(final int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " is not in batch of size " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("layout", layout)
+                .append("size", size)
+                .build();
+    }
+
+    /**
+     * A view over selected columns of the current row of the batch.
+     */
+    private final class RowTuple extends ReferenceArrayTuple<R> {
+        private final int[] slots;
+        private int row;
+
+        private RowTuple(final R[] fields, final int[] slots) {
+            super(null, fields);
+            this.slots = slots;
+        }
+
+        @Override
+        public Object get(final Integer index) {
+            return index < slots.length ? columns[slots[index]][row] : null;
+        }
+
+        @Override
+        public void put(final Integer index, final Object value) {
+            if (index < slots.length) {
+                columns[slots[index]][row] = value;
+            }
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!super.equals(obj)) {
+                return false; // Does class checking
+            }
+
+            final RowTuple that = (RowTuple) obj;
+            return new EqualsBuilder()
+                    .append(slots, that.slots)
+                    .append(row, that.row)
+                    .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(13, 31)
+                    .appendSuper(super.hashCode())
+                    .append(slots)
+                    .append(row)
+                    .toHashCode();
+        }
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A <code>LayoutMap</code> is a {@link Map} backed by an array of values, with
+ * a {@link TupleLayout} mapping keys to indexes in the array. Many maps can
+ * share one layout, such as the rows of a CSV, so each map only holds its
+ * values rather than a hash table of entries.
+ * <p>
+ * Keys that are not in the layout can still be added, and are held in a
+ * separate {@link HashMap}. A new map has no entries; values are added with
+ * {@link #put(Object, Object)} or {@link #putSlot(int, Object)}.
+ * </p>
+ * <p>
+ * {@link #asTuple()} gives a {@link LayoutTuple} view of the map with the
+ * same layout, so {@link TupleInputAdapter}s and {@link TupleOutputAdapter}s
+ * bound to the layout access its values by slot. Java serialisation writes a
+ * {@link LinkedHashMap} copy of the map.
+ * </p>
+ *
+ * @param <R> The type of the keys.
+ */
+public class LayoutMap<R> extends AbstractMap<R, Object> implements Serializable {
+    private static final long serialVersionUID = 1318540383641227040L;
+    private static final Object ABSENT = new Object();
+
+    private final transient TupleLayout<R> layout;
+    private final transient Object[] values;
+    private transient int size;
+    private transient Map<R, Object> otherValues;
+    private transient Set<Entry<R, Object>> entrySet;
+
+    /**
+     * Create an empty <code>LayoutMap</code> with the given layout.
+     *
+     * @param layout Layout of the map.
+     */
+    public LayoutMap(final TupleLayout<R> layout) {
+        this.layout = requireNonNull(layout, "Layout is required");
+        this.values = new Object[layout.size()];
+        Arrays.fill(values, ABSENT);
+    }
+
+    public TupleLayout<R> getLayout() {
+        return layout;
+    }
+
+    /**
+     * @param slot Value slot.
+     * @return the value in the slot, or null if there is no value.
+     */
+    public Object getSlot(final int slot) {
+        final Object value = values[slot];
+        return ABSENT == value ? null : value;
+    }
+
+    /**
+     * Put a value for the key in the given slot of the layout.
+     *
+     * @param slot  Value slot.
+     * @param value Value to put.
+     * @return the previous value in the slot, or null if there was no value.
+     */
+    public Object putSlot(final int slot, final Object value) {
+        final Object previous = values[slot];
+        values[slot] = value;
+        if (ABSENT == previous) {
+            size++;
+            return null;
+        }
+        return previous;
+    }
+
+    /**
+     * @return a {@link LayoutTuple} view of this map, with the layout of the map.
+     */
+    public LayoutTuple<R> asTuple() {
+        return new SlotTuple();
+    }
+
+    @Override
+    public int size() {
+        return size + (null != otherValues ? otherValues.size() : 0);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            return ABSENT != values[slot];
+        }
+        return null != otherValues && otherValues.containsKey(key);
+    }
+
+    @Override
+    public Object get(final Object key) {
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            return getSlot(slot);
+        }
+        return null != otherValues ? otherValues.get(key) : null;
+    }
+
+    @Override
+    public Object put(final R key, final Object value) {
+        final int slot = layout.slotOf(key);
+        if (slot >= 0) {
+            return putSlot(slot, value);
+        }
+        if (null == otherValues) {
+            otherValues = new HashMap<>();
+        }
+        return otherValues.put(key, value);
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            return removeSlot(slot);
+        }
+        return null != otherValues ? otherValues.remove(key) : null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, ABSENT);
+        size = 0;
+        otherValues = null;
+    }
+
+    @Override
+    public Set<Entry<R, Object>> entrySet() {
+        if (null == entrySet) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private Object removeSlot(final int slot) {
+        final Object previous = values[slot];
+        if (ABSENT == previous) {
+            return null;
+        }
+        values[slot] = ABSENT;
+        size--;
+        return previous;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int slotOf(final Object key) {
+        return layout.slotOf((R) key);
+    }
+
+    private Object writeReplace() {
+        return new LinkedHashMap<>(this);
+    }
+
+    private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("A LayoutMap is serialised as a LinkedHashMap");
+    }
+
+    // A tuple view sharing the values of the map. Missing slots read as null,
+    // and values are listed in slot order, as for any LayoutTuple. References
+    // that are not in the layout are passed to the map.
+    private final class SlotTuple extends LayoutTuple<R> {
+        private SlotTuple() {
+            super(values, layout);
+        }
+
+        @Override
+        public Object get(final int slot) {
+            return getSlot(slot);
+        }
+
+        @Override
+        public void put(final int slot, final Object value) {
+            putSlot(slot, value);
+        }
+
+        @Override
+        public Object get(final R reference) {
+            if (Tuple.THIS.equals(reference) && !containsKey(reference)) {
+                return this;
+            }
+            return LayoutMap.this.get(reference);
+        }
+
+        @Override
+        public void put(final R reference, final Object value) {
+            LayoutMap.this.put(reference, value);
+        }
+
+        @Override
+        public Iterable<Object> values() {
+            return new AbstractList<Object>() {
+                @Override
+                public Object get(final int slot) {
+                    return getSlot(slot);
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+            };
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof LayoutMap.SlotTuple && LayoutMap.this.equals(((LayoutMap<?>.SlotTuple) obj).getMap());
+        }
+
+        @Override
+        public int hashCode() {
+            return LayoutMap.this.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return LayoutMap.this.toString();
+        }
+
+        private LayoutMap<R> getMap() {
+            return LayoutMap.this;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<R, Object>> {
+        @Override
+        public Iterator<Entry<R, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return LayoutMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            LayoutMap.this.clear();
+        }
+    }
+
+    // Iterates over the values in slot order, then any keys that are not in the layout
+    private final class EntryIterator implements Iterator<Entry<R, Object>> {
+        private final R[] references = layout.getReferences();
+        private int nextSlot = nextSlot(0);
+        private int lastSlot = -1;
+        private Iterator<Entry<R, Object>> otherItr;
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < values.length || otherIterator().hasNext();
+        }
+
+        @Override
+        public Entry<R, Object> next() {
+            if (nextSlot < values.length) {
+                lastSlot = nextSlot;
+                nextSlot = nextSlot(nextSlot + 1);
+                return new SlotEntry(references[lastSlot], lastSlot);
+            }
+            if (!otherIterator().hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastSlot = -1;
+            return otherItr.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastSlot >= 0) {
+                removeSlot(lastSlot);
+                lastSlot = -1;
+            } else if (null != otherItr) {
+                otherItr.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private int nextSlot(final int from) {
+            int slot = from;
+            while (slot < values.length && ABSENT == values[slot]) {
+                slot++;
+            }
+            return slot;
+        }
+
+        private Iterator<Entry<R, Object>> otherIterator() {
+            if (null == otherItr) {
+                otherItr = null != otherValues ? otherValues.entrySet().iterator() : Collections.emptyIterator();
+            }
+            return otherItr;
+        }
+    }
+
+    private final class SlotEntry implements Entry<R, Object> {
+        private final R key;
+        private final int slot;
+
+        private SlotEntry(final R key, final int slot) {
+            this.key = key;
+            this.slot = slot;
+        }
+
+        @Override
+        public R getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return getSlot(slot);
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            return putSlot(slot, value);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> other = (Entry<?, ?>) obj;
+            return Objects.equals(key, other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A <code>LayoutTuple</code> is an implementation of {@link Tuple} backed by an
+ * array of {@link Object}s, with a {@link TupleLayout} mapping field references
+ * to indexes in the array. Values can be accessed by reference, or directly by
+ * slot. {@link TupleInputAdapter}s and {@link TupleOutputAdapter}s that have been
+ * bound to the same layout instance access values by slot.
+ *
+ * @param <R> The type of reference used to identify fields.
+ */
+public class LayoutTuple<R> implements Tuple<R> {
+    private final TupleLayout<R> layout;
+    private final Object[] values;
+
+    /**
+     * Create an empty <code>LayoutTuple</code> with the given layout.
+     *
+     * @param layout Layout of the tuple.
+     */
+    public LayoutTuple(final TupleLayout<R> layout) {
+        this.layout = requireNonNull(layout, "Layout is required");
+        this.values = new Object[layout.size()];
+    }
+
+    /**
+     * Create a <code>LayoutTuple</code> with the given layout and values, in slot order.
+     *
+     * @param layout Layout of the tuple.
+     * @param values Values of the tuple.
+     */
+    public LayoutTuple(final TupleLayout<R> layout, final Object... values) {
+        this(layout);
+        if (values.length != this.values.length) {
+            throw new IllegalArgumentException("Expected " + this.values.length + " values but got " + values.length);
+        }
+        System.arraycopy(values, 0, this.values, 0, values.length);
+    }
+
+    /**
+     * Create a <code>LayoutTuple</code> backed by the given array of values,
+     * without copying it.
+     *
+     * @param values Values of the tuple, in slot order.
+     * @param layout Layout of the tuple.
+     */
+    LayoutTuple(final Object[] values, final TupleLayout<R> layout) {
+        this.layout = requireNonNull(layout, "Layout is required");
+        this.values = values;
+    }
+
+    @Override
+    public void put(final R reference, final Object value) {
+        final int slot = layout.slotOf(reference);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Reference is not in tuple layout: " + reference);
+        }
+        values[slot] = value;
+    }
+
+    @Override
+    public Object get(final R reference) {
+        final int slot = layout.slotOf(reference);
+        if (slot < 0) {
+            return THIS.equals(reference) ? this : null;
+        }
+        return values[slot];
+    }
+
+    /**
+     * @param slot Value slot.
+     * @return the value in the slot.
+     */
+    public Object get(final int slot) {
+        return values[slot];
+    }
+
+    /**
+     * @param slot  Value slot.
+     * @param value Value to put.
+     */
+    public void put(final int slot, final Object value) {
+        values[slot] = value;
+    }
+
+    public TupleLayout<R> getLayout() {
+        return layout;
+    }
+
+    @Override
+    public Iterable<Object> values() {
+        return Arrays.asList(values);
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return values().iterator();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final LayoutTuple<?> that = (LayoutTuple<?>) obj;
+
+        return new EqualsBuilder()
+                .append(layout, that.layout)
+                .append(values, that.values)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(19, 41)
+                .append(layout)
+                .append(values)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("layout", layout)
+                .append("values", values)
+                .build();
+    }
+}
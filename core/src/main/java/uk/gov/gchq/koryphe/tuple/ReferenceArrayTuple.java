@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,9 +25,17 @@ import uk.gov.gchq.koryphe.tuple.n.Tuple5;
 
 import java.util.Iterator;
 
+/**
+ * A <code>ReferenceArrayTuple</code> is a view over selected fields of
+ * another {@link Tuple}, referenced by their index in the selection.
+ * The tuple being viewed can be changed with {@link #setTuple(Tuple)}, so a
+ * single instance can be reused across many records.
+ *
+ * @param <R> The type of reference used by the viewed tuple.
+ */
 public class ReferenceArrayTuple<R> extends Tuple5 {
     private final R[] fields;
-    private final Tuple<R> tuple;
+    private Tuple<R> tuple;
 
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Cloning the array would be expensive - we will have to reply on users not modifying the array")
     public ReferenceArrayTuple(final Tuple<R> tuple, final R[] fields) {
@@ -52,6 +60,23 @@ public class ReferenceArrayTuple<R> extends Tuple5 {
         }
     }
 
+    public Tuple<R> getTuple() {
+        return tuple;
+    }
+
+    /**
+     * Change the tuple this <code>ReferenceArrayTuple</code> is a view over.
+     *
+     * @param tuple the tuple to view
+     */
+    public void setTuple(final Tuple<R> tuple) {
+        this.tuple = tuple;
+    }
+
+    /**
+     * @return a copy of the selected values, so the underlying tuple can be
+     * updated while they are iterated.
+     */
     @Override
     public Iterable<Object> values() {
         final ArrayTuple selected = new ArrayTuple(fields.length);
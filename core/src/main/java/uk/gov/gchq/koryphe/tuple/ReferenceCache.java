@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@code ReferenceCache} holds a value per class and field reference, for
+ * example the compiled accessors used by {@link ReflectiveTuple}.
+ * <p>
+ * The cache is safe to share between threads. Each class has its own
+ * concurrent table of references, held in a {@link ClassValue} so lookups do
+ * not lock and the table does not prevent the class from being unloaded.
+ * </p>
+ * <p>
+ * The cache can optionally be bounded to a maximum number of classes, in
+ * which case the tables of the least recently added classes are evicted once
+ * the limit is exceeded. The limit is approximate when classes are added
+ * concurrently.
+ * </p>
+ *
+ * @param <T> the type of cached value
+ */
+class ReferenceCache<T> {
+    private final int maxClasses;
+    private final ClassValue<Table<T>> tables = new ClassValue<Table<T>>() {
+        @Override
+        protected Table<T> computeValue(final Class<?> type) {
+            return new Table<>();
+        }
+    };
+    private final Queue<Class<?>> classes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger classCount = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    ReferenceCache() {
+        this(0);
+    }
+
+    /**
+     * @param maxClasses the maximum number of classes to hold references
+     *                   for, or 0 or less for no limit
+     */
+    ReferenceCache(final int maxClasses) {
+        this.maxClasses = maxClasses;
+    }
+
+    public T get(final Class<?> itemClass, final String reference) {
+        requireNonNull(itemClass);
+        requireNonNull(reference);
+
+        final T value = tables.get(itemClass).values.get(reference);
+        if (null != value) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    public T put(final Class<?> itemClass, final String reference, final T value) {
+        requireNonNull(itemClass);
+        requireNonNull(reference);
+        requireNonNull(value);
+
+        final Table<T> table = tables.get(itemClass);
+        if (maxClasses > 0 && table.tracked.compareAndSet(false, true)) {
+            track(itemClass);
+        }
+        return table.values.put(reference, value);
+    }
+
+    public int getMaxClasses() {
+        return maxClasses;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // Classes are only counted towards the limit once a value has been put,
+    // so looking up an evicted class does not cause further evictions. If
+    // other threads have already evicted the classes ahead of it, the class
+    // being added is queued again so it can still be evicted later.
+    private void track(final Class<?> type) {
+        classes.add(type);
+        classCount.incrementAndGet();
+        while (classCount.get() > maxClasses) {
+            final Class<?> eldest = classes.poll();
+            if (null == eldest) {
+                break;
+            }
+            if (eldest == type) {
+                classes.add(eldest);
+                if (classes.peek() == eldest) {
+                    break;
+                }
+            } else {
+                classCount.decrementAndGet();
+                tables.remove(eldest);
+            }
+        }
+    }
+
+    private static final class Table<T> {
+        private final Map<String, T> values = new ConcurrentHashMap<>();
+        private final AtomicBoolean tracked = new AtomicBoolean();
+    }
+}
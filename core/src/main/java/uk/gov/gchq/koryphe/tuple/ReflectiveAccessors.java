@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static uk.gov.gchq.koryphe.tuple.ReflectiveTuple.ERROR_WRONG_PARAM;
+
+/**
+ * Compiles public getters, setters and fields into {@link Function}s and
+ * {@link BiConsumer}s for use by {@link ReflectiveTuple}.
+ * <p>
+ * Where possible the {@link LambdaMetafactory} is used to generate a class
+ * which invokes the member directly, so once the JIT has warmed up an access
+ * costs the same as a normal method call. Members that cannot be bound that
+ * way, such as fields, static members or members of classes that are not
+ * visible to Koryphe's class loader, are invoked through a {@link MethodHandle}.
+ * </p>
+ * <p>
+ * Access checks are made as {@link ReflectiveTuple}, so the same members are
+ * accessible as when invoking them through reflection.
+ * </p>
+ * <p>
+ * Each member is only compiled once. The accessors are cached per member and
+ * shared by all {@link ReflectiveTuple}s, whichever caches they use to find
+ * the members.
+ * </p>
+ */
+final class ReflectiveAccessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final ReferenceCache<Compiled<Function<Object, Object>>> METHOD_GETTERS = new ReferenceCache<>();
+    private static final ReferenceCache<Compiled<Function<Object, Object>>> FIELD_GETTERS = new ReferenceCache<>();
+    private static final ReferenceCache<Compiled<BiConsumer<Object, Object>>> METHOD_SETTERS = new ReferenceCache<>();
+    private static final ReferenceCache<Compiled<BiConsumer<Object, Object>>> FIELD_SETTERS = new ReferenceCache<>();
+
+    private ReflectiveAccessors() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * @param method the getter method
+     * @return a function invoking the getter on its input
+     * @throws IllegalAccessException if the method is not accessible
+     */
+    static Function<Object, Object> getter(final Method method) throws IllegalAccessException {
+        return compiled(METHOD_GETTERS, method, ReflectiveAccessors::compileGetter);
+    }
+
+    /**
+     * @param field the field
+     * @return a function returning the value of the field on its input
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    static Function<Object, Object> getter(final Field field) throws IllegalAccessException {
+        return compiled(FIELD_GETTERS, field, ReflectiveAccessors::compileGetter);
+    }
+
+    /**
+     * @param method the setter method, taking a single parameter
+     * @return a consumer invoking the setter on its first argument with the second
+     * @throws IllegalAccessException if the method is not accessible
+     */
+    static BiConsumer<Object, Object> setter(final Method method) throws IllegalAccessException {
+        return compiled(METHOD_SETTERS, method, ReflectiveAccessors::compileSetter);
+    }
+
+    /**
+     * @param field the field
+     * @return a consumer setting the field on its first argument to the second
+     * @throws IllegalAccessException if the field is not accessible or is final
+     */
+    static BiConsumer<Object, Object> setter(final Field field) throws IllegalAccessException {
+        return compiled(FIELD_SETTERS, field, ReflectiveAccessors::compileSetter);
+    }
+
+    // Returns the accessor compiled for the member, compiling it on first use.
+    // Members are cached by name, and replaced if a different overload is used.
+    private static <M extends Member, A> A compiled(final ReferenceCache<Compiled<A>> cache, final M member,
+                                                    final Compiler<M, A> compiler) throws IllegalAccessException {
+        Compiled<A> compiled = cache.get(member.getDeclaringClass(), member.getName());
+        if (null == compiled || !member.equals(compiled.member)) {
+            compiled = new Compiled<>(member, compiler.compile(member));
+            cache.put(member.getDeclaringClass(), member.getName(), compiled);
+        }
+        return compiled.accessor;
+    }
+
+    private static Function<Object, Object> compileGetter(final Method method) throws IllegalAccessException {
+        final MethodHandle handle = LOOKUP.unreflect(method);
+        if (!Modifier.isStatic(method.getModifiers()) && isVisible(method.getDeclaringClass(), method.getReturnType())) {
+            final Function<Object, Object> getter = metafactory(Function.class, "apply", GETTER_TYPE, handle,
+                    MethodType.methodType(ClassUtils.primitiveToWrapper(method.getReturnType()), method.getDeclaringClass()));
+            if (null != getter) {
+                return getter;
+            }
+        }
+        return getter(Modifier.isStatic(method.getModifiers()) ? MethodHandles.dropArguments(handle, 0, Object.class) : handle);
+    }
+
+    private static Function<Object, Object> compileGetter(final Field field) throws IllegalAccessException {
+        final MethodHandle handle = LOOKUP.unreflectGetter(field);
+        return getter(Modifier.isStatic(field.getModifiers()) ? MethodHandles.dropArguments(handle, 0, Object.class) : handle);
+    }
+
+    private static BiConsumer<Object, Object> compileSetter(final Method method) throws IllegalAccessException {
+        final MethodHandle handle = LOOKUP.unreflect(method);
+        final Class<?> type = method.getParameterTypes()[0];
+        BiConsumer<Object, Object> setter = null;
+        if (!Modifier.isStatic(method.getModifiers()) && isVisible(method.getDeclaringClass(), type)) {
+            setter = metafactory(BiConsumer.class, "accept", SETTER_TYPE, handle,
+                    MethodType.methodType(void.class, method.getDeclaringClass(), ClassUtils.primitiveToWrapper(type)));
+        }
+        if (null == setter) {
+            setter = setter(Modifier.isStatic(method.getModifiers()) ? MethodHandles.dropArguments(handle, 0, Object.class) : handle);
+        }
+
+        return new CheckedSetter(type, setter, (item, value) -> {
+            try {
+                method.invoke(item, value);
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format(ERROR_WRONG_PARAM, "method", method.getName(), Arrays.asList(method.getParameterTypes()), getSimpleName(value)));
+            } catch (final IllegalAccessException | InvocationTargetException e) {
+                throw new RuntimeException("Unable to invoke " + method.getName(), e);
+            }
+        });
+    }
+
+    private static BiConsumer<Object, Object> compileSetter(final Field field) throws IllegalAccessException {
+        final MethodHandle handle = LOOKUP.unreflectSetter(field);
+        final BiConsumer<Object, Object> setter = setter(Modifier.isStatic(field.getModifiers()) ? MethodHandles.dropArguments(handle, 0, Object.class) : handle);
+        return new CheckedSetter(field.getType(), setter, (item, value) -> {
+            try {
+                field.set(item, value);
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format(ERROR_WRONG_PARAM, "field", field.getName(), field.getType(), getSimpleName(value)));
+            } catch (final IllegalAccessException e) {
+                throw new RuntimeException("Unable to set " + field.getName(), e);
+            }
+        });
+    }
+
+    private static Function<Object, Object> getter(final MethodHandle handle) {
+        final MethodHandle getter = handle.asType(GETTER_TYPE);
+        return item -> {
+            try {
+                return (Object) getter.invokeExact(item);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> setter(final MethodHandle handle) {
+        final MethodHandle setter = handle.asType(SETTER_TYPE);
+        return (item, value) -> {
+            try {
+                setter.invokeExact(item, value);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    // Generates an implementation of the functional interface which invokes
+    // the method handle directly, or returns null if that is not possible.
+    private static <F> F metafactory(final Class<? super F> functionalInterface, final String name,
+                                     final MethodType samType, final MethodHandle handle, final MethodType instantiatedType) {
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(LOOKUP, name,
+                    MethodType.methodType(functionalInterface), samType, handle, instantiatedType);
+            return (F) site.getTarget().invoke();
+        } catch (final Throwable e) {
+            return null;
+        }
+    }
+
+    // A generated class can only refer to classes that can be loaded by name
+    // from Koryphe's own class loader.
+    private static boolean isVisible(final Class<?>... classes) {
+        for (final Class<?> aClass : classes) {
+            if (!aClass.isPrimitive()) {
+                try {
+                    if (aClass != Class.forName(aClass.getName(), false, ReflectiveAccessors.class.getClassLoader())) {
+                        return false;
+                    }
+                } catch (final ClassNotFoundException | LinkageError e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String getSimpleName(final Object value) {
+        return null != value ? value.getClass().getSimpleName() : null;
+    }
+
+    /**
+     * Only passes values of the exact (boxed) type to the compiled setter. Any
+     * other value is passed to the reflective fallback, which applies the usual
+     * widening conversions or reports the type mismatch.
+     */
+    private static final class CheckedSetter implements BiConsumer<Object, Object> {
+        private final Class<?> type;
+        private final boolean primitive;
+        private final BiConsumer<Object, Object> setter;
+        private final BiConsumer<Object, Object> fallback;
+
+        private CheckedSetter(final Class<?> type, final BiConsumer<Object, Object> setter, final BiConsumer<Object, Object> fallback) {
+            this.type = ClassUtils.primitiveToWrapper(type);
+            this.primitive = type.isPrimitive();
+            this.setter = setter;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public void accept(final Object item, final Object value) {
+            if (null != value ? type.isInstance(value) : !primitive) {
+                setter.accept(item, value);
+            } else {
+                fallback.accept(item, value);
+            }
+        }
+    }
+
+    private interface Compiler<M extends Member, A> {
+        A compile(M member) throws IllegalAccessException;
+    }
+
+    private static final class Compiled<A> {
+        private final Member member;
+        private final A accessor;
+
+        private Compiled(final Member member, final A accessor) {
+            this.member = member;
+            this.accessor = accessor;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2020 Crown Copyright
+ * Copyright 2018-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,15 +21,12 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -39,30 +36,49 @@ import static java.util.Objects.requireNonNull;
  * The field 'X' must either be public or have a public getter named getX or isX.
  * </p>
  * <p>
- * Reflection is expensive and this class should only be used for testing,
- * at small scales or as a temporary solution.
+ * Each field and method is compiled once into an accessor, which is shared
+ * by all {@code ReflectiveTuple}s. Where possible accessors are generated
+ * using the {@link java.lang.invoke.LambdaMetafactory}, otherwise they are
+ * invoked through a {@link java.lang.invoke.MethodHandle}. Tuples created
+ * with {@link #ReflectiveTuple(Object)} also cache the accessor for each
+ * class and reference, including references that do not exist, so the lookup
+ * is made once rather than for every record. The caches are thread safe,
+ * so {@code ReflectiveTuple}s can be used from many threads at once.
  * </p>
  */
 public class ReflectiveTuple implements Tuple<String> {
     public static final String SELECTION_S_DOES_NOT_EXIST = "Selection: %s does not exist.";
 
-    private static final Cache<Field> STATIC_FIELD_CACHE = new Cache<>();
-    private static final Cache<Method> STATIC_METHOD_CACHE = new Cache<>();
+    /**
+     * System property to limit the number of classes held by the caches
+     * shared by all {@link ReflectiveTuple}s. By default there is no limit.
+     */
+    public static final String CACHE_MAX_CLASSES = "koryphe.reflectivetuple.cache.max.classes";
+
+    private static final int STATIC_CACHE_MAX_CLASSES = Integer.getInteger(CACHE_MAX_CLASSES, 0);
+    private static final Cache<Field> STATIC_FIELD_CACHE = new Cache<>(STATIC_CACHE_MAX_CLASSES);
+    private static final Cache<Method> STATIC_METHOD_CACHE = new Cache<>(STATIC_CACHE_MAX_CLASSES);
+    private static final ReferenceCache<Function<Object, Object>> STATIC_GETTER_CACHE = new ReferenceCache<>(STATIC_CACHE_MAX_CLASSES);
+    private static final ReferenceCache<BiConsumer<Object, Object>> STATIC_SETTER_CACHE = new ReferenceCache<>(STATIC_CACHE_MAX_CLASSES);
     public static final String ERROR_WRONG_PARAM = "The put %s: %s, requires parameter of type: %s, but found: %s";
 
     private final Object record;
     private final Cache<Field> fieldCache;
     private final Cache<Method> methodCache;
+    private final ReferenceCache<Function<Object, Object>> getterCache;
+    private final ReferenceCache<BiConsumer<Object, Object>> setterCache;
 
     /**
      * @param record object to wrap
      */
     public ReflectiveTuple(final Object record) {
-        this(record, STATIC_FIELD_CACHE, STATIC_METHOD_CACHE);
+        this(record, STATIC_FIELD_CACHE, STATIC_METHOD_CACHE, STATIC_GETTER_CACHE, STATIC_SETTER_CACHE);
     }
 
     /**
      * Construct a {@link ReflectiveTuple} with the given record and caches.
+     * The given caches are used to find the field or method for a reference
+     * each time it is accessed.
      *
      * @param record      the record to expose as a {@link Tuple}.
      * @param fieldCache  the cache to use for {@link Field}s.
@@ -71,9 +87,30 @@ public class ReflectiveTuple implements Tuple<String> {
     protected ReflectiveTuple(final Object record,
                               final Cache<Field> fieldCache,
                               final Cache<Method> methodCache) {
+        this(record, fieldCache, methodCache, null, null);
+    }
+
+    /**
+     * Construct a {@link ReflectiveTuple} with the given record and caches.
+     * If the accessor caches are null, the field and method caches are used
+     * for every access.
+     *
+     * @param record      the record to expose as a {@link Tuple}.
+     * @param fieldCache  the cache to use for {@link Field}s.
+     * @param methodCache the cache to use for {@link Method}s.
+     * @param getterCache the cache to use for accessors per class and reference, or null.
+     * @param setterCache the cache to use for setters per class and reference, or null.
+     */
+    ReflectiveTuple(final Object record,
+                            final Cache<Field> fieldCache,
+                            final Cache<Method> methodCache,
+                            final ReferenceCache<Function<Object, Object>> getterCache,
+                            final ReferenceCache<BiConsumer<Object, Object>> setterCache) {
         this.record = record;
         this.fieldCache = fieldCache;
         this.methodCache = methodCache;
+        this.getterCache = getterCache;
+        this.setterCache = setterCache;
     }
 
     public Object getRecord() {
@@ -92,31 +129,7 @@ public class ReflectiveTuple implements Tuple<String> {
             return this;
         }
 
-        Object selection;
-        final int index = reference.indexOf(".");
-        if (index > -1) {
-            final String referencePart = reference.substring(0, index);
-            selection = get(referencePart);
-            final boolean hasNestedField = index + 1 < reference.length();
-            if (!hasNestedField) {
-                throw new IllegalArgumentException("nested field reference is required");
-            } else {
-                final Tuple<String> selectionAsTuple = selection instanceof Tuple ? ((Tuple) selection) : new ReflectiveTuple(selection);
-                final String subReference = reference.substring(index + 1, reference.length());
-                selection = selectionAsTuple.get(subReference);
-            }
-        } else {
-            try {
-                selection = invokeMethodGet(record, reference);
-            } catch (final IllegalAccessException | NoSuchMethodException | InvocationTargetException ignored) {
-                try {
-                    selection = invokeFieldGet(record, reference);
-                } catch (final IllegalAccessException | NoSuchFieldException ignore) {
-                    throw new RuntimeException(String.format(SELECTION_S_DOES_NOT_EXIST, reference));
-                }
-            }
-        }
-        return selection;
+        return getGetter(record.getClass(), reference).apply(record);
     }
 
     @Override
@@ -125,71 +138,147 @@ public class ReflectiveTuple implements Tuple<String> {
         if (reference.isEmpty()) {
             throw new IllegalArgumentException("field reference is required");
         }
+
+        getSetter(record.getClass(), reference).accept(record, value);
+    }
+
+    @Override
+    public Iterable<Object> values() {
+        throw new UnsupportedOperationException("This " + getClass().getSimpleName() + " does not support listing all values.");
+    }
+
+    // Resolves the getter for a reference, and caches it if this tuple has a
+    // getter cache. Nested references, such as a.b.c, are split once into a
+    // getter for the first part, which then delegates the remainder to the
+    // selected value.
+    private Function<Object, Object> getGetter(final Class<?> aClass, final String reference) {
+        if (isNull(getterCache)) {
+            return resolveGetter(aClass, reference);
+        }
+
+        Function<Object, Object> getter = getterCache.get(aClass, reference);
+        if (isNull(getter)) {
+            getter = resolveGetter(aClass, reference);
+            getterCache.put(aClass, reference, getter);
+        }
+
+        return getter;
+    }
+
+    private Function<Object, Object> resolveGetter(final Class<?> aClass, final String reference) {
         final int index = reference.indexOf(".");
         if (index > -1) {
-            final String referencePart = reference.substring(0, index);
+            final Function<Object, Object> parentGetter = getNestedGetter(aClass, reference.substring(0, index));
             final boolean hasNestedField = index + 1 < reference.length();
             if (!hasNestedField) {
                 throw new IllegalArgumentException("nested field reference is required");
             }
-            final Object nestedField = get(referencePart);
-            final Tuple<String> selectionAsTuple = nestedField instanceof Tuple ? ((Tuple) nestedField) : new ReflectiveTuple(nestedField);
-            final String subReference = reference.substring(index + 1, reference.length());
-            selectionAsTuple.put(subReference, value);
-        } else {
-            try {
-                invokeMethodPut(record, reference, value);
-            } catch (final IllegalAccessException | NoSuchMethodException | InvocationTargetException ignored) {
-                try {
-                    invokeFieldPut(record, reference, value);
-                } catch (final IllegalAccessException | NoSuchFieldException ignore) {
-                    throw new RuntimeException(String.format(SELECTION_S_DOES_NOT_EXIST, reference));
-                }
-            }
+            final String subReference = reference.substring(index + 1);
+            return item -> asTuple(parentGetter.apply(item)).get(subReference);
         }
+
+        return compileGetter(aClass, reference);
     }
 
-    @Override
-    public Iterable<Object> values() {
-        throw new UnsupportedOperationException("This " + getClass().getSimpleName() + " does not support listing all values.");
+    private BiConsumer<Object, Object> getSetter(final Class<?> aClass, final String reference) {
+        if (isNull(setterCache)) {
+            return resolveSetter(aClass, reference);
+        }
+
+        BiConsumer<Object, Object> setter = setterCache.get(aClass, reference);
+        if (isNull(setter)) {
+            setter = resolveSetter(aClass, reference);
+            setterCache.put(aClass, reference, setter);
+        }
+
+        return setter;
     }
 
-    private Object invokeFieldGet(final Object item, final String reference) throws IllegalAccessException, NoSuchFieldException {
-        //invoked value can be null
-        return getField(item.getClass(), reference).get(item);
+    private BiConsumer<Object, Object> resolveSetter(final Class<?> aClass, final String reference) {
+        final int index = reference.indexOf(".");
+        if (index > -1) {
+            final boolean hasNestedField = index + 1 < reference.length();
+            if (!hasNestedField) {
+                throw new IllegalArgumentException("nested field reference is required");
+            }
+            final Function<Object, Object> parentGetter = getNestedGetter(aClass, reference.substring(0, index));
+            final String subReference = reference.substring(index + 1);
+            return (item, value) -> asTuple(parentGetter.apply(item)).put(subReference, value);
+        }
+
+        return compileSetter(aClass, reference);
     }
 
-    private Object invokeMethodGet(final Object item, final String reference) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        Method method;
-        try {
-            method = getGetMethod(item.getClass(), getPrefixRef("get", reference));
-        } catch (final Exception e) {
-            // ignore
-            method = getGetMethod(item.getClass(), getPrefixRef("is", reference));
+    private Function<Object, Object> getNestedGetter(final Class<?> aClass, final String reference) {
+        if (reference.isEmpty()) {
+            throw new IllegalArgumentException("field reference is required");
+        }
+
+        if (THIS.equals(reference)) {
+            return ReflectiveTuple::new;
         }
 
-        //invoked value can be null
-        return method.invoke(item);
+        final Function<Object, Object> getter = getGetter(aClass, reference);
+        if (getter instanceof Missing) {
+            throw ((Missing) getter).toException();
+        }
+        return getter;
     }
 
-    private void invokeFieldPut(final Object item, final String reference, final Object value) throws IllegalAccessException, NoSuchFieldException {
-        final Field field = getField(item.getClass(), reference);
+    private Function<Object, Object> compileGetter(final Class<?> aClass, final String reference) {
         try {
-            field.set(item, value);
-        } catch (final IllegalArgumentException e) {
-            throw new IllegalArgumentException(String.format(ERROR_WRONG_PARAM, "field", field.getName(), field.getType(), value.getClass().getSimpleName()));
+            return ReflectiveAccessors.getter(getGetMethod(aClass, reference));
+        } catch (final IllegalAccessException | NoSuchMethodException ignored) {
+            try {
+                return ReflectiveAccessors.getter(getField(aClass, reference));
+            } catch (final IllegalAccessException | NoSuchFieldException ignore) {
+                return new Missing(reference);
+            }
         }
     }
 
-    private void invokeMethodPut(final Object item, final String reference, final Object value) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        final Method method = getSetMethod(item.getClass(), getPrefixRef("set", reference));
+    private BiConsumer<Object, Object> compileSetter(final Class<?> aClass, final String reference) {
         try {
-            method.invoke(item, value);
-        } catch (final IllegalArgumentException e) {
-            throw new IllegalArgumentException(String.format(ERROR_WRONG_PARAM, "method", method.getName(), Arrays.asList(method.getParameterTypes()), value.getClass().getSimpleName()));
+            return ReflectiveAccessors.setter(getSetMethod(aClass, getPrefixRef("set", reference)));
+        } catch (final IllegalAccessException | NoSuchMethodException ignored) {
+            try {
+                return ReflectiveAccessors.setter(getField(aClass, reference));
+            } catch (final IllegalAccessException | NoSuchFieldException ignore) {
+                return new Missing(reference);
+            }
+        }
+    }
+
+    /**
+     * Cached in place of an accessor when a reference does not exist on a
+     * class, so the failed lookup is made once rather than for every record.
+     */
+    private static final class Missing implements Function<Object, Object>, BiConsumer<Object, Object> {
+        private final String reference;
+
+        private Missing(final String reference) {
+            this.reference = reference;
+        }
+
+        private RuntimeException toException() {
+            return new RuntimeException(String.format(SELECTION_S_DOES_NOT_EXIST, reference));
+        }
+
+        @Override
+        public Object apply(final Object item) {
+            throw toException();
+        }
+
+        @Override
+        public void accept(final Object item, final Object value) {
+            throw toException();
         }
     }
 
+    private static Tuple<String> asTuple(final Object selection) {
+        return selection instanceof Tuple ? ((Tuple) selection) : new ReflectiveTuple(selection);
+    }
+
     private Field getField(final Class<?> aClass, final String reference) throws NoSuchFieldException {
         Field rtn = fieldCache.get(aClass, reference);
         if (isNull(rtn)) {
@@ -201,6 +290,14 @@ public class ReflectiveTuple implements Tuple<String> {
     }
 
     private Method getGetMethod(final Class<?> aClass, final String reference) throws NoSuchMethodException {
+        try {
+            return getMethod(aClass, getPrefixRef("get", reference));
+        } catch (final NoSuchMethodException e) {
+            return getMethod(aClass, getPrefixRef("is", reference));
+        }
+    }
+
+    private Method getMethod(final Class<?> aClass, final String reference) throws NoSuchMethodException {
         Method rtn = methodCache.get(aClass, reference);
         if (isNull(rtn)) {
             rtn = aClass.getMethod(reference);
@@ -233,28 +330,47 @@ public class ReflectiveTuple implements Tuple<String> {
         return startsWithPrefix ? reference : prefix + Character.toUpperCase(reference.charAt(0)) + reference.substring(1);
     }
 
+    /**
+     * A thread safe cache of {@link AccessibleObject}s per class and reference.
+     * See {@link ReflectiveTuple#CACHE_MAX_CLASSES} to bound the size of the
+     * caches shared by all {@link ReflectiveTuple}s.
+     *
+     * @param <T> the type of {@link AccessibleObject} to cache
+     */
     public static class Cache<T extends AccessibleObject> {
-        private final Map<Class, Map<String, T>> cache = new HashMap<>();
+        private final ReferenceCache<T> cache;
 
-        public T get(final Class<?> itemClass, final String reference) {
-            requireNonNull(itemClass);
-            requireNonNull(reference);
+        public Cache() {
+            this(0);
+        }
 
-            T rtn = null;
-            final Map<String, T> map = cache.get(itemClass);
-            if (nonNull(map)) {
-                rtn = map.get(reference);
-            }
-            return rtn;
+        /**
+         * @param maxClasses the maximum number of classes to cache, or 0 or
+         *                   less for no limit. Once exceeded the entries for
+         *                   the least recently added classes are evicted.
+         */
+        public Cache(final int maxClasses) {
+            this.cache = new ReferenceCache<>(maxClasses);
+        }
+
+        public T get(final Class<?> itemClass, final String reference) {
+            return cache.get(itemClass, reference);
         }
 
         public T put(final Class<?> itemClass, final String reference, final T accessibleObject) {
-            Map<String, T> accessibleObjectMap = cache.get(itemClass);
-            if (isNull(accessibleObjectMap)) {
-                accessibleObjectMap = new HashMap<>();
-                cache.put(itemClass, accessibleObjectMap);
-            }
-            return accessibleObjectMap.put(reference, accessibleObject);
+            return cache.put(itemClass, reference, accessibleObject);
+        }
+
+        public int getMaxClasses() {
+            return cache.getMaxClasses();
+        }
+
+        public long getHitCount() {
+            return cache.getHitCount();
+        }
+
+        public long getMissCount() {
+            return cache.getMissCount();
         }
     }
 
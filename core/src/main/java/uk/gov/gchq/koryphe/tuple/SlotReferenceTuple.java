@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * A {@link ReferenceArrayTuple} over a {@link LayoutTuple}, which accesses the
+ * selected fields by slot rather than by reference.
+ *
+ * @param <R> The type of reference used by the viewed tuple.
+ */
+final class SlotReferenceTuple<R> extends ReferenceArrayTuple<R> {
+    private final int[] slots;
+
+    SlotReferenceTuple(final LayoutTuple<R> tuple, final R[] fields, final int[] slots) {
+        super(tuple, fields);
+        this.slots = slots;
+    }
+
+    @Override
+    public Object get(final Integer index) {
+        final LayoutTuple<R> tuple = (LayoutTuple<R>) getTuple();
+        if (null != tuple && index < slots.length) {
+            return tuple.get(slots[index]);
+        }
+
+        return null;
+    }
+
+    @Override
+    public void put(final Integer index, final Object value) {
+        final LayoutTuple<R> tuple = (LayoutTuple<R>) getTuple();
+        if (null != tuple && index < slots.length) {
+            tuple.put(slots[index], value);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!super.equals(obj)) {
+            return false; // Does class checking
+        }
+
+        return new EqualsBuilder()
+                .append(slots, ((SlotReferenceTuple) obj).slots)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(13, 31)
+                .appendSuper(super.hashCode())
+                .append(slots)
+                .toHashCode();
+    }
+}
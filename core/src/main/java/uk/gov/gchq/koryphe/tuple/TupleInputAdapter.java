@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.koryphe.tuple;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -36,12 +37,15 @@ import static uk.gov.gchq.koryphe.util.JavaUtils.requireNonNullElse;
 @Summary("Extracts items from a tuple")
 public class TupleInputAdapter<R, FI> extends KorypheFunction<Tuple<R>, FI> {
     private R[] selection;
+    private ThreadLocal<View<R>> views;
+    private TupleLayout<R> layout;
+    private int[] slots;
 
     /**
      * Create a new <code>TupleMask</code>.
      */
     public TupleInputAdapter() {
-        selection = (R[]) new Object[0];
+        setSelection(null);
     }
 
     /**
@@ -59,6 +63,14 @@ public class TupleInputAdapter<R, FI> extends KorypheFunction<Tuple<R>, FI> {
             throw new IllegalArgumentException("Selection is required");
         }
 
+        if (isBound(input)) {
+            final LayoutTuple<R> layoutTuple = (LayoutTuple<R>) input;
+            if (1 == slots.length) {
+                return (FI) layoutTuple.get(slots[0]);
+            }
+            return (FI) new SlotReferenceTuple<>(layoutTuple, selection, slots);
+        }
+
         if (null != input) {
             if (1 == selection.length) {
                 return (FI) input.get(selection[0]);
@@ -68,6 +80,88 @@ public class TupleInputAdapter<R, FI> extends KorypheFunction<Tuple<R>, FI> {
         return (FI) new ReferenceArrayTuple<>(input, selection);
     }
 
+    /**
+     * Extracts the selected items from a tuple in the same way as
+     * {@link #apply(Tuple)}, but when more than one field is selected the
+     * items are returned in a {@link ReferenceArrayTuple} that is reused by
+     * the calling thread, rather than in a new one. The result must be passed
+     * to {@link #releaseView(Object)} once it is no longer needed, and should
+     * not be retained by the caller after that.
+     *
+     * @param input the tuple to extract items from
+     * @return the selected item, or a reused view of the selected items
+     */
+    public FI applyReusingView(final Tuple<R> input) {
+        if (null == selection) {
+            throw new IllegalArgumentException("Selection is required");
+        }
+
+        if (null != input && 1 == selection.length) {
+            return apply(input);
+        }
+
+        final View<R> view = views.get();
+        if (view.inUse) {
+            // Re-entrant call on this thread, so the view cannot be shared
+            return apply(input);
+        }
+
+        view.inUse = true;
+        if (isBound(input)) {
+            view.slotTuple.setTuple(input);
+            return (FI) view.slotTuple;
+        }
+        view.tuple.setTuple(input);
+        return (FI) view.tuple;
+    }
+
+    /**
+     * Releases a result of {@link #applyReusingView(Tuple)}, so the calling
+     * thread can reuse its view for the next input.
+     *
+     * @param adapted the result to release
+     */
+    public void releaseView(final FI adapted) {
+        final View<R> view = views.get();
+        if (view.tuple == adapted || view.slotTuple == adapted) {
+            view.inUse = false;
+        }
+    }
+
+    /**
+     * Bind the selection to a {@link TupleLayout}, so items are extracted
+     * from {@link LayoutTuple}s with that layout instance by slot rather than
+     * by reference. Other tuples are still accessed by reference.
+     *
+     * @param layout the layout to bind to, or null to remove the binding
+     * @throws IllegalArgumentException if a selected reference is not in the layout
+     */
+    public void bind(final TupleLayout<R> layout) {
+        this.slots = null == layout ? null : layout.slotsOf(selection);
+        this.layout = layout;
+        resetViews();
+    }
+
+    /**
+     * @return the layout the selection is bound to, or null if it is not bound.
+     */
+    @JsonIgnore
+    public TupleLayout<R> getLayout() {
+        return layout;
+    }
+
+    private boolean isBound(final Tuple<R> input) {
+        return null != layout && input instanceof LayoutTuple && ((LayoutTuple<R>) input).getLayout() == layout;
+    }
+
+    private void resetViews() {
+        final R[] fields = selection;
+        final int[] fieldSlots = slots;
+        views = ThreadLocal.withInitial(() -> new View<>(
+                new ReferenceArrayTuple<>(null, fields),
+                null == fieldSlots ? null : new SlotReferenceTuple<>(null, fields, fieldSlots)));
+    }
+
     /**
      * @return Field references.
      */
@@ -83,6 +177,7 @@ public class TupleInputAdapter<R, FI> extends KorypheFunction<Tuple<R>, FI> {
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Cloning the array would be expensive - we will have to reply on users not modifying the array")
     public void setSelection(final R[] selection) {
         this.selection = requireNonNullElse(selection, (R[]) new Object[0]);
+        bind(layout);
     }
 
     @Override
@@ -108,4 +203,15 @@ public class TupleInputAdapter<R, FI> extends KorypheFunction<Tuple<R>, FI> {
                 .append(selection)
                 .toHashCode();
     }
+
+    private static final class View<R> {
+        private final ReferenceArrayTuple<R> tuple;
+        private final SlotReferenceTuple<R> slotTuple;
+        private boolean inUse;
+
+        private View(final ReferenceArrayTuple<R> tuple, final SlotReferenceTuple<R> slotTuple) {
+            this.tuple = tuple;
+            this.slotTuple = slotTuple;
+        }
+    }
 }
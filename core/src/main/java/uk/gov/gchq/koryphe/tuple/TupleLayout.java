@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A <code>TupleLayout</code> is a fixed, ordered set of field references,
+ * each of which is assigned a slot. It is used to create {@link LayoutTuple}s
+ * and to resolve selections and projections to slots once, rather than on
+ * every access.
+ *
+ * @param <R> The type of reference used to identify fields.
+ */
+public final class TupleLayout<R> {
+    private final R[] references;
+    private final Map<R, Integer> slots;
+
+    /**
+     * Create a <code>TupleLayout</code> with the given field references, in slot order.
+     *
+     * @param references Field references.
+     */
+    @SafeVarargs
+    public TupleLayout(final R... references) {
+        if (null == references) {
+            throw new IllegalArgumentException("References are required");
+        }
+
+        this.references = Arrays.copyOf(references, references.length);
+        this.slots = new HashMap<>(references.length * 2);
+        for (int i = 0; i < references.length; i++) {
+            if (null != slots.put(references[i], i)) {
+                throw new IllegalArgumentException("Duplicate reference in tuple layout: " + references[i]);
+            }
+        }
+    }
+
+    /**
+     * @param reference Field reference.
+     * @return the slot of the reference, or -1 if it is not in this layout.
+     */
+    public int slotOf(final R reference) {
+        final Integer slot = slots.get(reference);
+        return null == slot ? -1 : slot;
+    }
+
+    /**
+     * Resolve field references to their slots.
+     *
+     * @param references Field references.
+     * @return the slots of the references, in the same order.
+     * @throws IllegalArgumentException if a reference is not in this layout.
+     */
+    public int[] slotsOf(final R[] references) {
+        final int[] result = new int[references.length];
+        for (int i = 0; i < references.length; i++) {
+            result[i] = slotOf(references[i]);
+            if (result[i] < 0) {
+                throw new IllegalArgumentException("Reference is not in tuple layout: " + references[i]);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return references.length;
+    }
+
+    public R[] getReferences() {
+        return Arrays.copyOf(references, references.length);
+    }
+
+    /**
+     * @return a new, empty {@link LayoutTuple} with this layout.
+     */
+    public LayoutTuple<R> newTuple() {
+        return new LayoutTuple<>(this);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final TupleLayout<?> that = (TupleLayout<?>) obj;
+
+        return new EqualsBuilder()
+                .append(references, that.references)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37)
+                .append(references)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("references", references)
+                .build();
+    }
+}
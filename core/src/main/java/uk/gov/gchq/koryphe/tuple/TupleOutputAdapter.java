@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,8 @@ import static uk.gov.gchq.koryphe.util.JavaUtils.requireNonNullElse;
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, property = "class")
 public class TupleOutputAdapter<R, FO> implements BiFunction<Tuple<R>, FO, Tuple<R>> {
     private R[] projection;
+    private TupleLayout<R> layout;
+    private int[] slots;
 
     /**
      * Create a new <code>TupleMask</code>.
@@ -61,7 +63,17 @@ public class TupleOutputAdapter<R, FO> implements BiFunction<Tuple<R>, FO, Tuple
             throw new IllegalArgumentException("Projection is required");
         }
 
-        if (null != state) {
+        if (null != layout && state instanceof LayoutTuple && ((LayoutTuple<R>) state).getLayout() == layout) {
+            final LayoutTuple<R> layoutTuple = (LayoutTuple<R>) state;
+            if (1 == slots.length) {
+                layoutTuple.put(slots[0], output);
+            } else {
+                int i = 0;
+                for (final Object obj : (Iterable) output) {
+                    layoutTuple.put(slots[i++], obj);
+                }
+            }
+        } else if (null != state) {
             if (1 == projection.length) {
                 state.put(projection[0], output);
             } else {
@@ -83,6 +95,22 @@ public class TupleOutputAdapter<R, FO> implements BiFunction<Tuple<R>, FO, Tuple
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Cloning the array would be expensive - we will have to reply on users not modifying the array")
     public void setProjection(final R[] projection) {
         this.projection = requireNonNullElse(projection, (R[]) new Object[0]);
+        if (null != layout) {
+            bind(layout);
+        }
+    }
+
+    /**
+     * Bind the projection to a {@link TupleLayout}, so items are put into
+     * {@link LayoutTuple}s with that layout instance by slot rather than by
+     * reference. Other tuples are still accessed by reference.
+     *
+     * @param layout the layout to bind to, or null to remove the binding
+     * @throws IllegalArgumentException if a projected reference is not in the layout
+     */
+    public void bind(final TupleLayout<R> layout) {
+        this.slots = null == layout ? null : layout.slotsOf(projection);
+        this.layout = layout;
     }
 
     /**
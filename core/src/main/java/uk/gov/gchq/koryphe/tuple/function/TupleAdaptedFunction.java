@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,10 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.function.AdaptedFunction;
+import uk.gov.gchq.koryphe.tuple.ColumnBatch;
 import uk.gov.gchq.koryphe.tuple.Tuple;
 import uk.gov.gchq.koryphe.tuple.TupleInputAdapter;
+import uk.gov.gchq.koryphe.tuple.TupleLayout;
 import uk.gov.gchq.koryphe.tuple.TupleOutputAdapter;
 
 import java.util.function.Function;
@@ -77,6 +79,35 @@ public class TupleAdaptedFunction<R, FI, FO> extends AdaptedFunction<Tuple<R>, F
         getOutputAdapter().setProjection(fields);
     }
 
+    /**
+     * Bind the selection and projection to a {@link TupleLayout}, so that
+     * {@link uk.gov.gchq.koryphe.tuple.LayoutTuple}s with that layout are
+     * accessed by slot rather than by reference.
+     *
+     * @param layout the layout to bind to, or null to remove the binding
+     * @return this function
+     * @throws IllegalArgumentException if a selected or projected reference is not in the layout
+     */
+    public TupleAdaptedFunction<R, FI, FO> bind(final TupleLayout<R> layout) {
+        getInputAdapter().bind(layout);
+        getOutputAdapter().bind(layout);
+        return this;
+    }
+
+    /**
+     * Apply the function to every tuple in a {@link ColumnBatch}, reading the
+     * selected columns and writing the projected columns in a single pass,
+     * rather than adapting each tuple in turn.
+     *
+     * @param batch the batch of tuples to transform in place
+     * @return the batch
+     * @throws IllegalArgumentException if a selected or projected reference is not in the batch layout
+     */
+    public ColumnBatch<R> applyBatch(final ColumnBatch<R> batch) {
+        batch.apply(getSelection(), function, getProjection());
+        return batch;
+    }
+
     @JsonIgnore
     @Override
     public TupleInputAdapter<R, FI> getInputAdapter() {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,11 +21,14 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.function.FunctionComposite;
+import uk.gov.gchq.koryphe.tuple.ColumnBatch;
 import uk.gov.gchq.koryphe.tuple.Tuple;
 
 import java.util.List;
 import java.util.function.Function;
 
+import static java.util.Objects.nonNull;
+
 /**
  * A {@link uk.gov.gchq.koryphe.composite.Composite} {@link TupleAdaptedFunction}, allowing different
  * {@link Function}s to be applied to different fields in tuples as a single Function.
@@ -41,6 +44,25 @@ public class TupleAdaptedFunctionComposite<R>
         return super.getComponents();
     }
 
+    /**
+     * Apply the components to every tuple in a {@link ColumnBatch}, one
+     * component at a time. Each component transforms the whole batch before
+     * the next is applied, which gives the same result as applying the
+     * components to each tuple in turn.
+     *
+     * @param batch the batch of tuples to transform in place
+     * @return the batch
+     * @throws IllegalArgumentException if a selected or projected reference is not in the batch layout
+     */
+    public ColumnBatch<R> applyBatch(final ColumnBatch<R> batch) {
+        if (nonNull(components)) {
+            for (final TupleAdaptedFunction<R, ?, ?> component : components) {
+                component.applyBatch(batch);
+            }
+        }
+        return batch;
+    }
+
     public static class Builder<R> {
         private final TupleAdaptedFunctionComposite<R> transformer;
 
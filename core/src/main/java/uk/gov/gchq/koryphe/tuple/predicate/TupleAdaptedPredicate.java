@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,12 +24,15 @@ import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.predicate.AdaptedPredicate;
 import uk.gov.gchq.koryphe.tuple.Tuple;
 import uk.gov.gchq.koryphe.tuple.TupleInputAdapter;
+import uk.gov.gchq.koryphe.tuple.TupleLayout;
 
 import java.util.function.Predicate;
 
 /**
  * A <code>TupleAdaptedPredicate</code> adapts a {@link Predicate} so it can be applied to selected
- * fields from a {@link Tuple}.
+ * fields from a {@link Tuple}. When more than one field is selected, the selected
+ * fields are passed to the predicate in a view that is reused by each thread, so
+ * the predicate should not retain its input.
  *
  * @param <R>  Reference type used by tuples
  * @param <PI> Input type of the Predicate
@@ -52,6 +55,25 @@ public class TupleAdaptedPredicate<R, PI> extends AdaptedPredicate<Tuple<R>, PI>
         setSelection(selection);
     }
 
+    @Override
+    public boolean test(final Tuple<R> input) {
+        if (null == predicate) {
+            return true;
+        }
+
+        if (!(inputAdapter instanceof TupleInputAdapter)) {
+            return super.test(input);
+        }
+
+        final TupleInputAdapter<R, PI> adapter = (TupleInputAdapter<R, PI>) inputAdapter;
+        final PI adapted = adapter.applyReusingView(input);
+        try {
+            return predicate.test(adapted);
+        } finally {
+            adapter.releaseView(adapted);
+        }
+    }
+
     public R[] getSelection() {
         return getInputAdapter().getSelection();
     }
@@ -60,6 +82,20 @@ public class TupleAdaptedPredicate<R, PI> extends AdaptedPredicate<Tuple<R>, PI>
         getInputAdapter().setSelection(selection);
     }
 
+    /**
+     * Bind the selection to a {@link TupleLayout}, so that
+     * {@link uk.gov.gchq.koryphe.tuple.LayoutTuple}s with that layout are
+     * accessed by slot rather than by reference.
+     *
+     * @param layout the layout to bind to, or null to remove the binding
+     * @return this predicate
+     * @throws IllegalArgumentException if a selected reference is not in the layout
+     */
+    public TupleAdaptedPredicate<R, PI> bind(final TupleLayout<R> layout) {
+        getInputAdapter().bind(layout);
+        return this;
+    }
+
     @JsonIgnore
     @Override
     public TupleInputAdapter<R, PI> getInputAdapter() {
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import java.util.Arrays;
+
+/**
+ * Utility methods for bitmaps held in <code>long[]</code>s, where bit
+ * <code>i</code> is bit <code>i % 64</code> of word <code>i / 64</code>.
+ */
+public final class BitmapUtil {
+    private BitmapUtil() {
+    }
+
+    /**
+     * @param count the number of bits
+     * @return the number of words needed to hold the bits
+     */
+    public static int words(final int count) {
+        return (count + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Clear the first <code>count</code> bits.
+     *
+     * @param bitmap the bitmap
+     * @param count  the number of bits to clear
+     */
+    public static void clear(final long[] bitmap, final int count) {
+        Arrays.fill(bitmap, 0, words(count), 0L);
+    }
+
+    /**
+     * Set the first <code>count</code> bits, clearing any other bits in the
+     * same words.
+     *
+     * @param bitmap the bitmap
+     * @param count  the number of bits to set
+     */
+    public static void setAll(final long[] bitmap, final int count) {
+        final int words = words(count);
+        Arrays.fill(bitmap, 0, words, -1L);
+        if (0 != (count & 63)) {
+            bitmap[words - 1] = -1L >>> (Long.SIZE - (count & 63));
+        }
+    }
+
+    public static void set(final long[] bitmap, final int index) {
+        bitmap[index >>> 6] |= 1L << index;
+    }
+
+    public static void unset(final long[] bitmap, final int index) {
+        bitmap[index >>> 6] &= ~(1L << index);
+    }
+
+    public static boolean isSet(final long[] bitmap, final int index) {
+        return 0 != (bitmap[index >>> 6] & (1L << index));
+    }
+
+    /**
+     * @param bitmap the bitmap
+     * @param count  the number of bits to count over
+     * @return the number of the first <code>count</code> bits that are set
+     */
+    public static int cardinality(final long[] bitmap, final int count) {
+        final int words = count >>> 6;
+        int cardinality = 0;
+        for (int i = 0; i < words; i++) {
+            cardinality += Long.bitCount(bitmap[i]);
+        }
+        if (0 != (count & 63)) {
+            cardinality += Long.bitCount(bitmap[words] & (-1L >>> (Long.SIZE - (count & 63))));
+        }
+        return cardinality;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collection;
+
+/**
+ * A read only Bloom filter of values, which reports whether a value might be
+ * one of the values it was created from. It never reports that a value is
+ * absent when it was one of the values, but reports a small proportion of
+ * other values as present, at a rate chosen when the filter is created.
+ * <p>
+ * A filter uses about 10 bits per value for a false positive rate of 1%,
+ * and is serialised to JSON as the number of hashes and its bits encoded in
+ * Base64, so it can be used in place of a large set of values.
+ * <p>
+ * Values are hashed so that a filter gives the same results in every JVM:
+ * strings and integral numbers are hashed from their contents, so
+ * <code>1</code> and <code>1L</code> hash differently, and other values are
+ * hashed from their class name and {@link Object#hashCode()}, which must be
+ * consistent between JVMs.
+ */
+@JsonPropertyOrder(value = {"numHashes", "bits"}, alphabetic = true)
+public final class BloomFilter {
+    /**
+     * The maximum number of hashes per value.
+     */
+    public static final int MAX_HASHES = 30;
+
+    /**
+     * The maximum number of bits in a filter, which is 512MB.
+     */
+    public static final long MAX_BITS = 1L << 32;
+
+    private static final double LN_2 = Math.log(2);
+    private static final long NULL_HASH = 0x6A09E667F3BCC908L;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final int numHashes;
+    private final long[] bits;
+    private final long numBits;
+
+    private BloomFilter(final int numHashes, final long[] bits) {
+        if (numHashes < 1 || numHashes > MAX_HASHES) {
+            throw new IllegalArgumentException("Number of hashes must be between 1 and " + MAX_HASHES + " but was " + numHashes);
+        }
+        if (0 == bits.length || (long) bits.length * Long.SIZE > MAX_BITS) {
+            throw new IllegalArgumentException("Bloom filter must have between 1 and " + MAX_BITS + " bits");
+        }
+        this.numHashes = numHashes;
+        this.bits = bits;
+        this.numBits = (long) bits.length * Long.SIZE;
+    }
+
+    @JsonCreator
+    private BloomFilter(@JsonProperty("numHashes") final int numHashes, @JsonProperty("bits") final byte[] bytes) {
+        this(numHashes, toWords(bytes));
+    }
+
+    /**
+     * Create a filter of the values, sized for the false positive rate.
+     *
+     * @param values            the values to add to the filter
+     * @param falsePositiveRate the proportion of other values that should be reported as present,
+     *                          between 0 and 1 exclusive
+     * @return the filter.
+     */
+    public static BloomFilter of(final Collection<?> values, final double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1 exclusive but was " + falsePositiveRate);
+        }
+
+        final int count = Math.max(1, values.size());
+        final double optimalBits = Math.ceil(-count * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        final int words = (int) Math.min(MAX_BITS / Long.SIZE, Math.ceil(optimalBits / Long.SIZE));
+        final long numBits = (long) words * Long.SIZE;
+        final int numHashes = (int) Math.max(1, Math.min(MAX_HASHES, Math.round((double) numBits / count * LN_2)));
+
+        final BloomFilter filter = new BloomFilter(numHashes, new long[words]);
+        for (final Object value : values) {
+            filter.add(value);
+        }
+        return filter;
+    }
+
+    /**
+     * @param value the value to look up
+     * @return false if the value is definitely not one of the values, or true if it might be.
+     */
+    public boolean mightContain(final Object value) {
+        final long hash = hash(value);
+        final long step = mix(hash ^ FNV_OFFSET) | 1L;
+        long combined = hash;
+        for (int i = 0; i < numHashes; i++) {
+            final long index = index(combined);
+            if (0 == (bits[(int) (index >>> 6)] & (1L << index))) {
+                return false;
+            }
+            combined += step;
+        }
+        return true;
+    }
+
+    @JsonProperty("numHashes")
+    public int getNumHashes() {
+        return numHashes;
+    }
+
+    @JsonProperty("bits")
+    public byte[] getBits() {
+        final ByteBuffer buffer = ByteBuffer.allocate(bits.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(bits);
+        return buffer.array();
+    }
+
+    @JsonIgnore
+    public long getNumBits() {
+        return numBits;
+    }
+
+    /**
+     * Estimate the false positive rate from the proportion of bits that are
+     * set, which is close to the rate the filter was created with unless it
+     * was limited by the maximum size of a filter.
+     *
+     * @return the estimated false positive rate.
+     */
+    @JsonIgnore
+    public double getFalsePositiveRate() {
+        long setBits = 0;
+        for (final long word : bits) {
+            setBits += Long.bitCount(word);
+        }
+        return Math.pow((double) setBits / numBits, numHashes);
+    }
+
+    private void add(final Object value) {
+        final long hash = hash(value);
+        final long step = mix(hash ^ FNV_OFFSET) | 1L;
+        long combined = hash;
+        for (int i = 0; i < numHashes; i++) {
+            final long index = index(combined);
+            bits[(int) (index >>> 6)] |= 1L << index;
+            combined += step;
+        }
+    }
+
+    // Maps the top 32 bits of the hash onto the bits without a division
+    private long index(final long combined) {
+        return ((combined >>> 32) * numBits) >>> 32;
+    }
+
+    private static long hash(final Object value) {
+        if (null == value) {
+            return NULL_HASH;
+        }
+        if (value instanceof String) {
+            return mix(fnv(FNV_OFFSET, (String) value));
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return mix(((Number) value).longValue() * FNV_PRIME + value.getClass().getSimpleName().hashCode());
+        }
+        return mix(fnv(FNV_OFFSET, value.getClass().getName()) * FNV_PRIME + value.hashCode());
+    }
+
+    private static long fnv(final long seed, final String value) {
+        long hash = seed;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    // The MurmurHash3 finaliser, so every bit of the input affects every bit of the hash
+    private static long mix(final long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static long[] toWords(final byte[] bytes) {
+        if (null == bytes || 0 != bytes.length % Long.BYTES) {
+            throw new IllegalArgumentException("Bloom filter bits must be a whole number of 8 byte words");
+        }
+        final long[] words = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(words);
+        return words;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (null == obj || !getClass().equals(obj.getClass())) {
+            return false;
+        }
+
+        final BloomFilter that = (BloomFilter) obj;
+        return new EqualsBuilder()
+                .append(numHashes, that.numHashes)
+                .append(bits, that.bits)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37)
+                .append(numHashes)
+                .append(bits)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("numHashes", numHashes)
+                .append("numBits", numBits)
+                .toString();
+    }
+}
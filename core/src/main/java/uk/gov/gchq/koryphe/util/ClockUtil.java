@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utility methods for the {@link Clock}s used by predicates that compare
+ * values with the current time.
+ * <p>
+ * By default the system clock is used. If the system property
+ * {@link #CLOCK_REFRESH_MILLIS} is set to a positive number of milliseconds,
+ * a coarse clock that is refreshed at that interval is used instead, so reading
+ * the time is a single memory read.
+ */
+public final class ClockUtil {
+    public static final String CLOCK_REFRESH_MILLIS = "koryphe.clock.refresh.millis";
+
+    private static final ConcurrentMap<Long, Ticker> TICKERS = new ConcurrentHashMap<>();
+
+    private ClockUtil() {
+    }
+
+    /**
+     * @return the coarse clock configured by {@link #CLOCK_REFRESH_MILLIS},
+     * or the system clock if it is not set.
+     */
+    public static Clock getClockDefault() {
+        final String refreshMillis = System.getProperty(CLOCK_REFRESH_MILLIS);
+        if (null != refreshMillis) {
+            try {
+                final long millis = Long.parseLong(refreshMillis.trim());
+                if (millis > 0) {
+                    return coarseClock(millis);
+                }
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + CLOCK_REFRESH_MILLIS + ": " + refreshMillis, e);
+            }
+        }
+        return Clock.systemUTC();
+    }
+
+    /**
+     * Get a clock that returns the system time, updated by a background
+     * daemon thread at a fixed interval rather than read on every call.
+     * The time may be behind the system time by up to the interval.
+     * Clocks with the same interval share the same thread.
+     *
+     * @param refreshMillis the interval between updates, in milliseconds
+     * @return the clock, in UTC.
+     */
+    public static Clock coarseClock(final long refreshMillis) {
+        if (refreshMillis <= 0) {
+            throw new IllegalArgumentException("Refresh interval must be positive but was " + refreshMillis);
+        }
+        return new CoarseClock(TICKERS.computeIfAbsent(refreshMillis, Ticker::new), ZoneOffset.UTC);
+    }
+
+    /**
+     * Holds the time, which is updated by the scheduler.
+     */
+    private static final class Ticker {
+        private final long refreshMillis;
+        private volatile long millis = System.currentTimeMillis();
+
+        private Ticker(final long refreshMillis) {
+            this.refreshMillis = refreshMillis;
+            Scheduler.INSTANCE.scheduleAtFixedRate(this::tick, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private void tick() {
+            millis = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * A single daemon thread, created when the first coarse clock is used.
+     */
+    private static final class Scheduler {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "koryphe-coarse-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private Scheduler() {
+        }
+    }
+
+    private static final class CoarseClock extends Clock {
+        private final Ticker ticker;
+        private final ZoneId zone;
+
+        private CoarseClock(final Ticker ticker, final ZoneId zone) {
+            this.ticker = ticker;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return zone.equals(this.zone) ? this : new CoarseClock(ticker, zone);
+        }
+
+        @Override
+        public long millis() {
+            return ticker.millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(ticker.millis);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof CoarseClock
+                    && ticker == ((CoarseClock) obj).ticker
+                    && zone.equals(((CoarseClock) obj).zone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(ticker.refreshMillis) ^ zone.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "CoarseClock[" + ticker.refreshMillis + "ms," + zone + "]";
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A utility class for creating read only {@link Set}s of allowed values that
+ * use less memory than a {@link HashSet}, by storing values of a single type
+ * without an entry object per value.
+ * <ul>
+ * <li>{@link Integer}s or {@link Long}s whose range is at most
+ * {@link #MAX_BITS_PER_VALUE} times the number of values are stored in a bitmap.</li>
+ * <li>Other {@link Integer}s or {@link Long}s are stored in an open addressing hash table of longs.</li>
+ * <li>{@link String}s are stored in an open addressing hash table of strings.</li>
+ * <li>Any other values, such as a mix of types or null, are stored in a {@link HashSet}.</li>
+ * </ul>
+ * The sets are equal to, and have the same hash code as, a {@link HashSet}
+ * of the same values, but iterate over them in a different order.
+ */
+public final class CompactSets {
+    /**
+     * The maximum size of a bitmap, in bits per value in the set.
+     */
+    public static final int MAX_BITS_PER_VALUE = 64;
+
+    private CompactSets() {
+    }
+
+    /**
+     * Create a set of the values, choosing the most compact representation.
+     *
+     * @param values the values of the set
+     * @return a set of the values, which is read only unless it is a {@link HashSet}.
+     */
+    public static Set<Object> of(final Collection<?> values) {
+        final Class<?> type = getCommonType(values);
+        if (Integer.class == type || Long.class == type) {
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (final Object value : values) {
+                final long number = ((Number) value).longValue();
+                min = Math.min(min, number);
+                max = Math.max(max, number);
+            }
+
+            // The range is compared without overflowing, as max - min may exceed a long
+            final long maxRange = (long) MAX_BITS_PER_VALUE * values.size();
+            if (max - maxRange < min && max - min < Integer.MAX_VALUE) {
+                return new BitmapSet(type, values, min, (int) (max - min + 1));
+            }
+            return new LongHashSet(type, values);
+        }
+        if (String.class == type) {
+            return new StringHashSet(values);
+        }
+        return new HashSet<>(values);
+    }
+
+    /**
+     * @param values the values to check
+     * @return true if the values are in a read only set created by {@link #of(Collection)}.
+     */
+    public static boolean isReadOnly(final Collection<?> values) {
+        return values instanceof ReadOnlySet;
+    }
+
+    // Returns the class of the values, or null if they are empty, contain null
+    // or are of more than one class.
+    private static Class<?> getCommonType(final Collection<?> values) {
+        Class<?> type = null;
+        for (final Object value : values) {
+            if (null == value || (null != type && type != value.getClass())) {
+                return null;
+            }
+            type = value.getClass();
+        }
+        return type;
+    }
+
+    private static int tableSize(final int size) {
+        // At most half full, so probe sequences stay short
+        return Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+    }
+
+    private static int mix(final long value) {
+        final long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private abstract static class ReadOnlySet extends AbstractSet<Object> {
+        private final int size;
+
+        ReadOnlySet(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean add(final Object value) {
+            throw new UnsupportedOperationException("Set is read only");
+        }
+
+        @Override
+        public boolean remove(final Object value) {
+            throw new UnsupportedOperationException("Set is read only");
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException("Set is read only");
+        }
+    }
+
+    /**
+     * Integers or longs stored as bits offset from the minimum value.
+     */
+    private static final class BitmapSet extends ReadOnlySet {
+        private final Class<?> type;
+        private final long min;
+        private final int range;
+        private final long[] bits;
+
+        private BitmapSet(final Class<?> type, final Collection<?> values, final long min, final int range) {
+            this(type, min, range, fill(values, min, new long[BitmapUtil.words(range)]));
+        }
+
+        private BitmapSet(final Class<?> type, final long min, final int range, final long[] bits) {
+            super(BitmapUtil.cardinality(bits, range));
+            this.type = type;
+            this.min = min;
+            this.range = range;
+            this.bits = bits;
+        }
+
+        private static long[] fill(final Collection<?> values, final long min, final long[] bits) {
+            for (final Object value : values) {
+                BitmapUtil.set(bits, (int) (((Number) value).longValue() - min));
+            }
+            return bits;
+        }
+
+        @Override
+        public boolean contains(final Object value) {
+            if (null == value || value.getClass() != type) {
+                return false;
+            }
+
+            final long offset = ((Number) value).longValue() - min;
+            return offset >= 0 && offset < range && BitmapUtil.isSet(bits, (int) offset);
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+                private int next = nextSet(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next < range;
+                }
+
+                @Override
+                public Object next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final long value = min + next;
+                    next = nextSet(next + 1);
+                    return Long.class == type ? (Object) value : (Object) (int) value;
+                }
+            };
+        }
+
+        private int nextSet(final int from) {
+            int index = from;
+            while (index < range && !BitmapUtil.isSet(bits, index)) {
+                index++;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Integers or longs stored in an open addressing hash table with linear
+     * probing. Zero marks an empty slot, so whether the set contains zero is
+     * stored separately.
+     */
+    private static final class LongHashSet extends ReadOnlySet {
+        private final Class<?> type;
+        private final long[] table;
+        private final boolean containsZero;
+
+        private LongHashSet(final Class<?> type, final Collection<?> values) {
+            this(type, values, new long[tableSize(values.size())]);
+        }
+
+        private LongHashSet(final Class<?> type, final Collection<?> values, final long[] table) {
+            super(fill(values, table));
+            this.type = type;
+            this.table = table;
+            this.containsZero = values.stream().anyMatch(value -> 0L == ((Number) value).longValue());
+        }
+
+        // Returns the number of distinct values
+        private static int fill(final Collection<?> values, final long[] table) {
+            final int mask = table.length - 1;
+            int size = 0;
+            boolean zero = false;
+            for (final Object obj : values) {
+                final long value = ((Number) obj).longValue();
+                if (0L == value) {
+                    if (!zero) {
+                        zero = true;
+                        size++;
+                    }
+                    continue;
+                }
+
+                int index = mix(value) & mask;
+                while (0L != table[index] && value != table[index]) {
+                    index = (index + 1) & mask;
+                }
+                if (0L == table[index]) {
+                    table[index] = value;
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            if (null == obj || obj.getClass() != type) {
+                return false;
+            }
+
+            final long value = ((Number) obj).longValue();
+            if (0L == value) {
+                return containsZero;
+            }
+
+            final int mask = table.length - 1;
+            int index = mix(value) & mask;
+            long slot;
+            while (0L != (slot = table[index])) {
+                if (value == slot) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+                private boolean zeroPending = containsZero;
+                private int next = nextSlot(0);
+
+                @Override
+                public boolean hasNext() {
+                    return zeroPending || next < table.length;
+                }
+
+                @Override
+                public Object next() {
+                    final long value;
+                    if (zeroPending) {
+                        zeroPending = false;
+                        value = 0L;
+                    } else if (next < table.length) {
+                        value = table[next];
+                        next = nextSlot(next + 1);
+                    } else {
+                        throw new NoSuchElementException();
+                    }
+                    return Long.class == type ? (Object) value : (Object) (int) value;
+                }
+            };
+        }
+
+        private int nextSlot(final int from) {
+            int index = from;
+            while (index < table.length && 0L == table[index]) {
+                index++;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Strings stored in an open addressing hash table with linear probing.
+     */
+    private static final class StringHashSet extends ReadOnlySet {
+        private final String[] table;
+
+        private StringHashSet(final Collection<?> values) {
+            this(values, new String[tableSize(values.size())]);
+        }
+
+        private StringHashSet(final Collection<?> values, final String[] table) {
+            super(fill(values, table));
+            this.table = table;
+        }
+
+        // Returns the number of distinct values
+        private static int fill(final Collection<?> values, final String[] table) {
+            final int mask = table.length - 1;
+            int size = 0;
+            for (final Object obj : values) {
+                final String value = (String) obj;
+                int index = mix(value.hashCode()) & mask;
+                while (null != table[index] && !value.equals(table[index])) {
+                    index = (index + 1) & mask;
+                }
+                if (null == table[index]) {
+                    table[index] = value;
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            if (!(obj instanceof String)) {
+                return false;
+            }
+
+            final int mask = table.length - 1;
+            int index = mix(obj.hashCode()) & mask;
+            String slot;
+            while (null != (slot = table[index])) {
+                if (obj.equals(slot)) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+                private int next = nextSlot(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next < table.length;
+                }
+
+                @Override
+                public Object next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final String value = table[next];
+                    next = nextSlot(next + 1);
+                    return value;
+                }
+            };
+        }
+
+        private int nextSlot(final int from) {
+            int index = from;
+            while (index < table.length && null == table[index]) {
+                index++;
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import java.util.Date;
+
+/**
+ * The type of a CSV column, used by the CSV functions to convert each value
+ * as it is parsed. Values are converted in the same way as the equivalent
+ * functions, so {@link #LONG} gives the same result as
+ * {@link uk.gov.gchq.koryphe.impl.function.ToLong} and {@link #DATE} gives
+ * the same result as {@link uk.gov.gchq.koryphe.impl.function.ParseDate}
+ * with no format.
+ * <p>
+ * Integers and booleans are parsed directly from the characters of a line,
+ * without creating a {@link String} for the value.
+ * </p>
+ */
+public enum CsvColumnType {
+    STRING {
+        @Override
+        public Object parse(final CharSequence csv, final int start, final int end) {
+            return csv.subSequence(start, end).toString();
+        }
+    },
+    INTEGER {
+        @Override
+        public Object parse(final CharSequence csv, final int start, final int end) {
+            // Up to 9 digits cannot overflow an int
+            if (end - start < 10) {
+                final long value = parseDigits(csv, start, end);
+                if (NOT_DIGITS != value) {
+                    return (int) value;
+                }
+            }
+            return Integer.valueOf(csv.subSequence(start, end).toString());
+        }
+    },
+    LONG {
+        @Override
+        public Object parse(final CharSequence csv, final int start, final int end) {
+            // Up to 18 digits cannot overflow a long
+            if (end - start < 19) {
+                final long value = parseDigits(csv, start, end);
+                if (NOT_DIGITS != value) {
+                    return value;
+                }
+            }
+            return Long.valueOf(csv.subSequence(start, end).toString());
+        }
+    },
+    FLOAT {
+        @Override
+        public Object parse(final CharSequence csv, final int start, final int end) {
+            return Float.valueOf(csv.subSequence(start, end).toString());
+        }
+    },
+    DOUBLE {
+        @Override
+        public Object parse(final CharSequence csv, final int start, final int end) {
+            return Double.valueOf(csv.subSequence(start, end).toString());
+        }
+    },
+    BOOLEAN {
+        @Override
+        public Object parse(final CharSequence csv, final int start, final int end) {
+            return 4 == end - start && regionMatchesIgnoreCase(csv, start, "true");
+        }
+    },
+    DATE {
+        @Override
+        public Object parse(final CharSequence csv, final int start, final int end) {
+            return new Date(DateUtil.parseTime(csv.subSequence(start, end).toString()));
+        }
+    },
+    TIME {
+        @Override
+        public Object parse(final CharSequence csv, final int start, final int end) {
+            return DateUtil.parseTime(csv.subSequence(start, end).toString());
+        }
+    };
+
+    // A value that parseDigits cannot return, as it never parses more than 18 digits
+    private static final long NOT_DIGITS = Long.MIN_VALUE;
+
+    /**
+     * Convert part of a CSV line.
+     *
+     * @param csv   the characters containing the value
+     * @param start the index of the first character of the value
+     * @param end   the index after the last character of the value
+     * @return the converted value.
+     * @throws IllegalArgumentException if the value cannot be converted
+     */
+    public abstract Object parse(CharSequence csv, int start, int end);
+
+    /**
+     * Convert a value.
+     *
+     * @param value the value to convert
+     * @return the converted value, or null if the value is null.
+     * @throws IllegalArgumentException if the value cannot be converted
+     */
+    public Object parse(final String value) {
+        return null != value ? parse(value, 0, value.length()) : null;
+    }
+
+    // Parses an optional '-' followed by ASCII digits, or returns NOT_DIGITS
+    private static long parseDigits(final CharSequence csv, final int start, final int end) {
+        final boolean negative = start < end && '-' == csv.charAt(start);
+        final int first = negative ? start + 1 : start;
+        if (first == end) {
+            return NOT_DIGITS;
+        }
+
+        long value = 0;
+        for (int i = first; i < end; i++) {
+            final char c = csv.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_DIGITS;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean regionMatchesIgnoreCase(final CharSequence csv, final int start, final String lowerCase) {
+        for (int i = 0; i < lowerCase.length(); i++) {
+            if (Character.toLowerCase(csv.charAt(start + i)) != lowerCase.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,18 +18,26 @@ package uk.gov.gchq.koryphe.util;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.SimpleTimeZone;
 import java.util.TimeZone;
-import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
-
-import static java.util.concurrent.TimeUnit.MICROSECONDS;
 
 /**
  * A utility class for Dates.
+ * <p>
+ * Date strings in the default formats are parsed with {@link java.time},
+ * giving the same results as a lenient {@link SimpleDateFormat}. Years before
+ * 1901, where {@link TimeZone} and {@link java.time} use different historical
+ * offsets and calendars, and date strings with an explicit format are parsed
+ * with a {@link SimpleDateFormat} that is cached per thread, format and time zone.
+ * </p>
  */
 public final class DateUtil {
     public static final double MICROSECONDS_TO_MILLISECONDS = 0.001;
@@ -41,19 +49,34 @@ public final class DateUtil {
     public static final String TIME_ZONE = "koryphe.timezone.default";
     private static final TimeZone TIME_ZONE_DEFAULT = getTimeZoneDefault();
 
-    private static final Pattern TIMESTAMP_EPOCH = Pattern.compile("^\\d*$");
-    private static final Map<Pattern, String> FORMATS = new LinkedHashMap<>();
+    private static final String CHARS_TO_STRIP = "/_.:-| ";
+    private static final int MAX_DIGITS = 17;
+    private static final int MIN_ZONE_RULES_YEAR = 1901;
+    private static final int MAX_CACHED_FORMATS = 32;
+    private static final long MICROSECONDS_PER_MILLISECOND = 1000L;
+
+    // The format for each number of digits, after the separators have been removed
+    private static final String[] FORMATS = new String[MAX_DIGITS + 1];
 
     static {
-        FORMATS.put(Pattern.compile("^\\d{6}$"), "yyyyMM");
-        FORMATS.put(Pattern.compile("^\\d{8}$"), "yyyyMMdd");
-        FORMATS.put(Pattern.compile("^\\d{10}$"), "yyyyMMddHH");
-        FORMATS.put(Pattern.compile("^\\d{12}$"), "yyyyMMddHHmm");
-        FORMATS.put(Pattern.compile("^\\d{14}$"), "yyyyMMddHHmmss");
-        FORMATS.put(Pattern.compile("^\\d{17}$"), "yyyyMMddHHmmssSSS");
+        FORMATS[6] = "yyyyMM";
+        FORMATS[8] = "yyyyMMdd";
+        FORMATS[10] = "yyyyMMddHH";
+        FORMATS[12] = "yyyyMMddHHmm";
+        FORMATS[14] = "yyyyMMddHHmmss";
+        FORMATS[17] = "yyyyMMddHHmmssSSS";
     }
 
-    private static final Pattern CHARS_TO_STRIP = Pattern.compile("[/_.:\\-| ]");
+    private static final ThreadLocal<Map<FormatKey, SimpleDateFormat>> DATE_FORMATS = ThreadLocal.withInitial(
+            () -> new LinkedHashMap<FormatKey, SimpleDateFormat>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<FormatKey, SimpleDateFormat> eldest) {
+                    return size() > MAX_CACHED_FORMATS;
+                }
+            });
+
     private static final String ERROR_MSG = "The provided date string %s could not be parsed. " +
             "Please use a timestamp in milliseconds or one of the following formats: "
             + "[yyyy/MM, yyyy/MM/dd, yyyy/MM/dd HH, yyyy/MM/dd HH:mm, yyyy/MM/dd HH:mm:ss, yyyy/MM/dd HH:mm:ss.SSS]"
@@ -94,40 +117,99 @@ public final class DateUtil {
         if (null == dateString) {
             return null;
         }
+        return new Date(parseEpochMillis(dateString, timeZone, microseconds));
+    }
 
-        if (TIMESTAMP_EPOCH.matcher(dateString).matches()) {
-            try {
-                if (!microseconds) {
-                    return new Date(Long.parseLong(dateString));
-                } else {
-                    final long epochMicroseconds = Long.parseLong(dateString);
-
-                    final long epochSeconds = MICROSECONDS.toSeconds(epochMicroseconds);
-                    final long nanos = MICROSECONDS.toNanos(epochMicroseconds % TimeUnit.SECONDS.toMicros(1));
+    /**
+     * Parse the provided date, in any of the formats accepted by
+     * {@link #parse(String)}, without creating a {@link Date}.
+     *
+     * @param dateString   the date string to parse
+     * @param timeZone     the time zone, or null for the JVM default
+     * @param microseconds true if a timestamp is in microseconds rather than milliseconds
+     * @return the time in milliseconds.
+     * @throws IllegalArgumentException if the date string is null or could not be parsed
+     */
+    public static long parseEpochMillis(final String dateString, final TimeZone timeZone, final boolean microseconds) {
+        if (null == dateString) {
+            throw new IllegalArgumentException(String.format(ERROR_MSG, "null"));
+        }
 
-                    return Date.from(Instant.ofEpochSecond(epochSeconds, nanos));
+        final int length = dateString.length();
+        final char[] digits = new char[MAX_DIGITS];
+        int numDigits = 0;
+        boolean isTimestamp = true;
+        for (int i = 0; i < length; i++) {
+            final char c = dateString.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (numDigits < MAX_DIGITS) {
+                    digits[numDigits] = c;
                 }
+                numDigits++;
+            } else if (CHARS_TO_STRIP.indexOf(c) >= 0) {
+                isTimestamp = false;
+            } else {
+                throw new IllegalArgumentException(String.format(ERROR_MSG, dateString));
+            }
+        }
+
+        if (isTimestamp) {
+            try {
+                final long timestamp = Long.parseLong(dateString);
+                return microseconds ? timestamp / MICROSECONDS_PER_MILLISECOND : timestamp;
             } catch (final NumberFormatException e) {
                 throw new IllegalArgumentException(String.format(ERROR_MSG, dateString), e);
             }
         }
 
-        final String formattedDateString = CHARS_TO_STRIP.matcher(dateString).replaceAll("");
-
-        for (final Map.Entry<Pattern, String> entry : FORMATS.entrySet()) {
-            if (entry.getKey().matcher(formattedDateString).matches()) {
-                try {
-                    final SimpleDateFormat sdf = new SimpleDateFormat(entry.getValue());
-                    if (null != timeZone) {
-                        sdf.setTimeZone(timeZone);
-                    }
-                    return sdf.parse(formattedDateString);
-                } catch (final ParseException e) {
-                    throw new IllegalArgumentException(String.format(ERROR_MSG, dateString), e);
-                }
+        if (numDigits > MAX_DIGITS || null == FORMATS[numDigits]) {
+            throw new IllegalArgumentException(String.format(ERROR_MSG, dateString));
+        }
+
+        final int year = toInt(digits, 0, 4);
+        if (year < MIN_ZONE_RULES_YEAR || timeZone instanceof SimpleTimeZone) {
+            try {
+                return getDateFormat(FORMATS[numDigits], timeZone).parse(new String(digits, 0, numDigits)).getTime();
+            } catch (final ParseException e) {
+                throw new IllegalArgumentException(String.format(ERROR_MSG, dateString), e);
             }
         }
-        throw new IllegalArgumentException(String.format(ERROR_MSG, dateString));
+
+        // Out of range fields roll over into the next field, as in a lenient SimpleDateFormat
+        final long epochDay = LocalDate.of(year, 1, 1)
+                .plusMonths(toInt(digits, 4, 6) - 1L)
+                .plusDays(numDigits > 6 ? toInt(digits, 6, 8) - 1L : 0L)
+                .toEpochDay();
+        final long secondOfDay = 3600L * toInt(digits, 8, 10) + 60L * toInt(digits, 10, 12) + toInt(digits, 12, 14);
+        final LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(epochDay * 86400L + secondOfDay, 0, ZoneOffset.UTC);
+        final ZoneId zoneId = null != timeZone ? timeZone.toZoneId() : ZoneId.systemDefault();
+
+        // Like a SimpleDateFormat, local times in an overlap use the later offset
+        return localDateTime.atZone(zoneId).withLaterOffsetAtOverlap().toInstant().toEpochMilli()
+                + toInt(digits, 14, 17);
+    }
+
+    /**
+     * Parse the provided date using a {@link SimpleDateFormat} pattern.
+     * The {@link SimpleDateFormat} is cached for the current thread, so it is
+     * not created on every call.
+     *
+     * @param dateString the date string to parse
+     * @param format     the {@link SimpleDateFormat} pattern
+     * @param timeZone   the time zone, or null for the JVM default
+     * @return parsed date, or null if the date string is null
+     * @throws IllegalArgumentException if the date string could not be parsed
+     */
+    public static Date parse(final String dateString, final String format, final TimeZone timeZone) {
+        if (null == dateString) {
+            return null;
+        }
+
+        try {
+            return getDateFormat(format, timeZone).parse(dateString);
+        } catch (final ParseException e) {
+            throw new IllegalArgumentException("Date string could not be parsed: " + dateString, e);
+        }
     }
 
     public static Date parse(final String dateString, final TimeZone timeZone) {
@@ -158,7 +240,53 @@ public final class DateUtil {
     }
 
     public static Long parseTime(final String dateString, final TimeZone timeZone) {
-        final Date date = parse(dateString, timeZone);
-        return null != date ? date.getTime() : null;
+        return null != dateString ? parseEpochMillis(dateString, timeZone, false) : null;
+    }
+
+    // Parses the digits in [start, end), or returns 0 if there are not that many digits
+    private static int toInt(final char[] digits, final int start, final int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            if (0 == digits[i]) {
+                return 0;
+            }
+            value = value * 10 + (digits[i] - '0');
+        }
+        return value;
+    }
+
+    // Without a time zone the current default is used, so formats created
+    // before the default changed are not reused
+    private static SimpleDateFormat getDateFormat(final String format, final TimeZone timeZone) {
+        final TimeZone zone = null != timeZone ? timeZone : TimeZone.getDefault();
+        return DATE_FORMATS.get().computeIfAbsent(new FormatKey(format, zone), key -> {
+            final SimpleDateFormat dateFormat = new SimpleDateFormat(format);
+            dateFormat.setTimeZone(zone);
+            return dateFormat;
+        });
+    }
+
+    private static final class FormatKey {
+        private final String format;
+        private final TimeZone timeZone;
+
+        private FormatKey(final String format, final TimeZone timeZone) {
+            this.format = format;
+            this.timeZone = timeZone;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof FormatKey)) {
+                return false;
+            }
+            final FormatKey other = (FormatKey) obj;
+            return format.equals(other.format) && Objects.equals(timeZone, other.timeZone);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * format.hashCode() + Objects.hashCode(timeZone);
+        }
     }
 }
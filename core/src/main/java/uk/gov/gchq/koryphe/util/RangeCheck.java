@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import java.util.Date;
+
+/**
+ * A range check that gives the same results as
+ * {@link RangeUtil#inRange(Comparable, Comparable, Comparable, Comparable, Boolean, Boolean, Boolean, Boolean)}
+ * for a fixed range, with the nullable flags resolved when it is created.
+ * <p>
+ * If the bounds are {@link Long}s, {@link Double}s or {@link Date}s, values of
+ * the same class are compared as primitives rather than with
+ * {@link Comparable#compareTo(Object)}. Other values are compared as
+ * {@link RangeUtil} would compare them.
+ *
+ * @param <T> the type of the range
+ */
+public final class RangeCheck<T extends Comparable<T>> {
+    private enum Kind {
+        LONG, DOUBLE, DATE, OTHER
+    }
+
+    private final T rangeStart;
+    private final T rangeEnd;
+    private final boolean startInclusive;
+    private final boolean endInclusive;
+    private final boolean startFullyContained;
+    private final boolean endFullyContained;
+
+    private final Kind kind;
+    private final long startLong;
+    private final long endLong;
+    private final double startDouble;
+    private final double endDouble;
+
+    private RangeCheck(final T rangeStart, final T rangeEnd,
+                       final Boolean startInclusive, final Boolean endInclusive,
+                       final Boolean startFullyContained, final Boolean endFullyContained) {
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.startInclusive = null == startInclusive || startInclusive;
+        this.endInclusive = null == endInclusive || endInclusive;
+        this.startFullyContained = null == startFullyContained ? RangeUtil.DEFAULT_FULLY_CONTAINED : startFullyContained;
+        this.endFullyContained = null == endFullyContained ? RangeUtil.DEFAULT_FULLY_CONTAINED : endFullyContained;
+
+        final Class<?> startClass = null != rangeStart ? rangeStart.getClass() : null;
+        final Class<?> endClass = null != rangeEnd ? rangeEnd.getClass() : null;
+        final Class<?> boundClass = null != startClass ? startClass : endClass;
+        if (null != startClass && null != endClass && startClass != endClass) {
+            kind = Kind.OTHER;
+        } else if (null == boundClass || Long.class == boundClass) {
+            kind = Kind.LONG;
+        } else if (Double.class == boundClass) {
+            kind = Kind.DOUBLE;
+        } else if (Date.class == boundClass) {
+            kind = Kind.DATE;
+        } else {
+            kind = Kind.OTHER;
+        }
+
+        this.startLong = toLong(rangeStart);
+        this.endLong = toLong(rangeEnd);
+        this.startDouble = rangeStart instanceof Double ? (Double) rangeStart : 0;
+        this.endDouble = rangeEnd instanceof Double ? (Double) rangeEnd : 0;
+    }
+
+    /**
+     * Create a range check.
+     *
+     * @param rangeStart          the start of the defined allowed range, or null if unbounded
+     * @param rangeEnd            the end of the defined allowed range, or null if unbounded
+     * @param startInclusive      true or null if the start of the range is inclusive
+     * @param endInclusive        true or null if the end of the range is inclusive
+     * @param startFullyContained true if the start of the range is fully contained
+     * @param endFullyContained   true if the end of the range is fully contained
+     * @param <T>                 the type of the range
+     * @return the range check.
+     */
+    public static <T extends Comparable<T>> RangeCheck<T> of(
+            final T rangeStart, final T rangeEnd,
+            final Boolean startInclusive, final Boolean endInclusive,
+            final Boolean startFullyContained, final Boolean endFullyContained) {
+        return new RangeCheck<>(rangeStart, rangeEnd, startInclusive, endInclusive, startFullyContained, endFullyContained);
+    }
+
+    public T getRangeStart() {
+        return rangeStart;
+    }
+
+    public T getRangeEnd() {
+        return rangeEnd;
+    }
+
+    /**
+     * @param startValue the start value to test
+     * @param endValue   the end value to test
+     * @return true if the start and end values are within the range.
+     * @see RangeUtil#inRange(Comparable, Comparable, Comparable, Comparable, Boolean, Boolean, Boolean, Boolean)
+     */
+    public boolean test(final Comparable<T> startValue, final Comparable<T> endValue) {
+        if (null == startValue || null == endValue) {
+            return false;
+        }
+
+        final Class<?> startClass = startValue.getClass();
+        if (startClass == endValue.getClass()) {
+            if (Kind.LONG == kind && Long.class == startClass) {
+                return test((long) (Long) startValue, (long) (Long) endValue);
+            }
+            if (Kind.DATE == kind && Date.class == startClass) {
+                return test(((Date) startValue).getTime(), ((Date) endValue).getTime());
+            }
+            if (Kind.DOUBLE == kind && Double.class == startClass) {
+                return test((double) (Double) startValue, (double) (Double) endValue);
+            }
+        }
+
+        return combine(isMoreThanStart(startValue), isLessThanEnd(startValue),
+                isMoreThanStart(endValue), isLessThanEnd(endValue));
+    }
+
+    /**
+     * Test a single value, which is both the start and end value.
+     *
+     * @param value the value to test
+     * @return true if the value is within the range.
+     */
+    public boolean test(final Comparable<T> value) {
+        if (null == value) {
+            return false;
+        }
+
+        final boolean moreThanStart;
+        final boolean lessThanEnd;
+        final Class<?> valueClass = value.getClass();
+        if ((Kind.LONG == kind && Long.class == valueClass) || (Kind.DATE == kind && Date.class == valueClass)) {
+            final long longValue = toLong(value);
+            moreThanStart = isMoreThanStart(longValue);
+            lessThanEnd = isLessThanEnd(longValue);
+        } else if (Kind.DOUBLE == kind && Double.class == valueClass) {
+            final double doubleValue = (Double) value;
+            moreThanStart = isMoreThanStart(doubleValue);
+            lessThanEnd = isLessThanEnd(doubleValue);
+        } else {
+            moreThanStart = isMoreThanStart(value);
+            lessThanEnd = isLessThanEnd(value);
+        }
+
+        // A single value is either in range, or outside both bounds of an inverted range
+        return moreThanStart == lessThanEnd && (moreThanStart || (!startFullyContained && !endFullyContained));
+    }
+
+    /**
+     * Test long values against {@link Long} or {@link Date} bounds, where a
+     * date is its time in milliseconds.
+     *
+     * @param startValue the start value to test
+     * @param endValue   the end value to test
+     * @return true if the start and end values are within the range.
+     * @throws IllegalStateException if the bounds are not longs or dates
+     */
+    public boolean test(final long startValue, final long endValue) {
+        if (Kind.LONG != kind && Kind.DATE != kind) {
+            throw new IllegalStateException("Range bounds are not longs or dates");
+        }
+        return combine(isMoreThanStart(startValue), isLessThanEnd(startValue),
+                isMoreThanStart(endValue), isLessThanEnd(endValue));
+    }
+
+    /**
+     * Test double values against {@link Double} bounds.
+     *
+     * @param startValue the start value to test
+     * @param endValue   the end value to test
+     * @return true if the start and end values are within the range.
+     * @throws IllegalStateException if the bounds are not doubles
+     */
+    public boolean test(final double startValue, final double endValue) {
+        if (Kind.DOUBLE != kind && (null != rangeStart || null != rangeEnd)) {
+            throw new IllegalStateException("Range bounds are not doubles");
+        }
+        return combine(isMoreThanStart(startValue), isLessThanEnd(startValue),
+                isMoreThanStart(endValue), isLessThanEnd(endValue));
+    }
+
+    // The same cases as RangeUtil.inRange
+    private boolean combine(final boolean startMoreThanStart, final boolean startLessThanEnd,
+                            final boolean endMoreThanStart, final boolean endLessThanEnd) {
+        final boolean startInRange = startMoreThanStart && startLessThanEnd;
+        final boolean endInRange = endMoreThanStart && endLessThanEnd;
+        return (startInRange && endInRange)
+                || (startInRange && !endLessThanEnd && !endFullyContained)
+                || (endInRange && !startMoreThanStart && !startFullyContained)
+                || (!startMoreThanStart && !startFullyContained && !endLessThanEnd && !endFullyContained);
+    }
+
+    private boolean isMoreThanStart(final Comparable<T> value) {
+        return null == rangeStart || (startInclusive ? value.compareTo(rangeStart) >= 0 : value.compareTo(rangeStart) > 0);
+    }
+
+    private boolean isLessThanEnd(final Comparable<T> value) {
+        return null == rangeEnd || (endInclusive ? value.compareTo(rangeEnd) <= 0 : value.compareTo(rangeEnd) < 0);
+    }
+
+    private boolean isMoreThanStart(final long value) {
+        return null == rangeStart || (startInclusive ? value >= startLong : value > startLong);
+    }
+
+    private boolean isLessThanEnd(final long value) {
+        return null == rangeEnd || (endInclusive ? value <= endLong : value < endLong);
+    }
+
+    // Double.compare orders NaN and -0.0 in the same way as Double.compareTo
+    private boolean isMoreThanStart(final double value) {
+        return null == rangeStart || (startInclusive ? Double.compare(value, startDouble) >= 0 : Double.compare(value, startDouble) > 0);
+    }
+
+    private boolean isLessThanEnd(final double value) {
+        return null == rangeEnd || (endInclusive ? Double.compare(value, endDouble) <= 0 : Double.compare(value, endDouble) < 0);
+    }
+
+    private static long toLong(final Object value) {
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        return value instanceof Date ? ((Date) value).getTime() : 0L;
+    }
+}
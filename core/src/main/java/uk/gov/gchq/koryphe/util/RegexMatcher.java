@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Matches, splits and replaces strings with a {@link Pattern}, giving the
+ * same results as the equivalent {@link Pattern} and {@link Matcher} methods.
+ * The pattern is analysed when the <code>RegexMatcher</code> is created:
+ * <ul>
+ * <li>A pattern that is a literal, optionally with a leading and/or trailing
+ * <code>.*</code>, is matched with {@link String#equals(Object)},
+ * {@link String#startsWith(String)}, {@link String#endsWith(String)} or
+ * {@link String#indexOf(String)}.</li>
+ * <li>A non-empty literal pattern is split on and replaced with
+ * {@link String#indexOf(String, int)}.</li>
+ * <li>Other patterns use a {@link Matcher} that is reused by each thread.</li>
+ * </ul>
+ * Patterns compiled with flags, other than {@link Pattern#DOTALL} when matching,
+ * always use a {@link Matcher}.
+ */
+public final class RegexMatcher {
+    private static final String WILDCARD = ".*";
+
+    private final Pattern pattern;
+    private final Shape shape;
+    private final String literal;
+    private final boolean dotAll;
+    private final String findLiteral;
+    private final ThreadLocal<Matcher> matchers;
+
+    private enum Shape {
+        EXACT, PREFIX, SUFFIX, CONTAINS, REGEX
+    }
+
+    public RegexMatcher(final String regex) {
+        this(Pattern.compile(regex));
+    }
+
+    public RegexMatcher(final Pattern pattern) {
+        this.pattern = requireNonNull(pattern, "Pattern is required");
+        this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        this.dotAll = Pattern.DOTALL == pattern.flags();
+
+        final String regex = pattern.pattern();
+        final String exactLiteral = 0 == pattern.flags() ? RegexUtil.getLiteral(regex) : null;
+        this.findLiteral = null != exactLiteral && !exactLiteral.isEmpty() ? exactLiteral : null;
+
+        Shape matchShape = Shape.REGEX;
+        String matchLiteral = null;
+        if (null != exactLiteral) {
+            matchShape = Shape.EXACT;
+            matchLiteral = exactLiteral;
+        } else if (0 == pattern.flags() || dotAll) {
+            final boolean leading = regex.startsWith(WILDCARD);
+            final boolean trailing = regex.length() >= (leading ? 4 : 2) && regex.endsWith(WILDCARD);
+            final String middle = regex.substring(leading ? 2 : 0, regex.length() - (trailing ? 2 : 0));
+            // A \Q quote that is not ended would have quoted the trailing wildcard
+            final boolean quoted = middle.lastIndexOf("\\Q") > middle.lastIndexOf("\\E");
+            matchLiteral = (leading || trailing) && !quoted ? RegexUtil.getLiteral(middle) : null;
+            if (null != matchLiteral) {
+                if (leading && trailing) {
+                    matchShape = Shape.CONTAINS;
+                } else {
+                    matchShape = leading ? Shape.SUFFIX : Shape.PREFIX;
+                }
+            }
+        }
+        this.shape = matchShape;
+        this.literal = matchLiteral;
+    }
+
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @param input the string to match
+     * @return true if the whole string matches the pattern.
+     * @see Matcher#matches()
+     */
+    public boolean matches(final String input) {
+        switch (shape) {
+            case EXACT:
+                return literal.equals(input);
+            case PREFIX:
+                return input.startsWith(literal)
+                        && (dotAll || !containsLineTerminator(input, literal.length(), input.length()));
+            case SUFFIX:
+                return input.endsWith(literal)
+                        && (dotAll || !containsLineTerminator(input, 0, input.length() - literal.length()));
+            case CONTAINS:
+                if (dotAll || !containsLineTerminator(input, 0, input.length())) {
+                    return input.contains(literal);
+                }
+                return matcher(input).matches();
+            default:
+                return matcher(input).matches();
+        }
+    }
+
+    /**
+     * @param input       the string to replace matches in
+     * @param replacement the replacement string, which may refer to groups
+     * @return the string with every match of the pattern replaced.
+     * @see Matcher#replaceAll(String)
+     */
+    public String replaceAll(final String input, final String replacement) {
+        if (null == findLiteral || replacement.indexOf('$') >= 0 || replacement.indexOf('\\') >= 0) {
+            return matcher(input).replaceAll(replacement);
+        }
+
+        int index = input.indexOf(findLiteral);
+        if (index < 0) {
+            return input;
+        }
+
+        final StringBuilder result = new StringBuilder(input.length());
+        int start = 0;
+        while (index >= 0) {
+            result.append(input, start, index).append(replacement);
+            start = index + findLiteral.length();
+            index = input.indexOf(findLiteral, start);
+        }
+        return result.append(input, start, input.length()).toString();
+    }
+
+    /**
+     * @param input the string to split
+     * @return the substrings between matches of the pattern, without trailing empty strings.
+     * @see Pattern#split(CharSequence)
+     */
+    public List<String> split(final String input) {
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        if (null != findLiteral) {
+            int index = input.indexOf(findLiteral);
+            while (index >= 0) {
+                parts.add(input.substring(start, index));
+                start = index + findLiteral.length();
+                index = input.indexOf(findLiteral, start);
+            }
+        } else {
+            final Matcher matcher = matcher(input);
+            while (matcher.find()) {
+                // A zero width match at the beginning never produces an empty leading substring
+                if (0 == start && 0 == matcher.start() && 0 == matcher.end()) {
+                    continue;
+                }
+                parts.add(input.substring(start, matcher.start()));
+                start = matcher.end();
+            }
+        }
+
+        if (0 == start) {
+            parts.clear();
+            parts.add(input);
+            return parts;
+        }
+
+        parts.add(input.substring(start));
+        while (!parts.isEmpty() && parts.get(parts.size() - 1).isEmpty()) {
+            parts.remove(parts.size() - 1);
+        }
+        return parts;
+    }
+
+    private Matcher matcher(final String input) {
+        return matchers.get().reset(input);
+    }
+
+    // Line terminators are not matched by '.' unless the pattern has the DOTALL flag
+    private static boolean containsLineTerminator(final String input, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = input.charAt(i);
+            if ('\n' == c || '\r' == c || '\u0085' == c || '\u2028' == c || '\u2029' == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * A utility class for analysing regular expressions, so that simple
+ * {@link Pattern}s can be matched without the regex engine.
+ * <p>
+ * Only patterns compiled without flags are analysed. Characters, escaped
+ * punctuation and <code>\Q...\E</code> quotes are treated as literals.
+ */
+public final class RegexUtil {
+    private static final String METACHARACTERS = ".^$|?*+()[]{}";
+    private static final String OPTIONAL_QUANTIFIERS = "?*{";
+
+    private RegexUtil() {
+    }
+
+    /**
+     * @param pattern the pattern to analyse
+     * @return the only string the pattern matches, or null if it is not a literal.
+     */
+    public static String getLiteral(final Pattern pattern) {
+        return 0 == pattern.flags() ? getLiteral(pattern.pattern()) : null;
+    }
+
+    /**
+     * @param regex the regex to analyse, which is compiled without flags
+     * @return the only string the regex matches, or null if it is not a literal.
+     */
+    public static String getLiteral(final String regex) {
+        final Scan scan = new Scan(regex);
+        return scan.end == regex.length() ? scan.literal.toString() : null;
+    }
+
+    /**
+     * Get the literal that every string matched by the pattern starts with.
+     * The prefix may be shorter than the longest such literal.
+     *
+     * @param pattern the pattern to analyse
+     * @return the literal prefix, which is empty if there is none.
+     */
+    public static String getLiteralPrefix(final Pattern pattern) {
+        if (0 != pattern.flags()) {
+            return "";
+        }
+
+        final String regex = pattern.pattern();
+        final Scan scan = new Scan(regex);
+        if (scan.end == regex.length()) {
+            return scan.literal.toString();
+        }
+
+        // An alternation later in the pattern may not start with the prefix
+        if (regex.indexOf('|', scan.end) >= 0) {
+            return "";
+        }
+
+        // A quantifier that allows zero repeats makes the last literal optional
+        if (OPTIONAL_QUANTIFIERS.indexOf(regex.charAt(scan.end)) >= 0 && scan.lastStart >= 0) {
+            return scan.literal.substring(0, scan.lastStart);
+        }
+        return scan.literal.toString();
+    }
+
+    /**
+     * Reads literals from the start of a regex, up to the first character
+     * that is not a literal.
+     */
+    private static final class Scan {
+        private final StringBuilder literal = new StringBuilder();
+        private int end;
+        private int lastStart = -1;
+
+        private Scan(final String regex) {
+            int i = 0;
+            while (i < regex.length()) {
+                final char c = regex.charAt(i);
+                if ('\\' == c) {
+                    if (i + 1 == regex.length()) {
+                        break;
+                    }
+
+                    final char escaped = regex.charAt(i + 1);
+                    if ('Q' == escaped) {
+                        final int quoteEnd = regex.indexOf("\\E", i + 2);
+                        final String quoted = regex.substring(i + 2, quoteEnd < 0 ? regex.length() : quoteEnd);
+                        if (!quoted.isEmpty()) {
+                            lastStart = literal.length() + quoted.length() - Character.charCount(quoted.codePointBefore(quoted.length()));
+                            literal.append(quoted);
+                        }
+                        i = quoteEnd < 0 ? regex.length() : quoteEnd + 2;
+                        continue;
+                    }
+
+                    // Escaped letters and digits are character classes, back references or control characters
+                    if (Character.isLetterOrDigit(escaped)) {
+                        break;
+                    }
+
+                    lastStart = literal.length();
+                    literal.append(escaped);
+                    i += 2;
+                } else if (METACHARACTERS.indexOf(c) >= 0) {
+                    break;
+                } else {
+                    final int length = Character.charCount(regex.codePointAt(i));
+                    lastStart = literal.length();
+                    literal.append(regex, i, i + length);
+                    i += length;
+                }
+            }
+            end = i;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.binaryoperator;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.impl.binaryoperator.Product;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+
+import java.util.function.BinaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DoubleStateTest {
+
+    @Test
+    public void shouldBeEmptyUntilAccumulated() {
+        // Given
+        final DoubleState state = new Sum().createDoubleState();
+
+        // When / Then
+        assertThat(state.isEmpty()).isTrue();
+        assertThat(state.result()).isNull();
+        state.accumulate((Number) null);
+        assertThat(state.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldAccumulateWithOperator() {
+        // Given
+        final DoubleState state = new Sum().createDoubleState();
+
+        // When
+        state.accumulate(1.5);
+        state.accumulate(2.5);
+
+        // Then
+        assertThat(state.result()).isEqualTo(4.0);
+        assertThat(state.getDouble()).isEqualTo(4.0);
+    }
+
+    @Test
+    public void shouldMergeStates() {
+        // Given
+        final DoubleState state = new Product().createDoubleState();
+        final DoubleState other = new Product().createDoubleState();
+        final DoubleState empty = new Product().createDoubleState();
+        state.accumulate(1.5);
+        other.accumulate(2.5);
+
+        // When
+        state.merge(other);
+        state.merge(empty);
+
+        // Then
+        assertThat(state.result()).isEqualTo(1.5 * 2.5);
+        assertThat(other.result()).isEqualTo(2.5);
+    }
+
+    @Test
+    public void shouldMergeStatesThroughBinaryOperator() {
+        // Given
+        final Sum sum = new Sum();
+        final BinaryOperator<DoubleState> merger = Accumulator.merger();
+        DoubleState result = null;
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            final DoubleState state = sum.createDoubleState();
+            state.accumulate(1.0);
+            result = merger.apply(result, state);
+        }
+        result = merger.apply(result, null);
+
+        // Then
+        assertThat(result.result()).isEqualTo(3 * 1.0);
+    }
+
+    @Test
+    public void shouldReset() {
+        // Given
+        final DoubleState state = new Sum().createDoubleState();
+        state.accumulate(1.5);
+
+        // When
+        state.reset();
+
+        // Then
+        assertThat(state.isEmpty()).isTrue();
+        assertThat(state.result()).isNull();
+    }
+}
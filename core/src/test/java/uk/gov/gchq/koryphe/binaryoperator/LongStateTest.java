@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.binaryoperator;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.impl.binaryoperator.Product;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+
+import java.util.function.BinaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongStateTest {
+
+    @Test
+    public void shouldBeEmptyUntilAccumulated() {
+        // Given
+        final LongState state = new Sum().createLongState();
+
+        // When / Then
+        assertThat(state.isEmpty()).isTrue();
+        assertThat(state.result()).isNull();
+        state.accumulate((Number) null);
+        assertThat(state.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldAccumulateWithOperator() {
+        // Given
+        final LongState state = new Sum().createLongState();
+
+        // When
+        state.accumulate(3L);
+        state.accumulate(4L);
+
+        // Then
+        assertThat(state.result()).isEqualTo(7L);
+        assertThat(state.getLong()).isEqualTo(7L);
+    }
+
+    @Test
+    public void shouldMergeStates() {
+        // Given
+        final LongState state = new Product().createLongState();
+        final LongState other = new Product().createLongState();
+        final LongState empty = new Product().createLongState();
+        state.accumulate(3L);
+        other.accumulate(4L);
+
+        // When
+        state.merge(other);
+        state.merge(empty);
+
+        // Then
+        assertThat(state.result()).isEqualTo(3L * 4L);
+        assertThat(other.result()).isEqualTo(4L);
+    }
+
+    @Test
+    public void shouldMergeStatesThroughBinaryOperator() {
+        // Given
+        final Sum sum = new Sum();
+        final BinaryOperator<LongState> merger = Accumulator.merger();
+        LongState result = null;
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            final LongState state = sum.createLongState();
+            state.accumulate(1L);
+            result = merger.apply(result, state);
+        }
+        result = merger.apply(result, null);
+
+        // Then
+        assertThat(result.result()).isEqualTo(3 * 1L);
+    }
+
+    @Test
+    public void shouldReset() {
+        // Given
+        final LongState state = new Sum().createLongState();
+        state.accumulate(3L);
+
+        // When
+        state.reset();
+
+        // Then
+        assertThat(state.isEmpty()).isTrue();
+        assertThat(state.result()).isNull();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.function;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.impl.function.FunctionChain;
+import uk.gov.gchq.koryphe.impl.function.Increment;
+import uk.gov.gchq.koryphe.impl.function.MultiplyLongBy;
+import uk.gov.gchq.koryphe.impl.function.ToLong;
+import uk.gov.gchq.koryphe.impl.function.ToString;
+import uk.gov.gchq.koryphe.tuple.MapTuple;
+import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunction;
+import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunctionComposite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class FunctionFusionTest {
+
+    @Test
+    public void shouldFuseNestedComposites() {
+        // Given
+        final FunctionChain<Object, Object> chain = new FunctionChain<>(
+                new ToLong(),
+                new FunctionComposite<>(Arrays.asList(new Increment(1L), new MultiplyLongBy(10))),
+                new FunctionChain<>(new Increment(2L), new FunctionChain<>()),
+                new ToString());
+
+        // When
+        final Function<Object, Object> fused = FunctionFusion.fuse(chain);
+
+        // Then
+        assertThat(fused.apply("4")).isEqualTo(chain.apply("4")).isEqualTo("52");
+    }
+
+    @Test
+    public void shouldFuseLongChains() {
+        // Given
+        final List<Function> functions = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            functions.add(new Increment(1));
+        }
+        final FunctionChain<Integer, Integer> chain = new FunctionChain<>(functions);
+
+        // When
+        final Function<Integer, Integer> fused = chain.fuse();
+
+        // Then
+        assertThat(fused.apply(0)).isEqualTo(23);
+    }
+
+    @Test
+    public void shouldFuseEmptyCompositeToIdentity() {
+        // Given
+        final FunctionComposite<Object, Object, Function> composite = new FunctionComposite<>();
+
+        // When
+        final Function<Object, Object> fused = composite.fuse();
+
+        // Then
+        assertThat(fused.apply("input")).isEqualTo("input");
+    }
+
+    @Test
+    public void shouldPassProjectedValueToNextTupleAdaptedFunction() {
+        // Given
+        final TupleAdaptedFunctionComposite<String> composite = new TupleAdaptedFunctionComposite.Builder<String>()
+                .select(new String[]{"input"}).execute(new ToLong()).project(new String[]{"midway"})
+                .select(new String[]{"midway"}).execute(new MultiplyLongBy(10)).project(new String[]{"output"})
+                .build();
+        final MapTuple<String> tuple = new MapTuple<>();
+        tuple.put("input", "3");
+        final MapTuple<String> spiedTuple = spy(tuple);
+
+        // When
+        final Tuple<String> result = composite.fuse().apply(spiedTuple);
+
+        // Then
+        assertThat(result.get("midway")).isEqualTo(3L);
+        assertThat(result.get("output")).isEqualTo(30L);
+        verify(spiedTuple, times(1)).get("input");
+        verify(spiedTuple, times(1)).get("midway");
+    }
+
+    @Test
+    public void shouldReadSelectionsFromTupleWhenNotProjectedByPreviousFunction() {
+        // Given
+        final FunctionChain<Tuple<String>, Tuple<String>> chain = new FunctionChain.Builder<Tuple<String>, Tuple<String>>()
+                .execute(new String[]{"a"}, new ToLong(), new String[]{"b"})
+                .execute(new String[]{"a"}, new ToString(), new String[]{"c"})
+                .execute(new String[]{"b", "c"}, new FunctionChain<>(), new String[]{"d", "e"})
+                .build();
+        final MapTuple<String> tuple = new MapTuple<>();
+        tuple.put("a", 5);
+
+        // When
+        final Tuple<String> result = chain.fuse().apply(tuple);
+
+        // Then
+        assertThat(result.get("b")).isEqualTo(5L);
+        assertThat(result.get("c")).isEqualTo("5");
+        assertThat(result.get("d")).isEqualTo(5L);
+        assertThat(result.get("e")).isEqualTo("5");
+    }
+
+    @Test
+    public void shouldNotFlattenCompositeThatOverridesApply() {
+        // Given
+        final FunctionComposite<Integer, Integer, Function> composite =
+                new FunctionComposite<Integer, Integer, Function>(Arrays.asList(new Increment(1), new Increment(1))) {
+                    @Override
+                    public Integer apply(final Integer input) {
+                        return input;
+                    }
+                };
+        final FunctionChain<Integer, Integer> chain = new FunctionChain<>(new Increment(1), composite);
+
+        // When
+        final Function<Integer, Integer> fused = chain.fuse();
+
+        // Then
+        assertThat(fused.apply(0)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotReflectLaterChangesToComposite() {
+        // Given
+        final FunctionChain<Integer, Integer> chain = new FunctionChain<>(new Increment(1));
+        final Function<Integer, Integer> fused = chain.fuse();
+
+        // When
+        chain.getComponents().add((Function) new Increment(1));
+
+        // Then
+        assertThat(fused.apply(0)).isEqualTo(1);
+        assertThat(chain.apply(0)).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotFuseTupleAdaptedFunctionWithoutFunction() {
+        // Given
+        final TupleAdaptedFunction<String, Object, Object> noFunction = new TupleAdaptedFunction<>();
+        final FunctionChain<Tuple<String>, Tuple<String>> chain = new FunctionChain<>(noFunction);
+
+        // When
+        final Function<Tuple<String>, Tuple<String>> fused = chain.fuse();
+
+        // Then
+        assertThat(fused).isSameAs(noFunction);
+    }
+}
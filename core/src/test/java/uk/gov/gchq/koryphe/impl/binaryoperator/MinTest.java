@@ -19,6 +19,8 @@ package uk.gov.gchq.koryphe.impl.binaryoperator;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.binaryoperator.BinaryOperatorTest;
+import uk.gov.gchq.koryphe.binaryoperator.DoubleState;
+import uk.gov.gchq.koryphe.binaryoperator.LongState;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
@@ -28,6 +30,26 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public class MinTest extends BinaryOperatorTest<Min> {
 
+    @Test
+    public void shouldAggregateIntoPrimitiveStates() {
+        // Given
+        final Min min = new Min();
+        final LongState longState = min.createLongState();
+        final DoubleState doubleState = min.createDoubleState();
+
+        // When
+        for (final long value : new long[] {1, 5, 3}) {
+            longState.accumulate(value);
+        }
+        for (final double value : new double[] {-1.0, 2.5, 1.5}) {
+            doubleState.accumulate(value);
+        }
+
+        // Then
+        assertThat(longState.result()).isEqualTo(1L);
+        assertThat(doubleState.result()).isEqualTo(-1.0);
+    }
+
     @Test
     public void testAggregateInIntMode() {
         // Given
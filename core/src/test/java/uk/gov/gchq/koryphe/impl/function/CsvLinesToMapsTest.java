@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2020 Crown Copyright
+ * Copyright 2019-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,18 +16,29 @@
 
 package uk.gov.gchq.koryphe.impl.function;
 
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.function.FunctionTest;
+import uk.gov.gchq.koryphe.util.CsvColumnType;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
 
 import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
 
@@ -44,7 +55,8 @@ public class CsvLinesToMapsTest extends FunctionTest<CsvLinesToMaps> {
                 new CsvLinesToMaps().firstRow(8),
                 new CsvLinesToMaps().quoteChar('\''),
                 new CsvLinesToMaps().quoted(),
-                new CsvLinesToMaps().header("myHeader")
+                new CsvLinesToMaps().header("myHeader"),
+                new CsvLinesToMaps().columnType("myHeader", CsvColumnType.LONG)
         );
     }
 
@@ -117,4 +129,154 @@ public class CsvLinesToMapsTest extends FunctionTest<CsvLinesToMaps> {
         // Then
         assertThat(result).isNull();
     }
+
+    @Test
+    public void shouldParseLinesWithAndWithoutQuotesLikeCsvParser() throws IOException {
+        assertSameAsCsvParser(new CsvLinesToMaps());
+        assertSameAsCsvParser(new CsvLinesToMaps().trim(true));
+        assertSameAsCsvParser(new CsvLinesToMaps().nullString("x"));
+        assertSameAsCsvParser(new CsvLinesToMaps().nullString(null));
+        assertSameAsCsvParser(new CsvLinesToMaps().delimiter(';').quoted().quoteChar('\''));
+        assertSameAsCsvParser(new CsvLinesToMaps().delimiter(' ').trim(true));
+    }
+
+    @Test
+    public void shouldUseUpdatedFormatAfterParsing() {
+        // Given
+        final CsvLinesToMaps function = new CsvLinesToMaps().header("a", "b");
+        function.apply(Arrays.asList("1,2")).forEach(map -> { });
+
+        // When
+        function.setDelimiter(';');
+        final Iterable<Map<String, Object>> result = function.apply(Arrays.asList("1;2"));
+
+        // Then
+        assertThat(result)
+                .first(as(MAP))
+                .containsOnly(entry("a", "1"), entry("b", "2"));
+    }
+
+    @Test
+    public void shouldNotParseEmptyLine() {
+        // Given
+        final CsvLinesToMaps function = new CsvLinesToMaps().header("a");
+
+        // When / Then
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> function.apply(Arrays.asList("")).iterator().next());
+    }
+
+    @Test
+    public void shouldConvertColumnTypes() {
+        // Given
+        final CsvLinesToMaps function = new CsvLinesToMaps()
+                .header("id", "name", "count", "score", "flag", "date")
+                .columnType("id", CsvColumnType.LONG)
+                .columnType("count", CsvColumnType.INTEGER)
+                .columnType("score", CsvColumnType.DOUBLE)
+                .columnType("flag", CsvColumnType.BOOLEAN)
+                .columnType("date", CsvColumnType.TIME);
+        final List<String> input = Arrays.asList(
+                "1,a,2,1.5,true,1500000000000",
+                "-2,\"b, c\",,2,false,3",
+                "3, d ,4,,TRUE,");
+
+        // When
+        final Iterator<Map<String, Object>> itr = function.apply(input).iterator();
+
+        // Then
+        assertThat(itr.next()).containsOnly(entry("id", 1L), entry("name", "a"), entry("count", 2),
+                entry("score", 1.5), entry("flag", true), entry("date", 1500000000000L));
+        assertThat(itr.next()).containsOnly(entry("id", -2L), entry("name", "b, c"), entry("count", null),
+                entry("score", 2.0), entry("flag", false), entry("date", 3L));
+        assertThat(itr.next()).containsOnly(entry("id", 3L), entry("name", " d "), entry("count", 4),
+                entry("score", null), entry("flag", true), entry("date", null));
+    }
+
+    @Test
+    public void shouldConvertTrimmedColumnTypes() {
+        // Given
+        final CsvLinesToMaps function = new CsvLinesToMaps()
+                .header("id", "count")
+                .trim(true)
+                .columnType("id", CsvColumnType.LONG)
+                .columnType("count", CsvColumnType.INTEGER);
+
+        // When
+        final Iterable<Map<String, Object>> result = function.apply(Arrays.asList(" 1 ,\t2", "  ,\"3\""));
+
+        // Then
+        assertThat(result).containsExactly(map("id", 1L, "count", 2), map("id", null, "count", 3));
+    }
+
+    @Test
+    public void shouldJsonSerialiseColumnTypes() throws IOException {
+        // Given
+        final CsvLinesToMaps function = new CsvLinesToMaps()
+                .header("id", "date")
+                .columnType("id", CsvColumnType.LONG)
+                .columnType("date", CsvColumnType.DATE);
+
+        // When
+        final String json = JsonSerialiser.serialise(function);
+
+        // Then
+        JsonSerialiser.assertEquals(String.format("{%n" +
+                "   \"class\" : \"uk.gov.gchq.koryphe.impl.function.CsvLinesToMaps\",%n" +
+                "   \"header\" : [\"id\", \"date\"]," +
+                "   \"columnTypes\" : {\"id\" : \"LONG\", \"date\" : \"DATE\"}" +
+                "}"), json);
+        assertThat(JsonSerialiser.deserialise(json, CsvLinesToMaps.class)).isEqualTo(function);
+    }
+
+    private static Map<String, Object> map(final String key1, final Object value1, final String key2, final Object value2) {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(key1, value1);
+        map.put(key2, value2);
+        return map;
+    }
+
+    // Compares random lines, built from characters that the parser treats specially,
+    // with the record that a new CSVParser reads from each line
+    private static void assertSameAsCsvParser(final CsvLinesToMaps function) throws IOException {
+        final CSVFormat.Builder formatBuilder = CSVFormat.DEFAULT.builder()
+                .setDelimiter(function.getDelimiter())
+                .setTrim(function.getTrim())
+                .setNullString(function.getNullString());
+        if (function.isQuoted()) {
+            formatBuilder.setQuote(function.getQuoteChar());
+        }
+        final CSVFormat format = formatBuilder.build();
+        final String[] parts = {"a", "bc", " ", "\t", ",", ";", "\"", "'", "x", ""};
+        final SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 2000; i++) {
+            final StringBuilder line = new StringBuilder();
+            final int length = 1 + random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                line.append(parts[random.nextInt(parts.length)]);
+            }
+
+            final List<String> expected;
+            try (final CSVParser parser = new CSVParser(new StringReader(line.toString()), format)) {
+                expected = parser.iterator().next().toList();
+            } catch (final IllegalStateException | NoSuchElementException | UncheckedIOException e) {
+                continue;
+            }
+
+            final List<String> columns = new ArrayList<>();
+            for (int column = 0; column < expected.size(); column++) {
+                columns.add("c" + column);
+            }
+            function.setHeader(columns);
+            final Map<String, Object> expectedMap = new HashMap<>();
+            for (int column = 0; column < expected.size(); column++) {
+                expectedMap.put(columns.get(column), expected.get(column));
+            }
+
+            assertThat(function.apply(Arrays.asList(line.toString())))
+                    .as("Parsed line <%s>", line)
+                    .containsExactly(expectedMap);
+        }
+    }
 }
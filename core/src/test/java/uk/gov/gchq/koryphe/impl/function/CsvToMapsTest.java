@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2020 Crown Copyright
+ * Copyright 2019-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,14 +19,23 @@ package uk.gov.gchq.koryphe.impl.function;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.function.FunctionTest;
+import uk.gov.gchq.koryphe.tuple.LayoutMap;
+import uk.gov.gchq.koryphe.util.CsvColumnType;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
 
@@ -43,7 +52,8 @@ public class CsvToMapsTest extends FunctionTest<CsvToMaps> {
                 new CsvToMaps().firstRow(8),
                 new CsvToMaps().quoteChar('\''),
                 new CsvToMaps().quoted(),
-                new CsvToMaps().header("myHeader")
+                new CsvToMaps().header("myHeader"),
+                new CsvToMaps().columnType("myHeader", CsvColumnType.LONG)
         );
     }
 
@@ -112,4 +122,150 @@ public class CsvToMapsTest extends FunctionTest<CsvToMaps> {
         // Then
         assertThat(result).isNull();
     }
+
+    @Test
+    public void shouldParseRecordsLazily() {
+        // Given
+        final CsvToMaps function = new CsvToMaps().header("id", "name");
+        final CountingReader reader = new CountingReader(new Reader() {
+            private int count = 0;
+
+            @Override
+            public int read(final char[] buffer, final int offset, final int length) {
+                // An endless CSV of "1,a\n" records
+                final String record = "1,a\n";
+                for (int i = 0; i < length; i++) {
+                    buffer[offset + i] = record.charAt(count++ % record.length());
+                }
+                return length;
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        // When
+        final Iterator<Map<String, Object>> itr = function.parse(reader).iterator();
+
+        // Then
+        assertThat(itr.next()).containsOnly(entry("id", "1"), entry("name", "a"));
+        assertThat(itr.next()).containsOnly(entry("id", "1"), entry("name", "a"));
+        assertThat(reader.read).isLessThan(100_000);
+    }
+
+    @Test
+    public void shouldParseReaderOnceAndCloseIt() throws IOException {
+        // Given
+        final CsvToMaps function = new CsvToMaps().header("header1", "header2").firstRow(1);
+        final CountingReader reader = new CountingReader(new StringReader("header1,header2\nvalue1,value2\n"));
+
+        // When
+        final Iterable<Map<String, Object>> result = function.parse(reader);
+
+        // Then
+        assertThat(result.iterator().next()).containsOnly(entry("header1", "value1"), entry("header2", "value2"));
+        ((Closeable) result).close();
+        assertThat(reader.closed).isTrue();
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(result::iterator)
+                .withMessage("A CSV read from a Reader can only be iterated once");
+    }
+
+    @Test
+    public void shouldParseInputStream() {
+        // Given
+        final CsvToMaps function = new CsvToMaps().header("header1", "header2");
+        final byte[] csv = "value1,\u00e9\n".getBytes(UTF_8);
+
+        // When
+        final Iterator<Map<String, Object>> itr = function.parse(new ByteArrayInputStream(csv)).iterator();
+
+        // Then
+        assertThat(itr.next()).containsOnly(entry("header1", "value1"), entry("header2", "\u00e9"));
+        assertThat(itr.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldIterateStringMoreThanOnce() {
+        // Given
+        final CsvToMaps function = new CsvToMaps().header("header1");
+
+        // When
+        final Iterable<Map<String, Object>> result = function.apply("value1\nvalue2");
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result).hasSize(2);
+    }
+
+    @Test
+    public void shouldThrowWhenIteratingInvalidCsv() {
+        // Given
+        final CsvToMaps function = new CsvToMaps().header("header1");
+        final Iterable<Map<String, Object>> result = function.apply("\"value1");
+
+        // When / Then
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> result.iterator().hasNext())
+                .withMessage("Unable to parse csv");
+    }
+
+    @Test
+    public void shouldShareHeaderLayoutBetweenRows() {
+        // Given
+        final CsvToMaps function = new CsvToMaps().header("a", "b", "a");
+        final String input = "1,2,3\n4,5";
+
+        // When
+        final Iterator<Map<String, Object>> itr = function.apply(input).iterator();
+        final Map<String, Object> first = itr.next();
+        final Map<String, Object> second = itr.next();
+
+        // Then
+        assertThat(first).isInstanceOf(LayoutMap.class).containsOnly(entry("a", "3"), entry("b", "2"));
+        assertThat(second).containsOnly(entry("a", "4"), entry("b", "5"));
+        assertThat(((LayoutMap<String>) first).getLayout()).isSameAs(((LayoutMap<String>) second).getLayout());
+        assertThat(((LayoutMap<String>) first).asTuple().get("b")).isEqualTo("2");
+        assertThat(((LayoutMap<String>) first).asTuple().getLayout()).isSameAs(((LayoutMap<String>) first).getLayout());
+    }
+
+    @Test
+    public void shouldConvertColumnTypes() {
+        // Given
+        final CsvToMaps function = new CsvToMaps()
+                .header("id", "name", "score")
+                .columnType("id", CsvColumnType.LONG)
+                .columnType("score", CsvColumnType.FLOAT);
+
+        // When
+        final Iterator<Map<String, Object>> itr = function.apply("1,a,1.5\n2,\"b, c\",2").iterator();
+
+        // Then
+        assertThat(itr.next()).containsOnly(entry("id", 1L), entry("name", "a"), entry("score", 1.5f));
+        assertThat(itr.next()).containsOnly(entry("id", 2L), entry("name", "b, c"), entry("score", 2.0f));
+    }
+
+    private static final class CountingReader extends Reader {
+        private final Reader reader;
+        private long read = 0;
+        private boolean closed = false;
+
+        private CountingReader(final Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) throws IOException {
+            final int count = reader.read(buffer, offset, length);
+            read += Math.max(count, 0);
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            reader.close();
+        }
+    }
 }
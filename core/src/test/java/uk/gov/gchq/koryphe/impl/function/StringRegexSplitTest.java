@@ -16,12 +16,14 @@
 
 package uk.gov.gchq.koryphe.impl.function;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.function.FunctionTest;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
 
@@ -54,6 +56,19 @@ public class StringRegexSplitTest extends FunctionTest<StringRegexSplit> {
         assertThat(result).contains("first", "second", "third");
     }
 
+    @Test
+    public void shouldReturnSerialisableListWithoutTrailingEmptyStrings() {
+        // Given
+        final StringRegexSplit function = new StringRegexSplit(",");
+
+        // When
+        final List<String> result = function.apply("a,b,,");
+
+        // Then
+        assertThat(result).containsExactly("a", "b");
+        assertThat((Object) SerializationUtils.roundtrip((Serializable) result)).isEqualTo(result);
+    }
+
     @Override
     protected StringRegexSplit getInstance() {
         return new StringRegexSplit("test");
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,9 @@ import uk.gov.gchq.koryphe.predicate.PredicateTest;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,6 +46,18 @@ public class AgeOffTest extends PredicateTest<AgeOff> {
         assertThat(ageOffTime).isEqualTo(AgeOff.AGE_OFF_TIME_DEFAULT);
     }
 
+    @Test
+    public void shouldUseClockForCurrentTime() {
+        // Given
+        final AgeOff filter = new AgeOff(CUSTOM_AGE_OFF);
+        filter.setClock(Clock.fixed(Instant.ofEpochMilli(1000000L), ZoneOffset.UTC));
+
+        // When / Then
+        assertThat(filter).accepts(1000000L - CUSTOM_AGE_OFF + 1, 1000000L, 2000000L)
+                .rejects(1000000L - CUSTOM_AGE_OFF, 0L, null);
+        assertBatchMatchesTest(filter, 1000000L - CUSTOM_AGE_OFF, 1000000L, 0L, null);
+    }
+
     @Test
     public void shouldSetAgeOffInDays() {
         // Given
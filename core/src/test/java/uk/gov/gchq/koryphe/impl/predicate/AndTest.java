@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,9 +26,11 @@ import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -36,6 +38,32 @@ import static org.mockito.Mockito.verify;
 
 public class AndTest extends PredicateTest<And> {
 
+    @Test
+    public void shouldTestBatchConsistentlyWithTest() {
+        assertBatchMatchesTest(new And<>(new IsMoreThan(5), new IsLessThan(10)), 1, 5, 6, 9, 10, 20, null, "7");
+        assertBatchMatchesTest(new And<>(), 1, null);
+        assertBatchMatchesTest(new And<>(new IsMoreThan(5), new IntegerTupleAdaptedPredicate(new IsLessThan(10), 0)), 1, 6, 20);
+    }
+
+    @Test
+    public void shouldOnlyTestBatchInputsAcceptedByPreviousPredicates() {
+        // Given
+        final Predicate<Object> second = mock(Predicate.class);
+        final And<Object> and = new And<>(new IsMoreThan(5), second);
+        given(second.test(7)).willReturn(true);
+        final long[] resultBitmap = new long[1];
+
+        // When
+        and.testBatch(new Object[] {1, 6, 7, 2}, 4, resultBitmap);
+
+        // Then
+        assertThat(resultBitmap[0]).isEqualTo(0b100L);
+        verify(second).test(6);
+        verify(second).test(7);
+        verify(second, never()).test(1);
+        verify(second, never()).test(2);
+    }
+
     @Test
     public void shouldAcceptWhenAllFunctionsAccept() {
         // Given
@@ -120,6 +148,29 @@ public class AndTest extends PredicateTest<And> {
                 .accepts(new ArrayTuple("test"));
     }
 
+    @Test
+    public void shouldGiveUnpackedValueToAdaptedPredicateWithoutTestingTupleAdaptedPredicate() {
+        // Given
+        final IntegerTupleAdaptedPredicate tupleAdapted = mock(IntegerTupleAdaptedPredicate.class);
+        given(tupleAdapted.getPredicate()).willReturn((Predicate) new IsMoreThan(1));
+        final And predicate = new And<>(tupleAdapted);
+
+        // When / Then
+        assertThat(predicate).accepts(5);
+        assertThat(predicate).rejects(0);
+        verify(tupleAdapted, never()).test(any());
+    }
+
+    @Test
+    public void shouldRejectNullWhenAdaptedPredicateCannotTestSelection() {
+        // Given
+        final And predicate = new And<>(new IntegerTupleAdaptedPredicate(new IsMoreThan(1), 0));
+
+        // When / Then
+        assertThat(predicate).rejects((Object) null);
+        assertThat(predicate).accepts(new ArrayTuple((Object) 5));
+    }
+
     @Test
     public void shouldJsonSerialiseAndDeserialise() throws IOException {
         // Given
@@ -186,6 +237,93 @@ public class AndTest extends PredicateTest<And> {
         assertThat(deserialisedFilter).isNotNull();
     }
 
+    @Test
+    public void shouldApplyMostDecisivePredicateFirstWhenAdaptive() {
+        // Given
+        final AtomicInteger firstCount = new AtomicInteger();
+        final AtomicInteger secondCount = new AtomicInteger();
+        final And<Integer> predicate = new And<>(
+                (Predicate<Integer>) input -> {
+                    firstCount.incrementAndGet();
+                    return true;
+                },
+                (Predicate<Integer>) input -> {
+                    secondCount.incrementAndGet();
+                    return false;
+                });
+        predicate.setAdaptive(true);
+        for (int i = 0; i < 20000; i++) {
+            assertThat(predicate.test(i)).isEqualTo(false);
+        }
+        firstCount.set(0);
+        secondCount.set(0);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            assertThat(predicate.test(i)).isEqualTo(false);
+        }
+
+        // Then
+        assertThat(firstCount.get()).isZero();
+        assertThat(secondCount.get()).isEqualTo(100);
+        assertThat(predicate.getComponents()).hasSize(2);
+    }
+
+    @Test
+    public void shouldApplyPredicatesInDeclaredOrderWhenNotAdaptive() {
+        // Given
+        final AtomicInteger firstCount = new AtomicInteger();
+        final And<Integer> predicate = new And<>(
+                (Predicate<Integer>) input -> {
+                    firstCount.incrementAndGet();
+                    return true;
+                },
+                (Predicate<Integer>) input -> false);
+
+        // When
+        for (int i = 0; i < 20000; i++) {
+            predicate.test(i);
+        }
+
+        // Then
+        assertThat(firstCount.get()).isEqualTo(20000);
+    }
+
+    @Test
+    public void shouldKeepResultsWhenAdaptive() {
+        // Given
+        final And<Integer> predicate = new And<>(new IsMoreThan(10), new IsLessThan(20), new IsIn(5, 15, 25));
+        final And<Integer> adaptive = new And<>(new IsMoreThan(10), new IsLessThan(20), new IsIn(5, 15, 25));
+        adaptive.setAdaptive(true);
+
+        // When / Then
+        for (int i = 0; i < 20000; i++) {
+            assertThat(adaptive.test(i % 30)).isEqualTo(predicate.test(i % 30));
+        }
+        assertBatchMatchesTest(adaptive, 5, 11, 15, 19, 25, 29);
+    }
+
+    @Test
+    public void shouldJsonSerialiseAndDeserialiseAdaptive() throws IOException {
+        // Given
+        final And filter = new And(new IsA(String.class));
+        filter.setAdaptive(true);
+
+        // When
+        final String json = JsonSerialiser.serialise(filter);
+
+        // Then
+        JsonSerialiser.assertEquals(String.format("{%n" +
+                "  \"class\" : \"uk.gov.gchq.koryphe.impl.predicate.And\",%n" +
+                "  \"adaptive\" : true,%n" +
+                "  \"predicates\" : [ {%n" +
+                "    \"class\" : \"uk.gov.gchq.koryphe.impl.predicate.IsA\",%n" +
+                "    \"type\" : \"java.lang.String\"%n" +
+                "  } ]%n" +
+                "}"), json);
+        assertThat(JsonSerialiser.deserialise(json, And.class)).isEqualTo(filter);
+    }
+
     @Test
     public void shouldCheckInputClass() {
         // When
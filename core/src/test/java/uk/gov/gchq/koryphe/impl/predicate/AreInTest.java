@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.predicate.PredicateTest;
+import uk.gov.gchq.koryphe.util.BloomFilter;
 import uk.gov.gchq.koryphe.util.CustomObj;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
@@ -50,6 +51,19 @@ public class AreInTest extends PredicateTest<AreIn> {
         set.add(VALUE2);
     }
 
+    @Test
+    public void shouldAllowValuesToBeModified() {
+        // Given
+        final AreIn filter = new AreIn("A", "B");
+
+        // When
+        ((Collection<Object>) filter.getValues()).add("C");
+
+        // Then
+        assertThat(filter).accepts(Arrays.asList("A", "C"));
+        assertThat((Collection<Object>) filter.getValues()).containsExactlyInAnyOrder("A", "B", "C");
+    }
+
     @Test
     public void shouldAcceptWhenValuesEmptyAndInputNull() {
         // Given
@@ -198,6 +212,28 @@ public class AreInTest extends PredicateTest<AreIn> {
         assertThat(deserialisedFilter.getValues().toArray()).isEqualTo(Collections.singleton(VALUE1).toArray());
     }
 
+    @Test
+    public void shouldCheckEachValueAgainstBloomFilter() {
+        // Given
+        final AreIn filter = new AreIn();
+        filter.setBloomFilter(BloomFilter.of(Arrays.asList("A", "B", "C"), 0.001));
+
+        // When / Then
+        assertThat(filter).accepts(Arrays.asList("A", "C"), Collections.emptyList())
+                .rejects(Arrays.asList("A", "D"), null);
+    }
+
+    @Test
+    public void shouldCheckBloomFilterAndAllowedValues() {
+        // Given
+        final AreIn filter = new AreIn("A", "B");
+        filter.setBloomFilter(BloomFilter.of(Arrays.asList("A", "B", "C"), 0.001));
+
+        // When / Then
+        assertThat(filter).accepts(Arrays.asList("A", "B"))
+                .rejects(Arrays.asList("A", "C"), Arrays.asList("D"));
+    }
+
     @Override
     protected AreIn getInstance() {
         return new AreIn(VALUE1);
@@ -29,6 +29,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class IsEqualTest extends PredicateTest<IsEqual> {
 
+    @Test
+    public void shouldTestBatchConsistentlyWithTest() {
+        assertBatchMatchesTest(new IsEqual(5L), 5L, 6L, 5, null, "5");
+        assertBatchMatchesTest(new IsEqual("a"), "a", "b", null, 1);
+        assertBatchMatchesTest(new IsEqual(), "a", null, 1);
+    }
+
     @Test
     public void shouldAcceptTheTestValue() {
         // Given
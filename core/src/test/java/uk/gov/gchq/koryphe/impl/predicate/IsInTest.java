@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2025 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,17 +20,29 @@ import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.predicate.PredicateTest;
+import uk.gov.gchq.koryphe.util.BloomFilter;
 import uk.gov.gchq.koryphe.util.CustomObj;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class IsInTest extends PredicateTest<IsIn> {
 
+    @Test
+    public void shouldTestBatchConsistentlyWithTest() {
+        assertBatchMatchesTest(new IsIn(1, "a", 2L), 1, "a", 2L, 2, "b", null);
+        assertBatchMatchesTest(new IsIn(), 1, null);
+    }
+
     @Test
     void shouldAcceptWhenValueInList() {
         // Given
@@ -49,6 +61,36 @@ class IsInTest extends PredicateTest<IsIn> {
         assertThat(filter).rejects("D");
     }
 
+    @Test
+    public void shouldAllowAllowedValuesToBeModified() {
+        // Given
+        final IsIn filter = new IsIn("A", "B", "C");
+
+        // When
+        filter.getAllowedValues().add("D");
+        filter.getAllowedValues().remove("A");
+
+        // Then
+        assertThat(filter).accepts("B", "D").rejects("A");
+        assertThat(filter.getAllowedValues()).containsExactlyInAnyOrder("B", "C", "D");
+    }
+
+    @Test
+    public void shouldOnlyCopyCompactAllowedValuesOnce() {
+        // Given
+        final IsIn filter = new IsIn(1, 2, 3);
+        filter.getAllowedValuesArray();
+        assertThat(filter.allowedValues()).isNotInstanceOf(HashSet.class);
+
+        // When
+        final Set<Object> values = filter.getAllowedValues();
+
+        // Then
+        assertThat(values).isInstanceOf(HashSet.class).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(filter.getAllowedValues()).isSameAs(values);
+        assertThat(filter.allowedValues()).isSameAs(values);
+    }
+
     @Test
     public void shouldJsonSerialiseAndDeserialise() throws IOException {
         // Given
@@ -72,6 +114,62 @@ class IsInTest extends PredicateTest<IsIn> {
         assertThat(deserialisedFilter.getAllowedValues()).containsExactlyElementsOf(Sets.newHashSet(controlData));
     }
 
+    @Test
+    public void shouldCheckBloomFilterBeforeAllowedValues() {
+        // Given
+        final IsIn filter = new IsIn("A", "B", "C");
+        filter.setBloomFilter(BloomFilter.of(Arrays.asList("A", "B", "C", "D"), 0.01));
+
+        // When / Then
+        assertThat(filter).accepts("A", "C").rejects("D", "E", null);
+        assertBatchMatchesTest(filter, "A", "B", "D", "E", null);
+    }
+
+    @Test
+    public void shouldApproximateWithBloomFilterWithoutAllowedValues() {
+        // Given
+        final List<Object> values = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            values.add(i);
+        }
+        final IsIn filter = new IsIn();
+        filter.setBloomFilter(BloomFilter.of(values, 0.01));
+
+        // When
+        int accepted = 0;
+        for (long i = 0; i < 2000; i++) {
+            if (filter.test(i)) {
+                accepted++;
+            }
+        }
+
+        // Then
+        assertThat(filter).accepts(0L, 500L, 999L);
+        assertThat(accepted).isBetween(1000, 1050);
+        assertBatchMatchesTest(filter, 0L, 1L, 5000L, null);
+    }
+
+    @Test
+    public void shouldJsonSerialiseAndDeserialiseWithBloomFilter() throws IOException {
+        // Given
+        final IsIn filter = new IsIn();
+        filter.setBloomFilter(BloomFilter.of(Arrays.asList("A", "B"), 0.01));
+
+        // When
+        final String json = JsonSerialiser.serialise(filter);
+        final IsIn deserialisedFilter = JsonSerialiser.deserialise(json, IsIn.class);
+
+        // Then
+        JsonSerialiser.assertEquals(String.format("{%n" +
+                "  \"class\" : \"uk.gov.gchq.koryphe.impl.predicate.IsIn\",%n" +
+                "  \"values\" : [ ],%n" +
+                "  \"bloomFilter\" : { \"numHashes\" : 22, \"bits\" : \"%s\" }%n" +
+                "}", Base64.getEncoder().encodeToString(filter.getBloomFilter().getBits())), json);
+        assertThat(deserialisedFilter.getBloomFilter()).isEqualTo(filter.getBloomFilter());
+        assertThat(deserialisedFilter.getAllowedValues()).isEmpty();
+        assertThat(deserialisedFilter).accepts("A", "B").rejects("C");
+    }
+
     @Override
     protected IsIn getInstance() {
         return new IsIn(Collections.singletonList("someValue"));
@@ -31,6 +31,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class IsLessThanTest extends PredicateTest<IsLessThan> {
 
+    @Test
+    public void shouldTestBatchConsistentlyWithTest() {
+        assertBatchMatchesTest(new IsLessThan(5L), 1L, 5L, 6L, 5, null, "4", Long.MIN_VALUE);
+        assertBatchMatchesTest(new IsLessThan(5L, true), 1L, 5L, 6L, 5, null);
+        assertBatchMatchesTest(new IsLessThan(5), 4, 5, 6, 4L, null);
+        assertBatchMatchesTest(new IsLessThan(0.0, true), -0.0, 0.0, Double.NaN, 1.5, -1.5, -1);
+        assertBatchMatchesTest(new IsLessThan("b"), "a", "b", "c", null, 1);
+    }
+
     @Test
     public void shouldAcceptWhenLessThan() {
         // Given
@@ -30,6 +30,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class IsMoreThanTest extends PredicateTest<IsMoreThan> {
 
+    @Test
+    public void shouldTestBatchConsistentlyWithTest() {
+        assertBatchMatchesTest(new IsMoreThan(5L), 1L, 5L, 6L, 5, null, "6", Long.MAX_VALUE);
+        assertBatchMatchesTest(new IsMoreThan(5L, true), 1L, 5L, 6L, 5, null);
+        assertBatchMatchesTest(new IsMoreThan(5), 4, 5, 6, 6L, null);
+        assertBatchMatchesTest(new IsMoreThan(0.0, true), -0.0, 0.0, Double.NaN, 1.5, -1.5, 1);
+        assertBatchMatchesTest(new IsMoreThan("b"), "a", "b", "c", null, 1);
+    }
+
     @Test
     public void shouldAcceptTheValueWhenMoreThan() {
         // Given
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -83,6 +84,61 @@ public class MultiRegexTest extends PredicateTest<MultiRegex> {
         assertThat(deserialisedFilter.getPatterns()[1].pattern()).isEqualTo(patterns[1].pattern());
     }
 
+    @Test
+    public void shouldMatchSameInputsAsEachPatternInTurn() {
+        // Given
+        final Pattern[] patterns = {
+                Pattern.compile("label-a"),
+                Pattern.compile("label\\.b"),
+                Pattern.compile("\\Qlabel|c\\E"),
+                Pattern.compile("lab[0-9]+"),
+                Pattern.compile("labels?x"),
+                Pattern.compile("type-.*-entity"),
+                Pattern.compile(".*suffix"),
+                Pattern.compile("(?<name>x)y"),
+                Pattern.compile("(?<name>z)y"),
+                Pattern.compile("(a)\\1"),
+                Pattern.compile("upper", Pattern.CASE_INSENSITIVE),
+                Pattern.compile("a|b")
+        };
+        final MultiRegex filter = new MultiRegex(patterns);
+        final String[] inputs = {"label-a", "label.b", "labelxb", "label|c", "lab123", "lab", "labelx", "labelsx",
+                "labelssx", "type-person-entity", "type-entity", "my-suffix", "suffix", "xy", "zy", "aa", "ab",
+                "UPPER", "a", "b", "", "unmatched"};
+
+        // When / Then
+        for (final String input : inputs) {
+            final boolean expected = Arrays.stream(patterns).anyMatch(pattern -> pattern.matcher(input).matches());
+            assertThat(filter.test(input)).as("Result for %s", input).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void shouldMatchConcurrently() throws InterruptedException {
+        // Given
+        final MultiRegex filter = new MultiRegex(Pattern.compile("a[0-9]+"), Pattern.compile("b.*"));
+        final AtomicInteger failures = new AtomicInteger();
+        final Runnable task = () -> {
+            for (int i = 0; i < 10000; i++) {
+                if (!filter.test("a" + i) || filter.test("c" + i)) {
+                    failures.incrementAndGet();
+                }
+            }
+        };
+        final Thread[] threads = {new Thread(task), new Thread(task), new Thread(task)};
+
+        // When
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(failures).hasValue(0);
+    }
+
     @Override
     protected MultiRegex getInstance() {
         Pattern[] patterns = new Pattern[2];
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,9 +26,11 @@ import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -36,6 +38,43 @@ import static org.mockito.Mockito.verify;
 
 public class OrTest extends PredicateTest<Or> {
 
+    @Test
+    public void shouldTestBatchConsistentlyWithTest() {
+        assertBatchMatchesTest(new Or<>(new IsLessThan(5), new IsMoreThan(10)), 1, 5, 6, 10, 11, null, "7");
+        assertBatchMatchesTest(new Or<>(), 1, null);
+        assertBatchMatchesTest(new Or<>(new IsMoreThan(5), new IntegerTupleAdaptedPredicate(new IsLessThan(2), 0)), 1, 3, 20);
+    }
+
+    @Test
+    public void shouldRejectAllInBatchWithNullComponents() {
+        // Given
+        final Or<Object> or = new Or<>();
+        or.setComponents(null);
+
+        // When / Then
+        assertBatchMatchesTest(or, 1, null, "a");
+        assertThat(or).rejects(1);
+    }
+
+    @Test
+    public void shouldOnlyTestBatchInputsRejectedByPreviousPredicates() {
+        // Given
+        final Predicate<Object> second = mock(Predicate.class);
+        final Or<Object> or = new Or<>(new IsMoreThan(5), second);
+        given(second.test(1)).willReturn(true);
+        final long[] resultBitmap = new long[1];
+
+        // When
+        or.testBatch(new Object[] {1, 6, 7, 2}, 4, resultBitmap);
+
+        // Then
+        assertThat(resultBitmap[0]).isEqualTo(0b111L);
+        verify(second).test(1);
+        verify(second).test(2);
+        verify(second, never()).test(6);
+        verify(second, never()).test(7);
+    }
+
     @Test
     public void shouldAcceptWhenOneFunctionsAccepts() {
         // Given
@@ -123,6 +162,29 @@ public class OrTest extends PredicateTest<Or> {
                 .accepts(new ArrayTuple("test"));
     }
 
+    @Test
+    public void shouldGiveUnpackedValueToAdaptedPredicateWithoutTestingTupleAdaptedPredicate() {
+        // Given
+        final IntegerTupleAdaptedPredicate tupleAdapted = mock(IntegerTupleAdaptedPredicate.class);
+        given(tupleAdapted.getPredicate()).willReturn((Predicate) new IsMoreThan(1));
+        final Or predicate = new Or<>(tupleAdapted);
+
+        // When / Then
+        assertThat(predicate).accepts(5);
+        assertThat(predicate).rejects(0);
+        verify(tupleAdapted, never()).test(any());
+    }
+
+    @Test
+    public void shouldRejectNullWhenAdaptedPredicateCannotTestSelection() {
+        // Given
+        final Or predicate = new Or<>(new IntegerTupleAdaptedPredicate(new IsMoreThan(1), 0));
+
+        // When / Then
+        assertThat(predicate).rejects((Object) null);
+        assertThat(predicate).accepts(new ArrayTuple((Object) 5));
+    }
+
     @Test
     public void shouldJsonSerialiseAndDeserialise() throws IOException {
         // Given
@@ -187,6 +249,93 @@ public class OrTest extends PredicateTest<Or> {
         assertThat(deserialisedFilter).isNotNull();
     }
 
+    @Test
+    public void shouldApplyMostDecisivePredicateFirstWhenAdaptive() {
+        // Given
+        final AtomicInteger firstCount = new AtomicInteger();
+        final AtomicInteger secondCount = new AtomicInteger();
+        final Or<Integer> predicate = new Or<>(
+                (Predicate<Integer>) input -> {
+                    firstCount.incrementAndGet();
+                    return false;
+                },
+                (Predicate<Integer>) input -> {
+                    secondCount.incrementAndGet();
+                    return true;
+                });
+        predicate.setAdaptive(true);
+        for (int i = 0; i < 20000; i++) {
+            assertThat(predicate.test(i)).isEqualTo(true);
+        }
+        firstCount.set(0);
+        secondCount.set(0);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            assertThat(predicate.test(i)).isEqualTo(true);
+        }
+
+        // Then
+        assertThat(firstCount.get()).isZero();
+        assertThat(secondCount.get()).isEqualTo(100);
+        assertThat(predicate.getComponents()).hasSize(2);
+    }
+
+    @Test
+    public void shouldApplyPredicatesInDeclaredOrderWhenNotAdaptive() {
+        // Given
+        final AtomicInteger firstCount = new AtomicInteger();
+        final Or<Integer> predicate = new Or<>(
+                (Predicate<Integer>) input -> {
+                    firstCount.incrementAndGet();
+                    return false;
+                },
+                (Predicate<Integer>) input -> true);
+
+        // When
+        for (int i = 0; i < 20000; i++) {
+            predicate.test(i);
+        }
+
+        // Then
+        assertThat(firstCount.get()).isEqualTo(20000);
+    }
+
+    @Test
+    public void shouldKeepResultsWhenAdaptive() {
+        // Given
+        final Or<Integer> predicate = new Or<>(new IsMoreThan(10), new IsLessThan(20), new IsIn(5, 15, 25));
+        final Or<Integer> adaptive = new Or<>(new IsMoreThan(10), new IsLessThan(20), new IsIn(5, 15, 25));
+        adaptive.setAdaptive(true);
+
+        // When / Then
+        for (int i = 0; i < 20000; i++) {
+            assertThat(adaptive.test(i % 30)).isEqualTo(predicate.test(i % 30));
+        }
+        assertBatchMatchesTest(adaptive, 5, 11, 15, 19, 25, 29);
+    }
+
+    @Test
+    public void shouldJsonSerialiseAndDeserialiseAdaptive() throws IOException {
+        // Given
+        final Or filter = new Or(new IsA(String.class));
+        filter.setAdaptive(true);
+
+        // When
+        final String json = JsonSerialiser.serialise(filter);
+
+        // Then
+        JsonSerialiser.assertEquals(String.format("{%n" +
+                "  \"class\" : \"uk.gov.gchq.koryphe.impl.predicate.Or\",%n" +
+                "  \"adaptive\" : true,%n" +
+                "  \"predicates\" : [ {%n" +
+                "    \"class\" : \"uk.gov.gchq.koryphe.impl.predicate.IsA\",%n" +
+                "    \"type\" : \"java.lang.String\"%n" +
+                "  } ]%n" +
+                "}"), json);
+        assertThat(JsonSerialiser.deserialise(json, Or.class)).isEqualTo(filter);
+    }
+
     @Test
     public void shouldCheckInputClass() {
         // When
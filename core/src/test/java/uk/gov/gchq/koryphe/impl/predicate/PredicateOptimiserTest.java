@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.impl.predicate;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.impl.predicate.range.InRange;
+import uk.gov.gchq.koryphe.tuple.ArrayTuple;
+import uk.gov.gchq.koryphe.tuple.predicate.IntegerTupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.util.BloomFilter;
+import uk.gov.gchq.koryphe.util.JsonSerialiser;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PredicateOptimiserTest {
+
+    @Test
+    public void shouldFlattenNestedAndsAndOrs() {
+        // Given
+        final Predicate predicate = new And<>(
+                new IsA(Long.class),
+                new And<>(new Exists(), new Or<>(new IsTrue(), new Or<>(new IsFalse(), new Exists()))));
+
+        // When
+        final Predicate optimised = PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThat(optimised).isEqualTo(new And<>(
+                new IsA(Long.class), new Exists(), new Or<>(new IsTrue(), new IsFalse(), new Exists())));
+    }
+
+    @Test
+    public void shouldRemoveDoubleNegation() {
+        // Given
+        final Predicate predicate = new Not<>(new Not<>(new Not<>(new Not<>(new IsTrue()))));
+
+        // When
+        final Predicate optimised = PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThat(optimised).isEqualTo(new IsTrue());
+        assertThat(PredicateOptimiser.optimise(new Not<>(new Not<>(new Not<>(new IsTrue())))))
+                .isEqualTo(new Not<>(new IsTrue()));
+    }
+
+    @Test
+    public void shouldMergeEqualityAlternativesIntoIsIn() {
+        // Given
+        final Predicate predicate = new Or<>(new IsEqual(1), new IsMoreThan(10), new IsEqual(2), new IsIn(3, 4));
+
+        // When
+        final Predicate optimised = PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThat(optimised).isEqualTo(new Or<>(new IsIn(1, 2, 3, 4), new IsMoreThan(10)));
+        assertSameResults(predicate, optimised, 1, 2, 3, 4, 5, 11, null, "1");
+    }
+
+    @Test
+    public void shouldNotMergeIsInWithBloomFilter() {
+        // Given
+        final IsIn approximate = new IsIn();
+        approximate.setBloomFilter(BloomFilter.of(Arrays.asList(3, 4), 0.01));
+        final Predicate predicate = new Or<>(new IsEqual(1), approximate, new IsEqual(2));
+
+        // When
+        final Predicate optimised = PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThat(optimised).isEqualTo(new Or<>(new IsIn(1, 2), approximate));
+        assertSameResults(predicate, optimised, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void shouldMergeRangeChecksIntoInRange() {
+        // Given
+        final Predicate predicate = new And<>(
+                new InRange.Builder<Long>().start(0L).end(100L).build(),
+                new IsMoreThan(10L),
+                new IsLessThan(50L, true),
+                new IsMoreThan(5L, true));
+
+        // When
+        final Predicate optimised = PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThat(optimised).isEqualTo(new InRange.Builder<Long>()
+                .start(10L).startInclusive(false).end(50L).endInclusive(true).build());
+        assertSameResults(predicate, optimised, -1L, 0L, 5L, 10L, 11L, 50L, 51L, 100L, null);
+    }
+
+    @Test
+    public void shouldMergeBoundsWithoutInRange() {
+        // Given
+        final Predicate predicate = new And<>(
+                new IsMoreThan(1L), new IsLessThan(20L), new IsMoreThan(5L, true), new IsLessThan(10L), new IsMoreThan(5));
+
+        // When
+        final Predicate optimised = PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThat(optimised).isEqualTo(new And<>(new IsMoreThan(5L, true), new IsLessThan(10L), new IsMoreThan(5)));
+        assertSameResults(predicate, optimised, 1L, 5L, 6L, 10L, 6, "6", null);
+    }
+
+    @Test
+    public void shouldNotMergeRangeChecksIntoEmptyRange() {
+        // Given
+        final Predicate predicate = new And<>(
+                new InRange.Builder<Long>().start(0L).end(10L).build(),
+                new IsMoreThan(20L));
+
+        // When
+        final Predicate optimised = PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThat(optimised).isEqualTo(predicate);
+    }
+
+    @Test
+    public void shouldHoistSharedSelections() {
+        // Given
+        final Predicate predicate = new And.Builder<>()
+                .select(0).execute(new IsMoreThan(1))
+                .select(0).execute(new IsLessThan(10))
+                .select(1).execute(new Or.Builder<>()
+                        .select(0).execute(new IsEqual("a"))
+                        .select(0).execute(new IsEqual("b"))
+                        .build())
+                .build();
+
+        // When
+        final Predicate optimised = PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThat(optimised).isEqualTo(new And<>(
+                new IntegerTupleAdaptedPredicate(new And<>(new IsMoreThan(1), new IsLessThan(10)), 0),
+                new IntegerTupleAdaptedPredicate(new Or<>(new IntegerTupleAdaptedPredicate(new IsIn("a", "b"), 0)), 1)));
+        assertSameResults(predicate, optimised,
+                new ArrayTuple(5, new ArrayTuple("a")),
+                new ArrayTuple(5, new ArrayTuple("c")),
+                new ArrayTuple(1, new ArrayTuple("b")),
+                new ArrayTuple(9, new ArrayTuple((Object) null)));
+    }
+
+    @Test
+    public void shouldOptimiseBranchesOfIf() {
+        // Given
+        final Predicate predicate = new If<>(new Not<>(new Not<>(new IsA(String.class))),
+                new Or<>(new IsEqual("a"), new IsEqual("b")));
+
+        // When
+        final Predicate optimised = PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThat(optimised).isEqualTo(new If<>(new IsA(String.class), new IsIn("a", "b")));
+        assertSameResults(predicate, optimised, "a", "c", 1, null);
+    }
+
+    @Test
+    public void shouldNotModifyOriginalPredicate() throws IOException {
+        // Given
+        final Predicate predicate = new And<>(new And<>(new IsMoreThan(1L), new IsMoreThan(2L)), new Not<>(new Not<>(new Exists())));
+        final String json = JsonSerialiser.serialise(predicate);
+
+        // When
+        PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThat(JsonSerialiser.serialise(predicate)).isEqualTo(json);
+    }
+
+    @Test
+    public void shouldOptimiseDeserialisedPredicate() throws IOException {
+        // Given
+        final Predicate predicate = JsonSerialiser.deserialise("{" +
+                "\"class\": \"uk.gov.gchq.koryphe.impl.predicate.Or\"," +
+                "\"predicates\": [" +
+                "{\"class\": \"uk.gov.gchq.koryphe.impl.predicate.IsEqual\", \"value\": \"x\"}," +
+                "{\"class\": \"uk.gov.gchq.koryphe.impl.predicate.Or\", \"predicates\": [" +
+                "{\"class\": \"uk.gov.gchq.koryphe.impl.predicate.IsEqual\", \"value\": \"y\"}" +
+                "]}" +
+                "]}", Or.class);
+
+        // When
+        final Predicate optimised = PredicateOptimiser.optimise(predicate);
+
+        // Then
+        assertThat(optimised).isEqualTo(new IsIn("x", "y"));
+        assertThat(JsonSerialiser.deserialise(JsonSerialiser.serialise(optimised), IsIn.class)).isEqualTo(optimised);
+    }
+
+    @Test
+    public void shouldReturnOtherPredicatesUnchanged() {
+        // Given
+        final Predicate predicate = new IsMoreThan(5);
+
+        // When / Then
+        assertThat(PredicateOptimiser.optimise(predicate)).isSameAs(predicate);
+        assertThat(PredicateOptimiser.optimise(null)).isNull();
+    }
+
+    private static void assertSameResults(final Predicate original, final Predicate optimised, final Object... inputs) {
+        for (final Object input : inputs) {
+            assertThat(optimised.test(input)).as("Result for %s", input).isEqualTo(original.test(input));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 Crown Copyright
+ * Copyright 2017-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,10 @@ import uk.gov.gchq.koryphe.util.JsonSerialiser;
 import uk.gov.gchq.koryphe.util.TimeUnit;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -598,6 +602,42 @@ public abstract class AbstractInTimeRangeTest<T extends Comparable<T>> extends P
         assertThat(deserialisedFilter.getEnd()).isEqualTo(end);
     }
 
+    @Test
+    public void shouldUseClockForOffsetsAndRecalculateWhenTimeChanges() {
+        // Given
+        final MutableClock clock = new MutableClock(100000L);
+        final AbstractInTimeRange<T> filter = createBuilder()
+                .startOffset(-10L)
+                .endOffset(0L)
+                .offsetUnit(TimeUnit.SECOND)
+                .clock(clock)
+                .build();
+
+        // When / Then
+        assertThat(filter).accepts(convert(90000L), convert(100000L)).rejects(convert(89999L), convert(100001L));
+        clock.setMillis(200000L);
+        assertThat(filter).accepts(convert(190000L), convert(200000L)).rejects(convert(100000L));
+        assertBatchMatchesTest(filter, convert(189999L), convert(190000L), convert(200001L), null);
+    }
+
+    @Test
+    public void shouldNotUseClockForOffsetsFromStartAndEnd() {
+        // Given
+        final MutableClock clock = new MutableClock(0L);
+        final AbstractInTimeRange<T> filter = createBuilder()
+                .start("1000")
+                .startOffset(10L)
+                .end("2000")
+                .offsetUnit(TimeUnit.MILLISECOND)
+                .clock(clock)
+                .build();
+
+        // When / Then
+        assertThat(filter).accepts(convert(1010L), convert(2000L)).rejects(convert(1009L));
+        clock.setMillis(5000L);
+        assertThat(filter).accepts(convert(1010L));
+    }
+
     protected AbstractInTimeRange getInstance() {
         return createBuilder()
                 .start("1000")
@@ -638,4 +678,36 @@ public abstract class AbstractInTimeRangeTest<T extends Comparable<T>> extends P
     }
 
     protected abstract AbstractInTimeRange.BaseBuilder<?, ? extends AbstractInTimeRange<T>, T> createBuilder();
+
+    private static final class MutableClock extends Clock {
+        private long millis;
+
+        private MutableClock(final long millis) {
+            this.millis = millis;
+        }
+
+        private void setMillis(final long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
 }
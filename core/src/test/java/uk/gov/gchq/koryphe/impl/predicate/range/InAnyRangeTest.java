@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.impl.predicate.range;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.impl.predicate.Or;
+import uk.gov.gchq.koryphe.predicate.PredicateTest;
+import uk.gov.gchq.koryphe.util.JsonSerialiser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class InAnyRangeTest extends PredicateTest<InAnyRange> {
+
+    @Test
+    public void shouldAcceptValuesInAnyRange() {
+        // Given
+        final InAnyRange<Long> filter = new InAnyRange<>(
+                range(20L, 30L, true, false),
+                range(1L, 10L, true, true),
+                range(100L, null, false, true));
+
+        // When / Then
+        assertThat(filter).accepts(1L, 5L, 10L, 20L, 29L, 101L, Long.MAX_VALUE)
+                .rejects(0L, 11L, 30L, 100L, Long.MIN_VALUE, null);
+    }
+
+    @Test
+    public void shouldGiveSameResultsAsOrOfLongRanges() {
+        assertSameResultsAsOr(Long::valueOf);
+    }
+
+    @Test
+    public void shouldGiveSameResultsAsOrOfIntegerRanges() {
+        assertSameResultsAsOr(Long::intValue);
+    }
+
+    @Test
+    public void shouldGiveSameResultsAsOrOfDateRanges() {
+        assertSameResultsAsOr(Date::new);
+    }
+
+    @Test
+    public void shouldRejectEverythingWithNoRanges() {
+        assertThat(new InAnyRange<Long>()).rejects(0L, 1L, null);
+    }
+
+    @Test
+    public void shouldRejectBoundsOfDifferentClasses() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new InAnyRange<>(range(1L, 2L, true, true), new InRange.Builder().start(3).build()))
+                .withMessage("All range bounds should be instances of the same class");
+    }
+
+    @Test
+    @Override
+    public void shouldJsonSerialiseAndDeserialise() throws IOException {
+        // Given
+        final InAnyRange<Long> filter = new InAnyRange<>(range(1L, 10L, true, false));
+
+        // When
+        final String json = JsonSerialiser.serialise(filter);
+
+        // Then
+        JsonSerialiser.assertEquals(String.format("{%n" +
+                "  \"class\" : \"uk.gov.gchq.koryphe.impl.predicate.range.InAnyRange\",%n" +
+                "  \"ranges\" : [ {%n" +
+                "    \"class\" : \"uk.gov.gchq.koryphe.impl.predicate.range.InRange\",%n" +
+                "    \"start\" : {\"java.lang.Long\" : 1},%n" +
+                "    \"end\" : {\"java.lang.Long\" : 10},%n" +
+                "    \"startInclusive\" : true,%n" +
+                "    \"endInclusive\" : false%n" +
+                "  } ]%n" +
+                "}"), json);
+
+        // When 2
+        final InAnyRange deserialised = JsonSerialiser.deserialise(json, InAnyRange.class);
+
+        // Then 2
+        assertThat(deserialised).isEqualTo(filter);
+        assertThat(deserialised).accepts(1L, 9L).rejects(10L);
+    }
+
+    @Override
+    protected InAnyRange getInstance() {
+        return new InAnyRange<>(range(1L, 10L, true, true), range(20L, 30L, true, true));
+    }
+
+    @Override
+    protected Iterable<InAnyRange> getDifferentInstancesOrNull() {
+        return Arrays.asList(
+                new InAnyRange<>(),
+                new InAnyRange<>(range(1L, 10L, true, true)),
+                new InAnyRange<>(range(1L, 10L, true, false), range(20L, 30L, true, true)));
+    }
+
+    // Compares every pair of ranges with bounds from a small set of values,
+    // including unbounded, inverted and empty ranges.
+    private static <T extends Comparable<T>> void assertSameResultsAsOr(final Function<Long, T> convert) {
+        final List<InRange<T>> pool = new ArrayList<>();
+        final Long[] bounds = {null, 0L, 2L, 4L};
+        for (final Long start : bounds) {
+            for (final Long end : bounds) {
+                for (int flags = 0; flags < 4; flags++) {
+                    pool.add(range(null != start ? convert.apply(start) : null, null != end ? convert.apply(end) : null,
+                            0 == (flags & 1), 0 == (flags & 2)));
+                }
+            }
+        }
+
+        for (final InRange<T> first : pool) {
+            for (final InRange<T> second : pool) {
+                final InAnyRange<T> predicate = new InAnyRange<>(first, second);
+                final Or<T> expected = new Or<>(first, second);
+                for (long value = -1; value <= 5; value++) {
+                    final T input = convert.apply(value);
+                    assertThat(predicate.test(input))
+                            .as("Result for %s in %s", input, predicate)
+                            .isEqualTo(expected.test(input));
+                }
+            }
+        }
+    }
+
+    private static <T extends Comparable<T>> InRange<T> range(final T start, final T end,
+                                                              final boolean startInclusive, final boolean endInclusive) {
+        return new InRange.Builder<T>()
+                .start(start)
+                .end(end)
+                .startInclusive(startInclusive)
+                .endInclusive(endInclusive)
+                .build();
+    }
+}
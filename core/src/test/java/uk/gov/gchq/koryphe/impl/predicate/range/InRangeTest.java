@@ -32,6 +32,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class InRangeTest<T extends Comparable<T>> extends PredicateTest<InRange> {
 
+    @Test
+    public void shouldTestBatchConsistentlyWithTest() {
+        final Object[] values = {convert(0L), convert(1L), convert(5L), convert(10L), convert(11L), null};
+        assertBatchMatchesTest(createBuilder().start(convert(1L)).end(convert(10L)).build(), values);
+        assertBatchMatchesTest(createBuilder().start(convert(1L)).end(convert(10L))
+                .startInclusive(false).endInclusive(false).build(), values);
+        assertBatchMatchesTest(createBuilder().start(convert(1L)).build(), values);
+        assertBatchMatchesTest(createBuilder().end(convert(10L)).build(), values);
+        assertBatchMatchesTest(createBuilder().start(convert(10L)).end(convert(1L)).build(), values);
+    }
+
     @Test
     public void shouldAcceptValuesInRange() {
         // Given
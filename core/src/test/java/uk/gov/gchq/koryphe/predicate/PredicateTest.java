@@ -23,9 +23,11 @@ import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.util.EqualityTest;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 import uk.gov.gchq.koryphe.util.SummaryUtil;
+import uk.gov.gchq.koryphe.util.BitmapUtil;
 import uk.gov.gchq.koryphe.util.VersionUtil;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -86,4 +88,28 @@ public abstract class PredicateTest<T extends Predicate> extends EqualityTest<T>
                 .withFailMessage("%s is not a valid value string.", annotation.value())
                 .isTrue();
     }
+
+    /**
+     * Asserts that testing the inputs as a batch gives the same results as
+     * testing each input individually.
+     *
+     * @param predicate the predicate to test with
+     * @param inputs    the inputs to test
+     */
+    protected void assertBatchMatchesTest(final Predicate predicate, final Object... inputs) {
+        // Given
+        final long[] resultBitmap = new long[BitmapUtil.words(inputs.length)];
+        // Set all bits to check the batch method clears them
+        Arrays.fill(resultBitmap, -1L);
+
+        // When
+        BatchPredicate.testBatch(predicate, inputs, inputs.length, resultBitmap);
+
+        // Then
+        for (int i = 0; i < inputs.length; i++) {
+            assertThat(BitmapUtil.isSet(resultBitmap, i))
+                    .withFailMessage("Batch result for input %s was not %s", inputs[i], predicate.test(inputs[i]))
+                    .isEqualTo(predicate.test(inputs[i]));
+        }
+    }
 }
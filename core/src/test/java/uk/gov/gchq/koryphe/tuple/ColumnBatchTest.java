@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.impl.function.Divide;
+import uk.gov.gchq.koryphe.impl.function.Identity;
+import uk.gov.gchq.koryphe.impl.function.ToLong;
+
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ColumnBatchTest {
+    private final TupleLayout<String> layout = new TupleLayout<>("a", "b", "c", "d");
+
+    @Test
+    public void shouldAddTuplesAsColumns() {
+        // Given
+        final ColumnBatch<String> batch = new ColumnBatch<>(layout, 4);
+        final MapTuple<String> mapTuple = new MapTuple<>();
+        mapTuple.put("a", 1);
+        mapTuple.put("c", 3);
+
+        // When
+        batch.add(new LayoutTuple<>(layout, 10, 20, 30, 40));
+        batch.add(mapTuple);
+
+        // Then
+        assertThat(batch.size()).isEqualTo(2);
+        assertThat(batch.capacity()).isEqualTo(4);
+        assertThat(batch.getColumn("a")).containsExactly(10, 1, null, null);
+        assertThat(batch.getColumn("b")).containsExactly(20, null, null, null);
+        assertThat(batch.getTuple(1)).isEqualTo(new LayoutTuple<>(layout, 1, null, 3, null));
+    }
+
+    @Test
+    public void shouldApplySingleFieldFunctionToColumn() {
+        // Given
+        final ColumnBatch<String> batch = new ColumnBatch<>(layout, 3);
+        batch.add(new LayoutTuple<>(layout, "1", null, null, null));
+        batch.add(new LayoutTuple<>(layout, "2", null, null, null));
+
+        // When
+        batch.apply(new String[]{"a"}, new ToLong(), new String[]{"b"});
+
+        // Then
+        assertThat(batch.getColumn("a")).containsExactly("1", "2", null);
+        assertThat(batch.getColumn("b")).containsExactly(1L, 2L, null);
+    }
+
+    @Test
+    public void shouldApplyMultiFieldFunctionToColumns() {
+        // Given
+        final ColumnBatch<String> batch = new ColumnBatch<>(layout, 2);
+        batch.add(new LayoutTuple<>(layout, 7, 2, null, null));
+        batch.add(new LayoutTuple<>(layout, 9, 3, null, null));
+
+        // When
+        batch.apply(new String[]{"a", "b"}, new Divide(), new String[]{"c", "d"});
+
+        // Then
+        assertThat(batch.getTuple(0)).isEqualTo(new LayoutTuple<>(layout, 7, 2, 3, 1));
+        assertThat(batch.getTuple(1)).isEqualTo(new LayoutTuple<>(layout, 9, 3, 3, 0));
+    }
+
+    @Test
+    public void shouldSwapColumns() {
+        // Given
+        final ColumnBatch<String> batch = new ColumnBatch<>(layout, 2);
+        batch.add(new LayoutTuple<>(layout, 1, 2, null, null));
+        batch.add(new LayoutTuple<>(layout, 3, 4, null, null));
+        final Function<Tuple<Integer>, Iterable<Object>> lazyView =
+                t -> () -> IntStream.range(0, 2).mapToObj(t::get).iterator();
+
+        // When
+        batch.apply(new String[]{"a", "b"}, new Identity(), new String[]{"b", "a"});
+        batch.apply(new String[]{"a", "b"}, lazyView, new String[]{"c", "d"});
+        batch.apply(new String[]{"c", "d"}, lazyView, new String[]{"d", "c"});
+
+        // Then
+        assertThat(batch.getTuple(0)).isEqualTo(new LayoutTuple<>(layout, 2, 1, 1, 2));
+        assertThat(batch.getTuple(1)).isEqualTo(new LayoutTuple<>(layout, 4, 3, 3, 4));
+    }
+
+    @Test
+    public void shouldCopyRowsToTuples() {
+        // Given
+        final ColumnBatch<String> batch = new ColumnBatch<>(layout, 1);
+        batch.add(new LayoutTuple<>(layout, 1, 2, 3, 4));
+        final MapTuple<String> mapTuple = new MapTuple<>();
+
+        // When
+        batch.copyTo(0, mapTuple);
+
+        // Then
+        assertThat(mapTuple.get("a")).isEqualTo(1);
+        assertThat(mapTuple.get("d")).isEqualTo(4);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> batch.copyTo(1, mapTuple));
+    }
+
+    @Test
+    public void shouldClearBatchForReuse() {
+        // Given
+        final ColumnBatch<String> batch = new ColumnBatch<>(layout, 1);
+        batch.add(new LayoutTuple<>(layout, 1, 2, 3, 4));
+
+        // When
+        batch.clear();
+
+        // Then
+        assertThat(batch.size()).isZero();
+        assertThat(batch.getColumn("a")).containsExactly((Object) null);
+        batch.add(new LayoutTuple<>(layout, 5, 6, 7, 8));
+        assertThat(batch.getColumn("a")).containsExactly(5);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenFull() {
+        // Given
+        final ColumnBatch<String> batch = new ColumnBatch<>(layout, 1);
+        batch.add(layout.newTuple());
+
+        // When / Then
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> batch.add(layout.newTuple()))
+                .withMessage("Column batch is full: 1");
+    }
+
+    @Test
+    public void shouldThrowExceptionForUnknownReference() {
+        // Given
+        final ColumnBatch<String> batch = new ColumnBatch<>(layout, 1);
+
+        // When / Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> batch.apply(new String[]{"a"}, new ToLong(), new String[]{"unknown"}))
+                .withMessage("Reference is not in tuple layout: unknown");
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.tuple.function.TupleAdaptedFunction;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class LayoutMapTest {
+
+    @Test
+    public void shouldPutAndGetByKeyAndSlot() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("a", "b", "c");
+        final LayoutMap<String> map = new LayoutMap<>(layout);
+
+        // When
+        map.put("a", 1);
+        map.putSlot(1, null);
+        map.put("d", 4);
+
+        // Then
+        assertThat(map).containsExactly(entry("a", 1), entry("b", null), entry("d", 4));
+        assertThat(map.getSlot(0)).isEqualTo(1);
+        assertThat(map.containsKey("b")).isTrue();
+        assertThat(map.containsKey("c")).isFalse();
+        assertThat(map.getLayout()).isSameAs(layout);
+    }
+
+    @Test
+    public void shouldBehaveLikeHashMap() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("a", "b", "c", "d");
+        final String[] keys = {"a", "b", "c", "d", "x", "y", null};
+        final Object[] values = {1, "2", null};
+        final SplittableRandom random = new SplittableRandom(1);
+        final LayoutMap<String> map = new LayoutMap<>(layout);
+        final Map<String, Object> expected = new HashMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            // When
+            final String key = keys[random.nextInt(keys.length)];
+            final Object value = values[random.nextInt(values.length)];
+            final int operation = random.nextInt(10);
+            if (operation < 5) {
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            } else if (operation < 8) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else if (operation < 9) {
+                removeWithIterator(map, key);
+                removeWithIterator(expected, key);
+            } else if (0 == random.nextInt(20)) {
+                map.clear();
+                expected.clear();
+            } else {
+                map.entrySet().forEach(e -> e.setValue(value));
+                expected.entrySet().forEach(e -> e.setValue(value));
+            }
+
+            // Then
+            assertThat(map).isEqualTo(expected);
+            assertThat(expected).isEqualTo(map);
+            assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+            assertThat(map.containsKey(key)).isEqualTo(expected.containsKey(key));
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+
+    @Test
+    public void shouldProvideTupleView() {
+        // Given
+        final LayoutMap<String> map = new LayoutMap<>(new TupleLayout<>("a", "b"));
+        final Tuple<String> tuple = map.asTuple();
+
+        // When
+        tuple.put("a", 1);
+        tuple.put("b", 2);
+
+        // Then
+        assertThat(map).containsExactly(entry("a", 1), entry("b", 2));
+        assertThat(tuple.get("b")).isEqualTo(2);
+        assertThat(tuple.get(Tuple.THIS)).isSameAs(tuple);
+        assertThat(tuple).containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldProvideSlotBackedTupleWithLayout() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("a", "b", "c");
+        final LayoutMap<String> map = new LayoutMap<>(layout);
+        map.put("a", 1);
+        final LayoutTuple<String> tuple = map.asTuple();
+
+        // When
+        tuple.put(1, 2);
+        tuple.put("d", 4);
+
+        // Then
+        assertThat(tuple.getLayout()).isSameAs(layout);
+        assertThat(tuple.get(0)).isEqualTo(1);
+        assertThat(tuple.get(2)).isNull();
+        assertThat(tuple.get("d")).isEqualTo(4);
+        assertThat(map).containsOnly(entry("a", 1), entry("b", 2), entry("d", 4));
+        assertThat(tuple).isEqualTo(map.asTuple());
+    }
+
+    @Test
+    public void shouldListTupleValuesInSlotOrder() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("a", "b", "c");
+        final LayoutMap<String> map = new LayoutMap<>(layout);
+        map.put("c", 3);
+        map.put("a", 1);
+        map.put("d", 4);
+
+        // When
+        final LayoutTuple<String> tuple = map.asTuple();
+
+        // Then
+        assertThat(tuple).containsExactly(1, null, 3);
+        assertThat(tuple.values()).containsExactly(1, null, 3);
+    }
+
+    @Test
+    public void shouldApplyFunctionBoundToLayout() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("a", "b", "c");
+        final TupleAdaptedFunction<String, Tuple<Integer>, Object> function = new TupleAdaptedFunction<>(
+                new String[] {"a", "b"}, t -> (Integer) t.get(0) + (Integer) t.get(1), new String[] {"c"});
+        function.bind(layout);
+        final LayoutMap<String> map = new LayoutMap<>(layout);
+        map.put("a", 1);
+        map.put("b", 2);
+
+        // When
+        function.apply(map.asTuple());
+
+        // Then
+        assertThat(map).containsExactly(entry("a", 1), entry("b", 2), entry("c", 3));
+    }
+
+    @Test
+    public void shouldSerialiseAsLinkedHashMap() {
+        // Given
+        final LayoutMap<String> map = new LayoutMap<>(new TupleLayout<>("a", "b"));
+        map.put("b", 2);
+        map.put("c", 3);
+
+        // When
+        final Object deserialised = SerializationUtils.roundtrip(map);
+
+        // Then
+        assertThat(deserialised)
+                .isInstanceOf(LinkedHashMap.class)
+                .isEqualTo(map);
+    }
+
+    private static void removeWithIterator(final Map<String, Object> map, final String key) {
+        final Iterator<Map.Entry<String, Object>> itr = map.entrySet().iterator();
+        while (itr.hasNext()) {
+            if (Objects.equals(key, itr.next().getKey())) {
+                itr.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class LayoutTupleTest {
+
+    @Test
+    public void shouldGetAndPutByReferenceAndSlot() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("a", "b", "c");
+        final LayoutTuple<String> tuple = layout.newTuple();
+
+        // When
+        tuple.put("a", 1);
+        tuple.put(1, 2);
+        tuple.put("c", 3);
+
+        // Then
+        assertThat(tuple.get(0)).isEqualTo(1);
+        assertThat(tuple.get("b")).isEqualTo(2);
+        assertThat(tuple.get(2)).isEqualTo(3);
+        assertThat(tuple).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void shouldCreateWithValues() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("a", "b");
+
+        // When
+        final LayoutTuple<String> tuple = new LayoutTuple<>(layout, 1, 2);
+
+        // Then
+        assertThat(tuple).containsExactly(1, 2);
+        assertThat(tuple).isEqualTo(new LayoutTuple<>(new TupleLayout<>("a", "b"), 1, 2));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new LayoutTuple<>(layout, 1));
+    }
+
+    @Test
+    public void shouldReturnNullForUnknownReferenceAndSelfForThis() {
+        // Given
+        final LayoutTuple<String> tuple = new TupleLayout<>("a").newTuple();
+
+        // When / Then
+        assertThat(tuple.get("unknown")).isNull();
+        assertThat(tuple.get(Tuple.THIS)).isSameAs(tuple);
+    }
+
+    @Test
+    public void shouldNotPutUnknownReference() {
+        // Given
+        final LayoutTuple<String> tuple = new TupleLayout<>("a").newTuple();
+
+        // When / Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> tuple.put("unknown", 1))
+                .withMessage("Reference is not in tuple layout: unknown");
+    }
+
+    @Test
+    public void shouldResolveSlots() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("a", "b", "c");
+
+        // When / Then
+        assertThat(layout.slotOf("b")).isEqualTo(1);
+        assertThat(layout.slotOf("unknown")).isEqualTo(-1);
+        assertThat(layout.slotsOf(new String[] {"c", "a"})).containsExactly(2, 0);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> layout.slotsOf(new String[] {"a", "unknown"}));
+    }
+
+    @Test
+    public void shouldNotAllowDuplicateReferences() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new TupleLayout<>("a", "b", "a"))
+                .withMessage("Duplicate reference in tuple layout: a");
+    }
+}
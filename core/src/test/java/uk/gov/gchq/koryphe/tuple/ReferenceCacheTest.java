@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReferenceCacheTest {
+
+    @Test
+    public void shouldPutAndGet() {
+        // Given
+        final ReferenceCache<String> cache = new ReferenceCache<>();
+
+        // When
+        cache.put(String.class, "a", "valueA");
+
+        // Then
+        assertThat(cache.get(String.class, "a")).isEqualTo("valueA");
+        assertThat(cache.get(String.class, "b")).isNull();
+        assertThat(cache.get(Integer.class, "a")).isNull();
+    }
+
+    @Test
+    public void shouldCountHitsAndMisses() {
+        // Given
+        final ReferenceCache<String> cache = new ReferenceCache<>();
+        cache.put(String.class, "a", "valueA");
+
+        // When
+        cache.get(String.class, "a");
+        cache.get(String.class, "a");
+        cache.get(String.class, "b");
+
+        // Then
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldEvictEldestClassWhenBounded() {
+        // Given
+        final ReferenceCache<String> cache = new ReferenceCache<>(2);
+
+        // When
+        cache.put(String.class, "a", "string");
+        cache.put(Integer.class, "a", "integer");
+        cache.put(Long.class, "a", "long");
+
+        // Then
+        assertThat(cache.getMaxClasses()).isEqualTo(2);
+        assertThat(cache.get(String.class, "a")).isNull();
+        assertThat(cache.get(Integer.class, "a")).isEqualTo("integer");
+        assertThat(cache.get(Long.class, "a")).isEqualTo("long");
+    }
+
+    @Test
+    public void shouldNotEvictWhenUnbounded() {
+        // Given
+        final ReferenceCache<String> cache = new ReferenceCache<>();
+
+        // When
+        cache.put(String.class, "a", "string");
+        cache.put(Integer.class, "a", "integer");
+        cache.put(Long.class, "a", "long");
+
+        // Then
+        assertThat(cache.get(String.class, "a")).isEqualTo("string");
+        assertThat(cache.get(Integer.class, "a")).isEqualTo("integer");
+        assertThat(cache.get(Long.class, "a")).isEqualTo("long");
+    }
+
+    @Test
+    public void shouldKeepEvictingClassesAddedConcurrently() throws Exception {
+        // Given
+        final ReferenceCache<String> cache = new ReferenceCache<>(1);
+        final Class<?>[] classes = {String.class, Integer.class, Long.class, Double.class, Float.class, Short.class};
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            final int offset = thread;
+            tasks.add(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    cache.put(classes[(i + offset) % classes.length], "a", "value");
+                }
+                return null;
+            });
+        }
+        final List<Future<Void>> results;
+        try {
+            results = executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+        for (final Future<Void> result : results) {
+            result.get();
+        }
+
+        // When
+        cache.put(Character.class, "a", "character");
+        cache.put(Byte.class, "a", "byte");
+
+        // Then
+        for (final Class<?> aClass : classes) {
+            assertThat(cache.get(aClass, "a")).isNull();
+        }
+        assertThat(cache.get(Character.class, "a")).isNull();
+        assertThat(cache.get(Byte.class, "a")).isEqualTo("byte");
+    }
+
+    @Test
+    public void shouldPutAndGetConcurrently() throws Exception {
+        // Given
+        final ReferenceCache<String> cache = new ReferenceCache<>();
+        final Class<?>[] classes = {String.class, Integer.class, Long.class, Double.class};
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            tasks.add(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    final Class<?> aClass = classes[i % classes.length];
+                    final String reference = "ref" + (i % 50);
+                    cache.put(aClass, reference, aClass.getSimpleName() + reference);
+                    if (!(aClass.getSimpleName() + reference).equals(cache.get(aClass, reference))) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+
+        // When
+        final List<Future<Boolean>> results;
+        try {
+            results = executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        for (final Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        for (int i = 0; i < 1000; i++) {
+            final Class<?> aClass = classes[i % classes.length];
+            final String reference = "ref" + (i % 50);
+            assertThat(cache.get(aClass, reference)).isEqualTo(aClass.getSimpleName() + reference);
+        }
+    }
+}
@@ -24,7 +24,13 @@ import uk.gov.gchq.koryphe.tuple.ReflectiveTuple.Cache;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -287,6 +293,142 @@ public class ReflectiveTupleTest {
         verify(methodCache, times(2)).get(ExampleObj2.class, "getValueB");
     }
 
+    @Test
+    public void shouldShareCompiledAccessorsBetweenTuplesWithSuppliedCaches() throws Exception {
+        // Given
+        final Method getter = ExampleObj2.class.getMethod("getValueB");
+        final Field field = ExampleObj2.class.getField("valueA");
+
+        // When
+        final Object valueB = new ReflectiveTuple(new ExampleObj2(), new Cache<>(), new Cache<>()).get("valueB");
+        final Object valueA = new ReflectiveTuple(new ExampleObj2(), new Cache<>(), new Cache<>()).get("valueA");
+
+        // Then
+        assertThat(valueB).isEqualTo("mb");
+        assertThat(valueA).isEqualTo("fa");
+        assertThat(ReflectiveAccessors.getter(getter)).isSameAs(ReflectiveAccessors.getter(getter));
+        assertThat(ReflectiveAccessors.getter(field)).isSameAs(ReflectiveAccessors.getter(field));
+    }
+
+    @Test
+    public void shouldOnlyLookUpMissingReferenceOnce() {
+        // Given
+        final Cache<Field> fieldCache = mock(Cache.class);
+        final Cache<Method> methodCache = mock(Cache.class);
+        testObj = new ReflectiveTuple(new ExampleObj(), fieldCache, methodCache, new ReferenceCache<>(), new ReferenceCache<>());
+
+        // When / Then
+        for (int i = 0; i < 3; i++) {
+            assertThatExceptionOfType(RuntimeException.class)
+                    .isThrownBy(() -> testObj.get(FIELD_X))
+                    .withMessage(SELECTION_S_DOES_NOT_EXIST, FIELD_X);
+            assertThatExceptionOfType(RuntimeException.class)
+                    .isThrownBy(() -> testObj.put(FIELD_X, "value"))
+                    .withMessage(SELECTION_S_DOES_NOT_EXIST, FIELD_X);
+        }
+        verify(methodCache, times(1)).get(ExampleObj.class, "getFieldX");
+        verify(methodCache, times(1)).get(ExampleObj.class, "isFieldX");
+        verify(methodCache, times(1)).get(ExampleObj.class, "setFieldX");
+        verify(fieldCache, times(2)).get(ExampleObj.class, FIELD_X);
+    }
+
+    @Test
+    public void shouldNotFindNestedFieldOfMissingField() {
+        // Given
+        testObj = new ReflectiveTuple(new ExampleNestedObj1());
+
+        // When / Then
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(RuntimeException.class)
+                    .isThrownBy(() -> testObj.get(FIELD_X + "."))
+                    .withMessage(SELECTION_S_DOES_NOT_EXIST, FIELD_X);
+            assertThatExceptionOfType(RuntimeException.class)
+                    .isThrownBy(() -> testObj.get(FIELD_X + "." + FIELD_A))
+                    .withMessage(SELECTION_S_DOES_NOT_EXIST, FIELD_X);
+        }
+    }
+
+    @Test
+    public void shouldGetAndPutPrimitives() {
+        // Given
+        final ExamplePrimitiveObj record = new ExamplePrimitiveObj();
+        testObj = new ReflectiveTuple(record);
+
+        // When
+        testObj.put("count", 5L);
+        testObj.put("ratio", 0.5);
+        testObj.put("flag", true);
+
+        // Then
+        assertThat(testObj.get("count")).isEqualTo(5L);
+        assertThat(testObj.get("ratio")).isEqualTo(0.5);
+        assertThat(testObj.get("flag")).isEqualTo(true);
+    }
+
+    @Test
+    public void shouldPutWideningPrimitive() {
+        // Given
+        final ExamplePrimitiveObj record = new ExamplePrimitiveObj();
+        testObj = new ReflectiveTuple(record);
+
+        // When
+        testObj.put("count", 5);
+        testObj.put("ratio", 2);
+
+        // Then
+        assertThat(record.getCount()).isEqualTo(5L);
+        assertThat(record.ratio).isEqualTo(2.0);
+    }
+
+    @Test
+    public void shouldNotPutNullPrimitive() {
+        // Given
+        testObj = new ReflectiveTuple(new ExamplePrimitiveObj());
+
+        // When / Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testObj.put("count", null))
+                .withMessage(ReflectiveTuple.ERROR_WRONG_PARAM, "method", "setCount",
+                Collections.singletonList(long.class), null);
+    }
+
+    @Test
+    public void shouldPutNull() {
+        // Given
+        final ExampleObj3 record = new ExampleObj3();
+        testObj = new ReflectiveTuple(record);
+
+        // When
+        testObj.put("fieldA", null);
+        testObj.put("fieldB", null);
+
+        // Then
+        assertThat(record.fieldA).isNull();
+        assertThat(record.fieldB).isNull();
+    }
+
+    @Test
+    public void shouldGetStaticMembers() {
+        // Given
+        testObj = new ReflectiveTuple(new ExamplePrimitiveObj());
+
+        // When / Then
+        assertThat(testObj.get("staticField")).isEqualTo("sf");
+        assertThat(testObj.get("staticValue")).isEqualTo("sv");
+    }
+
+    @Test
+    public void shouldGetFromDifferentRecordsOfSameClass() {
+        // Given
+        final ExampleObj3 record1 = new ExampleObj3();
+        final ExampleObj3 record2 = new ExampleObj3();
+        record2.fieldA = "other";
+
+        // When / Then
+        assertThat(new ReflectiveTuple(record1).get(FIELD_A)).isEqualTo("fa");
+        assertThat(new ReflectiveTuple(record2).get(FIELD_A)).isEqualTo("other");
+    }
+
     @Test
     public void shouldPutAndGetFromCache() throws Exception {
         // Given
@@ -309,6 +451,61 @@ public class ReflectiveTupleTest {
         assertThat(actual).isEqualTo(toStringMethod);
     }
 
+    @Test
+    public void shouldBoundCacheAndCountHits() throws Exception {
+        // Given
+        final Cache<Method> cache = new Cache<>(1);
+        final Method toString = String.class.getMethod("toString");
+        final Method intValue = Integer.class.getMethod("intValue");
+
+        // When
+        cache.put(String.class, "toString", toString);
+        final Method hit = cache.get(String.class, "toString");
+        cache.put(Integer.class, "intValue", intValue);
+        final Method evicted = cache.get(String.class, "toString");
+
+        // Then
+        assertThat(hit).isEqualTo(toString);
+        assertThat(evicted).isNull();
+        assertThat(cache.get(Integer.class, "intValue")).isEqualTo(intValue);
+        assertThat(cache.getMaxClasses()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldGetAndPutFromManyThreads() throws Exception {
+        // Given
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            tasks.add(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    final ExampleObj3 record = new ExampleObj3();
+                    final ReflectiveTuple tuple = new ReflectiveTuple(record);
+                    tuple.put("fieldB", "value" + i);
+                    if (!"fa".equals(tuple.get(FIELD_A)) || !("value" + i).equals(record.fieldB)) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+
+        // When
+        final List<Future<Boolean>> results;
+        try {
+            results = executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        for (final Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+    }
+
     private static class ExampleObj {
         public String fieldA = "fa";
         private String methodA = "ma";
@@ -372,6 +569,33 @@ public class ReflectiveTupleTest {
         }
     }
 
+    private static class ExamplePrimitiveObj {
+        public static String staticField = "sf";
+        public double ratio;
+        private long count;
+        private boolean flag;
+
+        public static String getStaticValue() {
+            return "sv";
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(final long count) {
+            this.count = count;
+        }
+
+        public boolean isFlag() {
+            return flag;
+        }
+
+        public void setFlag(final boolean flag) {
+            this.flag = flag;
+        }
+    }
+
     private static class ExampleNestedObj1 {
         private ExampleObj nestedField = new ExampleObj();
 
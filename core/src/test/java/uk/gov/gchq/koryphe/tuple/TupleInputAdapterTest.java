@@ -16,13 +16,16 @@
 
 package uk.gov.gchq.koryphe.tuple;
 
+import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.function.FunctionTest;
+import uk.gov.gchq.koryphe.tuple.n.Tuple2;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -120,4 +123,88 @@ class TupleInputAdapterTest extends FunctionTest<TupleInputAdapter> {
         ReferenceArrayTuple<String> expected = new ReferenceArrayTuple<>(objects, new String[]{"one", "two"});
         assertThat(adapted).isEqualTo(expected);
     }
+
+    @Test
+    public void shouldReuseViewIfMoreThanOneSelectionIsProvided() {
+        // Given
+        MapTuple<String> first = new MapTuple<>();
+        first.put("one", 1);
+        first.put("two", 2);
+        MapTuple<String> second = new MapTuple<>();
+        second.put("one", 3);
+        second.put("two", 4);
+
+        TupleInputAdapter<String, Tuple<Integer>> inputAdapter = new TupleInputAdapter<>(new String[]{"one", "two"});
+
+        // When
+        Tuple<Integer> firstAdapted = inputAdapter.applyReusingView(first);
+        List<Object> firstValues = Lists.newArrayList(firstAdapted);
+        inputAdapter.releaseView(firstAdapted);
+        Tuple<Integer> secondAdapted = inputAdapter.applyReusingView(second);
+        List<Object> secondValues = Lists.newArrayList(secondAdapted);
+        inputAdapter.releaseView(secondAdapted);
+
+        // Then
+        assertThat(secondAdapted).isSameAs(firstAdapted);
+        assertThat(firstValues).containsExactly(1, 2);
+        assertThat(secondValues).containsExactly(3, 4);
+    }
+
+    @Test
+    public void shouldNotReuseViewThatIsInUse() {
+        // Given
+        MapTuple<String> first = new MapTuple<>();
+        first.put("one", 1);
+        first.put("two", 2);
+        MapTuple<String> second = new MapTuple<>();
+        second.put("one", 3);
+        second.put("two", 4);
+
+        TupleInputAdapter<String, Tuple<Integer>> inputAdapter = new TupleInputAdapter<>(new String[]{"one", "two"});
+
+        // When
+        Tuple<Integer> firstAdapted = inputAdapter.applyReusingView(first);
+        Tuple<Integer> secondAdapted = inputAdapter.applyReusingView(second);
+
+        // Then
+        assertThat(secondAdapted).isNotSameAs(firstAdapted);
+        assertThat(firstAdapted.get(0)).isEqualTo(1);
+        assertThat(secondAdapted.get(0)).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldReturnObjectFromViewIfSingleSelectionIsProvided() {
+        // Given
+        MapTuple<String> objects = new MapTuple<>();
+        objects.put("one", 1);
+
+        TupleInputAdapter<String, Object> inputAdapter = new TupleInputAdapter<>(new String[]{"one"});
+
+        // When
+        Object adapted = inputAdapter.applyReusingView(objects);
+        inputAdapter.releaseView(adapted);
+
+        // Then
+        assertThat(adapted).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldSelectBySlotWhenBoundToLayout() {
+        // Given
+        TupleLayout<String> layout = new TupleLayout<>("one", "two", "three");
+        LayoutTuple<String> objects = new LayoutTuple<>(layout, 1, 2, 3);
+
+        TupleInputAdapter<String, Tuple2<Integer, Integer>> inputAdapter = new TupleInputAdapter<>(new String[]{"three", "one"});
+        inputAdapter.bind(layout);
+
+        // When
+        Tuple2<Integer, Integer> adapted = inputAdapter.apply(objects);
+        Tuple2<Integer, Integer> reused = inputAdapter.applyReusingView(objects);
+        inputAdapter.releaseView(reused);
+
+        // Then
+        assertThat(adapted.get0()).isEqualTo(3);
+        assertThat(adapted.get1()).isEqualTo(1);
+        assertThat(reused).containsExactly(3, 1);
+    }
 }
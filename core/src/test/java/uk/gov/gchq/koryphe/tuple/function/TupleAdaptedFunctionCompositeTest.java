@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2022 Crown Copyright
+ * Copyright 2020-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,11 @@ import uk.gov.gchq.koryphe.function.FunctionTest;
 import uk.gov.gchq.koryphe.impl.function.MultiplyLongBy;
 import uk.gov.gchq.koryphe.impl.function.ToLong;
 import uk.gov.gchq.koryphe.impl.function.ToString;
+import uk.gov.gchq.koryphe.tuple.ColumnBatch;
+import uk.gov.gchq.koryphe.tuple.LayoutTuple;
 import uk.gov.gchq.koryphe.tuple.MapTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleLayout;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
@@ -150,4 +153,26 @@ class TupleAdaptedFunctionCompositeTest extends FunctionTest<TupleAdaptedFunctio
         // Then
         assertThat(transformed.get("output")).isEqualTo(30L);
     }
+
+    @Test
+    public void shouldApplyBatchWithSameResultAsApplyingToEachTuple() {
+        // Given
+        final TupleAdaptedFunctionComposite<String> instance = getInstance();
+        final TupleLayout<String> layout = new TupleLayout<>("input", "midway", "output");
+        final ColumnBatch<String> batch = new ColumnBatch<>(layout, 3);
+        final LayoutTuple<String>[] tuples = new LayoutTuple[3];
+        for (int i = 0; i < tuples.length; i++) {
+            tuples[i] = new LayoutTuple<>(layout, i, null, null);
+            batch.add(tuples[i]);
+        }
+
+        // When
+        instance.applyBatch(batch);
+
+        // Then
+        for (int i = 0; i < tuples.length; i++) {
+            assertThat(batch.getTuple(i)).isEqualTo(instance.apply(tuples[i]));
+        }
+        assertThat(batch.getColumn("output")).containsExactly(0L, 10L, 20L);
+    }
 }
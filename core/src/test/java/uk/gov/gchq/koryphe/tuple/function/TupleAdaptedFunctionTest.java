@@ -19,12 +19,15 @@ package uk.gov.gchq.koryphe.tuple.function;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.koryphe.function.FunctionTest;
+import uk.gov.gchq.koryphe.impl.function.Identity;
 import uk.gov.gchq.koryphe.impl.function.ParseDate;
 import uk.gov.gchq.koryphe.impl.function.ToLong;
 import uk.gov.gchq.koryphe.impl.function.ToUpperCase;
 import uk.gov.gchq.koryphe.tuple.ArrayTuple;
+import uk.gov.gchq.koryphe.tuple.LayoutTuple;
 import uk.gov.gchq.koryphe.tuple.MapTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleLayout;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
@@ -68,6 +71,102 @@ class TupleAdaptedFunctionTest extends FunctionTest<TupleAdaptedFunction> {
         assertThat(deserialised).isEqualTo(instance);
     }
 
+    @Test
+    public void shouldApplyFunctionBoundToLayout() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("input", "output");
+        final TupleAdaptedFunction<String, Object, String> function = new TupleAdaptedFunction<>(
+                new String[] {"input"}, new ToUpperCase(), new String[] {"output"});
+        function.bind(layout);
+        final LayoutTuple<String> tuple = new LayoutTuple<>(layout, "value", null);
+
+        // When
+        final Tuple<String> result = function.apply(tuple);
+
+        // Then
+        assertThat(result).isSameAs(tuple);
+        assertThat(tuple.get("output")).isEqualTo("VALUE");
+    }
+
+    @Test
+    public void shouldApplyFunctionBoundToLayoutWithMultipleSelections() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("a", "b", "c", "d");
+        final TupleAdaptedFunction<String, Tuple<Integer>, Tuple<Integer>> function = new TupleAdaptedFunction<>(
+                new String[] {"b", "a"}, t -> new ArrayTuple(t.get(0), t.get(1)), new String[] {"c", "d"});
+        function.bind(layout);
+        final LayoutTuple<String> tuple = new LayoutTuple<>(layout, 1, 2, null, null);
+
+        // When
+        function.apply(tuple);
+
+        // Then
+        assertThat(tuple).containsExactly(1, 2, 2, 1);
+    }
+
+    @Test
+    public void shouldSwapSelectedFields() {
+        // Given
+        final TupleAdaptedFunction<String, Object, Object> function = new TupleAdaptedFunction<>(
+                new String[] {"a", "b"}, new Identity(), new String[] {"b", "a"});
+        final MapTuple<String> tuple = new MapTuple<>();
+        tuple.put("a", 1);
+        tuple.put("b", 2);
+
+        // When
+        function.apply(tuple);
+
+        // Then
+        assertThat(tuple.get("a")).isEqualTo(2);
+        assertThat(tuple.get("b")).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldSwapSelectedFieldsBoundToLayout() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("a", "b");
+        final TupleAdaptedFunction<String, Object, Object> function = new TupleAdaptedFunction<>(
+                new String[] {"a", "b"}, new Identity(), new String[] {"b", "a"});
+        function.bind(layout);
+        final LayoutTuple<String> tuple = new LayoutTuple<>(layout, 1, 2);
+
+        // When
+        function.apply(tuple);
+
+        // Then
+        assertThat(tuple).containsExactly(2, 1);
+    }
+
+    @Test
+    public void shouldApplyBoundFunctionToOtherTuplesByReference() {
+        // Given
+        final TupleAdaptedFunction<String, Object, String> function = new TupleAdaptedFunction<>(
+                new String[] {"input"}, new ToUpperCase(), new String[] {"output"});
+        function.bind(new TupleLayout<>("input", "output"));
+        final MapTuple<String> tuple = new MapTuple<>();
+        tuple.put("input", "value");
+
+        // When
+        function.apply(tuple);
+
+        // Then
+        assertThat(tuple.get("output")).isEqualTo("VALUE");
+        assertThat(function).isEqualTo(new TupleAdaptedFunction<>(
+                new String[] {"input"}, new ToUpperCase(), new String[] {"output"}));
+    }
+
+    @Test
+    public void shouldNotBindToLayoutMissingSelection() {
+        // Given
+        final TupleAdaptedFunction<String, Object, String> function = new TupleAdaptedFunction<>(
+                new String[] {"input"}, new ToUpperCase(), new String[] {"output"});
+
+        // When / Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> function.bind(new TupleLayout<>("input")))
+                .withMessage("Reference is not in tuple layout: output");
+    }
+
     @Override
     protected TupleAdaptedFunction getInstance() {
         return new TupleAdaptedFunction(new String[] {"input"}, new ToUpperCase(), new String[] { "output" });
@@ -21,6 +21,10 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.koryphe.impl.predicate.IsA;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 import uk.gov.gchq.koryphe.predicate.PredicateTest;
+import uk.gov.gchq.koryphe.tuple.LayoutTuple;
+import uk.gov.gchq.koryphe.tuple.MapTuple;
+import uk.gov.gchq.koryphe.tuple.Tuple;
+import uk.gov.gchq.koryphe.tuple.TupleLayout;
 import uk.gov.gchq.koryphe.util.JsonSerialiser;
 
 import java.io.IOException;
@@ -53,6 +57,58 @@ class TupleAdaptedPredicateTest extends PredicateTest<TupleAdaptedPredicate> {
         assertThat(deserialised).isEqualTo(predicate);
     }
 
+    @Test
+    public void shouldTestMultipleSelectionForEachInput() {
+        // Given
+        final TupleAdaptedPredicate<String, Tuple<Integer>> predicate = new TupleAdaptedPredicate<>(
+                tuple -> (Integer) tuple.get(0) < (Integer) tuple.get(1), new String[] {"a", "b"});
+        final MapTuple<String> lower = new MapTuple<>();
+        lower.put("a", 1);
+        lower.put("b", 2);
+        final MapTuple<String> higher = new MapTuple<>();
+        higher.put("a", 3);
+        higher.put("b", 2);
+
+        // When / Then
+        assertThat(predicate)
+                .accepts(lower)
+                .rejects(higher)
+                .accepts(lower);
+    }
+
+    @Test
+    public void shouldTestNestedPredicatesWithSameSelection() {
+        // Given
+        final String[] selection = {"a", "b"};
+        final TupleAdaptedPredicate<String, Tuple<Integer>> inner = new TupleAdaptedPredicate<>(
+                tuple -> (Integer) tuple.get(0) < (Integer) tuple.get(1), selection);
+        final MapTuple<String> other = new MapTuple<>();
+        other.put("a", 5);
+        other.put("b", 6);
+        final TupleAdaptedPredicate<String, Tuple<Integer>> outer = new TupleAdaptedPredicate<>(
+                tuple -> inner.test(other) && (Integer) tuple.get(0) > (Integer) tuple.get(1), selection);
+        final MapTuple<String> input = new MapTuple<>();
+        input.put("a", 2);
+        input.put("b", 1);
+
+        // When / Then
+        assertThat(outer).accepts(input);
+    }
+
+    @Test
+    public void shouldTestMultipleSelectionBoundToLayout() {
+        // Given
+        final TupleLayout<String> layout = new TupleLayout<>("a", "b");
+        final TupleAdaptedPredicate<String, Tuple<Integer>> predicate = new TupleAdaptedPredicate<String, Tuple<Integer>>(
+                tuple -> (Integer) tuple.get(0) < (Integer) tuple.get(1), new String[] {"a", "b"})
+                .bind(layout);
+
+        // When / Then
+        assertThat(predicate)
+                .accepts(new LayoutTuple<>(layout, 1, 2))
+                .rejects(new LayoutTuple<>(layout, 3, 2));
+    }
+
     @Override
     protected TupleAdaptedPredicate getInstance() {
         return new TupleAdaptedPredicate(new IsA(String.class), new String[] { "input" });
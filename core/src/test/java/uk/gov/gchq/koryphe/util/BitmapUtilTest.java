@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BitmapUtilTest {
+
+    @Test
+    public void shouldCalculateWords() {
+        assertThat(BitmapUtil.words(0)).isZero();
+        assertThat(BitmapUtil.words(1)).isEqualTo(1);
+        assertThat(BitmapUtil.words(64)).isEqualTo(1);
+        assertThat(BitmapUtil.words(65)).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldSetAndUnsetBits() {
+        // Given
+        final long[] bitmap = new long[2];
+
+        // When
+        BitmapUtil.set(bitmap, 3);
+        BitmapUtil.set(bitmap, 64);
+        BitmapUtil.set(bitmap, 100);
+        BitmapUtil.unset(bitmap, 64);
+
+        // Then
+        assertThat(BitmapUtil.isSet(bitmap, 3)).isTrue();
+        assertThat(BitmapUtil.isSet(bitmap, 64)).isFalse();
+        assertThat(BitmapUtil.isSet(bitmap, 100)).isTrue();
+        assertThat(BitmapUtil.cardinality(bitmap, 128)).isEqualTo(2);
+        assertThat(BitmapUtil.cardinality(bitmap, 100)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldSetAndClearAll() {
+        // Given
+        final long[] bitmap = new long[3];
+
+        // When
+        BitmapUtil.setAll(bitmap, 70);
+
+        // Then
+        assertThat(BitmapUtil.cardinality(bitmap, 192)).isEqualTo(70);
+        assertThat(bitmap[1]).isEqualTo(0b111111L);
+        assertThat(bitmap[2]).isZero();
+
+        // When
+        BitmapUtil.clear(bitmap, 70);
+
+        // Then
+        assertThat(BitmapUtil.cardinality(bitmap, 192)).isZero();
+    }
+}
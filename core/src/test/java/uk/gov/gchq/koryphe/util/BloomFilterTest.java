@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class BloomFilterTest {
+
+    @Test
+    public void shouldContainEveryValue() {
+        // Given
+        final List<Object> values = new ArrayList<>();
+        for (long i = 0; i < 10000; i++) {
+            values.add(i * 31);
+            values.add("id" + i);
+        }
+        values.add(null);
+        values.add(new CustomObj());
+
+        // When
+        final BloomFilter filter = BloomFilter.of(values, 0.01);
+
+        // Then
+        for (final Object value : values) {
+            assertThat(filter.mightContain(value)).as("Contains %s", value).isTrue();
+        }
+    }
+
+    @Test
+    public void shouldRejectOtherValuesAtTheFalsePositiveRate() {
+        // Given
+        final List<Object> values = new ArrayList<>();
+        for (long i = 0; i < 10000; i++) {
+            values.add(i);
+        }
+
+        // When
+        final BloomFilter filter = BloomFilter.of(values, 0.01);
+
+        // Then
+        int falsePositives = 0;
+        for (long i = 10000; i < 110000; i++) {
+            if (filter.mightContain(i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isBetween(500, 1500);
+        assertThat(filter.getFalsePositiveRate()).isBetween(0.005, 0.015);
+        assertThat(filter.getNumBits()).isLessThan(10000 * 10 + 64);
+    }
+
+    @Test
+    public void shouldHashNumbersOfDifferentTypesDifferently() {
+        // Given
+        final BloomFilter filter = BloomFilter.of(Arrays.asList(1, 2, 3), 0.000001);
+
+        // When / Then
+        assertThat(filter.mightContain(1)).isTrue();
+        assertThat(filter.mightContain(1L)).isFalse();
+        assertThat(filter.mightContain("1")).isFalse();
+        assertThat(filter.mightContain(null)).isFalse();
+    }
+
+    @Test
+    public void shouldCreateFilterOfNoValues() {
+        // When
+        final BloomFilter filter = BloomFilter.of(Collections.emptyList(), 0.01);
+
+        // Then
+        assertThat(filter.mightContain("a")).isFalse();
+        assertThat(filter.getNumBits()).isEqualTo(64);
+    }
+
+    @Test
+    public void shouldRejectInvalidFalsePositiveRate() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> BloomFilter.of(Collections.singletonList(1), 0))
+                .withMessageContaining("between 0 and 1");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> BloomFilter.of(Collections.singletonList(1), 1));
+    }
+
+    @Test
+    public void shouldJsonSerialiseAndDeserialise() throws IOException {
+        // Given
+        final BloomFilter filter = BloomFilter.of(Arrays.asList("a", "b", "c"), 0.1);
+
+        // When
+        final String json = JsonSerialiser.serialise(filter);
+        final BloomFilter deserialised = JsonSerialiser.deserialise(json, BloomFilter.class);
+
+        // Then
+        JsonSerialiser.assertEquals(String.format("{%n" +
+                "  \"numHashes\" : 15,%n" +
+                "  \"bits\" : \"%s\"%n" +
+                "}", Base64.getEncoder().encodeToString(filter.getBits())), json);
+        assertThat(deserialised).isEqualTo(filter);
+        assertThat(deserialised.mightContain("a")).isTrue();
+    }
+
+    @Test
+    public void shouldRejectBitsThatAreNotWholeWords() {
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> JsonSerialiser.deserialise("{\"numHashes\": 1, \"bits\": \"AAAA\"}", BloomFilter.class));
+    }
+}
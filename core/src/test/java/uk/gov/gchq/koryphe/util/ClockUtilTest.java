@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ClockUtilTest {
+
+    @AfterEach
+    public void clearProperty() {
+        System.clearProperty(ClockUtil.CLOCK_REFRESH_MILLIS);
+    }
+
+    @Test
+    public void shouldUseSystemClockByDefault() {
+        assertThat(ClockUtil.getClockDefault()).isEqualTo(Clock.systemUTC());
+    }
+
+    @Test
+    public void shouldUseCoarseClockWhenRefreshIntervalIsSet() {
+        // Given
+        System.setProperty(ClockUtil.CLOCK_REFRESH_MILLIS, "5");
+
+        // When
+        final Clock clock = ClockUtil.getClockDefault();
+
+        // Then
+        assertThat(clock).isEqualTo(ClockUtil.coarseClock(5L)).isNotEqualTo(ClockUtil.coarseClock(6L));
+        assertThat(clock.getZone()).isEqualTo(ZoneOffset.UTC);
+    }
+
+    @Test
+    public void shouldRejectInvalidRefreshInterval() {
+        // Given
+        System.setProperty(ClockUtil.CLOCK_REFRESH_MILLIS, "soon");
+
+        // When / Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(ClockUtil::getClockDefault)
+                .withMessageContaining(ClockUtil.CLOCK_REFRESH_MILLIS);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ClockUtil.coarseClock(0L));
+    }
+
+    @Test
+    public void shouldRefreshCoarseClock() throws InterruptedException {
+        // Given
+        final Clock clock = ClockUtil.coarseClock(1L);
+        final long start = clock.millis();
+
+        // When
+        long now = start;
+        for (int i = 0; i < 1000 && now == start; i++) {
+            Thread.sleep(5L);
+            now = clock.millis();
+        }
+
+        // Then
+        assertThat(now).isGreaterThan(start);
+        assertThat(Math.abs(System.currentTimeMillis() - clock.millis())).isLessThan(1000L);
+        assertThat(clock.instant().toEpochMilli()).isGreaterThanOrEqualTo(now);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class CompactSetsTest {
+
+    @Test
+    public void shouldCreateBitmapSetForDenseIntegers() {
+        // Given
+        final List<Object> values = Arrays.asList(10, 12, 11, 10, 20);
+
+        // When
+        final Set<Object> set = CompactSets.of(values);
+
+        // Then
+        assertSameAsHashSet(set, values, 9, 10, 11, 13, 20, 21, 10L, "10", null);
+        assertThat(set).containsExactly(10, 11, 12, 20);
+    }
+
+    @Test
+    public void shouldCreateHashSetForSparseLongs() {
+        // Given
+        final List<Object> values = Arrays.asList(0L, Long.MIN_VALUE, Long.MAX_VALUE, -1L, 1L << 40, 0L);
+
+        // When
+        final Set<Object> set = CompactSets.of(values);
+
+        // Then
+        assertThat(set).isNotInstanceOf(HashSet.class);
+        assertSameAsHashSet(set, values, 0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 1L << 40, 0, null);
+    }
+
+    @Test
+    public void shouldCreateCompactSetForManyLongs() {
+        // Given
+        final List<Object> values = new ArrayList<>();
+        for (long i = 0; i < 10000; i++) {
+            values.add(i * 1000003L);
+        }
+
+        // When
+        final Set<Object> set = CompactSets.of(values);
+
+        // Then
+        assertThat(set).isNotInstanceOf(HashSet.class);
+        assertSameAsHashSet(set, values, 1000003L, 1000004L, 9999L * 1000003L, 10000L * 1000003L);
+    }
+
+    @Test
+    public void shouldCreateCompactSetForStrings() {
+        // Given
+        final List<Object> values = Arrays.asList("a", "b", "", "a", "Aa", "BB");
+
+        // When
+        final Set<Object> set = CompactSets.of(values);
+
+        // Then
+        assertThat(set).isNotInstanceOf(HashSet.class);
+        assertSameAsHashSet(set, values, "a", "b", "", "c", "Aa", "BB", 1, null);
+    }
+
+    @Test
+    public void shouldCreateHashSetForMixedOrNullValues() {
+        assertThat(CompactSets.of(Arrays.asList(1, 2L))).isInstanceOf(HashSet.class);
+        assertThat(CompactSets.of(Arrays.asList("a", null))).isInstanceOf(HashSet.class);
+        assertThat(CompactSets.of(new ArrayList<>())).isInstanceOf(HashSet.class);
+    }
+
+    @Test
+    public void shouldBeReadOnly() {
+        // Given
+        final Set<Object> set = CompactSets.of(Arrays.asList("a", "b"));
+
+        // When / Then
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> set.add("c"));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> set.remove("a"));
+    }
+
+    private static void assertSameAsHashSet(final Set<Object> set, final Collection<Object> values, final Object... probes) {
+        final Set<Object> expected = new HashSet<>(values);
+        assertThat(set).isEqualTo(expected);
+        assertThat(set.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(set).hasSameSizeAs(expected);
+        assertThat(new HashSet<>(set)).isEqualTo(expected);
+        for (final Object probe : probes) {
+            assertThat(set.contains(probe)).as("Contains %s", probe).isEqualTo(expected.contains(probe));
+        }
+    }
+}
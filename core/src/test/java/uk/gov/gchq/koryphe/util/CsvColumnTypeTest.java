@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.koryphe.impl.function.ParseDate;
+import uk.gov.gchq.koryphe.impl.function.ToBoolean;
+import uk.gov.gchq.koryphe.impl.function.ToDouble;
+import uk.gov.gchq.koryphe.impl.function.ToFloat;
+import uk.gov.gchq.koryphe.impl.function.ToInteger;
+import uk.gov.gchq.koryphe.impl.function.ToLong;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class CsvColumnTypeTest {
+    private static final String[] VALUES = {
+            "0", "7", "-7", "007", "-0", "+5", "", "-", "--1", " 5", "5 ", "1.5", "1e3", "NaN", "x",
+            "2147483647", "2147483648", "-2147483648", "-2147483649", "123456789",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808", "999999999999999999",
+            "١٢", "true", "TRUE", "TrUe", "yes", "truex",
+            "2017-01-02", "2017-01-02 01:02:30.123", "1500000000000"
+    };
+
+    @Test
+    public void shouldConvertIntegersLikeToInteger() {
+        assertSameAs(CsvColumnType.INTEGER, new ToInteger());
+    }
+
+    @Test
+    public void shouldConvertLongsLikeToLong() {
+        assertSameAs(CsvColumnType.LONG, new ToLong());
+    }
+
+    @Test
+    public void shouldConvertFloatsLikeToFloat() {
+        assertSameAs(CsvColumnType.FLOAT, new ToFloat());
+    }
+
+    @Test
+    public void shouldConvertDoublesLikeToDouble() {
+        assertSameAs(CsvColumnType.DOUBLE, new ToDouble());
+    }
+
+    @Test
+    public void shouldConvertBooleansLikeToBoolean() {
+        assertSameAs(CsvColumnType.BOOLEAN, new ToBoolean());
+    }
+
+    @Test
+    public void shouldConvertDatesLikeParseDate() {
+        assertSameAs(CsvColumnType.DATE, new ParseDate());
+    }
+
+    @Test
+    public void shouldConvertTimesLikeDateUtil() {
+        assertSameAs(CsvColumnType.TIME, DateUtil::parseTime);
+    }
+
+    @Test
+    public void shouldConvertPartOfLine() {
+        // Given
+        final String line = "a,-123,b";
+
+        // When / Then
+        assertThat(CsvColumnType.LONG.parse(line, 2, 6)).isEqualTo(-123L);
+        assertThat(CsvColumnType.STRING.parse(line, 7, 8)).isEqualTo("b");
+        assertThat(CsvColumnType.STRING.parse(null)).isNull();
+    }
+
+    private static void assertSameAs(final CsvColumnType type, final Function<? super String, ?> function) {
+        for (final String value : VALUES) {
+            Object expected;
+            try {
+                expected = function.apply(value);
+            } catch (final IllegalArgumentException e) {
+                expected = e.getClass();
+            }
+
+            if (expected instanceof Class) {
+                assertThatExceptionOfType((Class<? extends Throwable>) expected)
+                        .as("Converting <%s> to %s", value, type)
+                        .isThrownBy(() -> type.parse("," + value + ",", 1, value.length() + 1));
+            } else {
+                assertThat(type.parse("," + value + ",", 1, value.length() + 1))
+                        .as("Converting <%s> to %s", value, type)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2022 Crown Copyright
+ * Copyright 2016-2026 Crown Copyright
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,7 +23,14 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -42,6 +49,29 @@ public class DateUtilTest {
         assertThat((long) result).isEqualTo(timestamp);
     }
 
+    @Test
+    public void shouldUseCurrentDefaultTimeZone() {
+        final TimeZone original = TimeZone.getDefault();
+        try {
+            // Given
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            final long modern = DateUtil.parse("2000/01/01", null, false).getTime();
+            final long historic = DateUtil.parse("1800/01/01", null, false).getTime();
+            final long formatted = DateUtil.parse("2000-01-01", "yyyy-MM-dd", null).getTime();
+
+            // When
+            TimeZone.setDefault(TimeZone.getTimeZone("GMT+05:00"));
+
+            // Then
+            final long offset = 5 * 60 * 60 * 1000L;
+            assertThat(DateUtil.parse("2000/01/01", null, false).getTime()).isEqualTo(modern - offset);
+            assertThat(DateUtil.parse("1800/01/01", null, false).getTime()).isEqualTo(historic - offset);
+            assertThat(DateUtil.parse("2000-01-01", "yyyy-MM-dd", null).getTime()).isEqualTo(formatted - offset);
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
     @Test
     public void shouldParseTimestampInMillisecondsWithTimeZone() {
         // Given
@@ -101,6 +131,116 @@ public class DateUtilTest {
                 "to separate the parts.");
     }
 
+    @Test
+    public void shouldParseLikeLenientSimpleDateFormat() throws ParseException {
+        // When / Then
+        assertSameAsSimpleDateFormat("2017-13-32 25:61:61.999", "yyyyMMddHHmmssSSS", "UTC");
+        assertSameAsSimpleDateFormat("2017-00-00", "yyyyMMdd", "UTC");
+        assertSameAsSimpleDateFormat("2024-02-30", "yyyyMMdd", "Europe/London");
+        assertSameAsSimpleDateFormat("9999-12-31 23:59:59", "yyyyMMddHHmmss", "Asia/Kolkata");
+    }
+
+    @Test
+    public void shouldParseLocalTimesInDaylightSavingTransitionsLikeSimpleDateFormat() throws ParseException {
+        // When / Then
+        assertSameAsSimpleDateFormat("2023-11-05 01:30", "yyyyMMddHHmm", "America/New_York");
+        assertSameAsSimpleDateFormat("2023-03-12 02:30", "yyyyMMddHHmm", "America/New_York");
+        assertSameAsSimpleDateFormat("2023-10-29 01:30", "yyyyMMddHHmm", "Europe/London");
+        assertSameAsSimpleDateFormat("2023-03-26 01:30", "yyyyMMddHHmm", "Europe/London");
+    }
+
+    @Test
+    public void shouldParseHistoricDatesLikeSimpleDateFormat() throws ParseException {
+        // When / Then
+        assertSameAsSimpleDateFormat("1582-10-10", "yyyyMMdd", "UTC");
+        assertSameAsSimpleDateFormat("0001-01-01", "yyyyMMdd", "UTC");
+        assertSameAsSimpleDateFormat("1890-06-15 12:00", "yyyyMMddHHmm", "Asia/Kolkata");
+    }
+
+    @Test
+    public void shouldParseEpochMillisWithoutCreatingDate() {
+        // When / Then
+        assertThat(DateUtil.parseEpochMillis("1500000000123", null, false)).isEqualTo(1500000000123L);
+        assertThat(DateUtil.parseEpochMillis("1500000000123456", null, true)).isEqualTo(1500000000123L);
+        assertThat(DateUtil.parseEpochMillis("2017-01-02 01:02:30.123", TimeZone.getTimeZone("UTC"), false))
+                .isEqualTo(1483318950123L);
+    }
+
+    @Test
+    public void shouldNotParseEmptyNullOrOverlongTimestamps() {
+        // When / Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> DateUtil.parse(""));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> DateUtil.parse("12345678901234567890"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> DateUtil.parse("2017-01-02T01"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> DateUtil.parseEpochMillis(null, null, false));
+        assertThat(DateUtil.parse(null)).isNull();
+        assertThat(DateUtil.parseTime(null)).isNull();
+    }
+
+    @Test
+    public void shouldParseWithFormat() throws ParseException {
+        // Given
+        final TimeZone timeZone = TimeZone.getTimeZone("PST");
+        final SimpleDateFormat sdf = new SimpleDateFormat("dd-MMM-yyyy HH:mm");
+        sdf.setTimeZone(timeZone);
+
+        // When
+        final Date result = DateUtil.parse("02-Jan-2017 01:02", "dd-MMM-yyyy HH:mm", timeZone);
+
+        // Then
+        assertThat(result).isEqualTo(sdf.parse("02-Jan-2017 01:02"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> DateUtil.parse("2017", "dd-MMM-yyyy HH:mm", timeZone))
+                .withMessage("Date string could not be parsed: 2017");
+    }
+
+    @Test
+    public void shouldParseWithFormatConcurrently() throws Exception {
+        // Given
+        final TimeZone timeZone = TimeZone.getTimeZone("UTC");
+        final SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        sdf.setTimeZone(timeZone);
+        final List<String> dates = IntStream.range(0, 1000)
+                .mapToObj(i -> sdf.format(new Date(i * 997_000_000L)))
+                .collect(Collectors.toList());
+        final Callable<Boolean> task = () -> {
+            for (int i = 0; i < dates.size(); i++) {
+                if (i * 997_000_000L != DateUtil.parse(dates.get(i), "yyyy-MM-dd HH:mm:ss", timeZone).getTime()) {
+                    return false;
+                }
+            }
+            return true;
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // When
+            final List<Future<Boolean>> results = executor.invokeAll(
+                    IntStream.range(0, 8).mapToObj(i -> task).collect(Collectors.toList()));
+
+            // Then
+            for (final Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void assertSameAsSimpleDateFormat(final String dateString, final String format, final String timeZone)
+            throws ParseException {
+        final SimpleDateFormat sdf = new SimpleDateFormat(format);
+        sdf.setTimeZone(TimeZone.getTimeZone(timeZone));
+        final Date expected = sdf.parse(dateString.replaceAll("[^0-9]", ""));
+        assertThat(DateUtil.parse(dateString, TimeZone.getTimeZone(timeZone)))
+                .withFailMessage("Failed to parse date: %s in %s", dateString, timeZone)
+                .isEqualTo(expected);
+    }
+
     private void assertDate(final String expected, final String testDate, final String format) throws ParseException {
         final Date expectedDate = DateUtils.parseDate(expected, Locale.getDefault(), format);
         assertThat(DateUtil.parse(testDate))
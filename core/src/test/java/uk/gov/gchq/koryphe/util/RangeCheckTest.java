@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class RangeCheckTest {
+    private static final Boolean[] FLAGS = {null, true, false};
+    private static final Long[] BOUNDS = {null, 2L, 4L};
+
+    @Test
+    public void shouldMatchRangeUtilForLongs() {
+        assertSameAsRangeUtil(Long::valueOf);
+    }
+
+    @Test
+    public void shouldMatchRangeUtilForDoubles() {
+        assertSameAsRangeUtil(Long::doubleValue);
+    }
+
+    @Test
+    public void shouldMatchRangeUtilForDates() {
+        assertSameAsRangeUtil(Date::new);
+    }
+
+    @Test
+    public void shouldMatchRangeUtilForOtherComparables() {
+        assertSameAsRangeUtil(value -> String.valueOf((char) ('a' + value)));
+    }
+
+    @Test
+    public void shouldCompareDoublesLikeCompareTo() {
+        // Given
+        final RangeCheck<Double> check = RangeCheck.of(0.0, Double.NaN, true, false, null, null);
+
+        // When / Then
+        assertThat(check.test(-0.0)).isEqualTo(RangeUtil.inRange(-0.0, -0.0, 0.0, Double.NaN, true, false));
+        assertThat(check.test(Double.POSITIVE_INFINITY)).isTrue();
+        assertThat(check.test(Double.NaN)).isFalse();
+    }
+
+    @Test
+    public void shouldTestPrimitivesAgainstMatchingBounds() {
+        // Given
+        final RangeCheck<Long> longCheck = RangeCheck.of(1L, 10L, true, false, null, null);
+        final RangeCheck<Date> dateCheck = RangeCheck.of(new Date(1L), new Date(10L), true, false, null, null);
+        final RangeCheck<Double> doubleCheck = RangeCheck.of(1.0, 10.0, true, false, null, null);
+
+        // When / Then
+        assertThat(longCheck.test(1L, 9L)).isTrue();
+        assertThat(dateCheck.test(1L, 10L)).isTrue();
+        assertThat(dateCheck.test(11L, 12L)).isFalse();
+        assertThat(doubleCheck.test(1.0, 9.5)).isTrue();
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> doubleCheck.test(1L, 2L));
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> longCheck.test(1.0, 2.0));
+    }
+
+    @Test
+    public void shouldRejectNullValues() {
+        // Given
+        final RangeCheck<Long> check = RangeCheck.of(null, null, null, null, null, null);
+
+        // When / Then
+        assertThat(check.test(null)).isFalse();
+        assertThat(check.test(1L, null)).isFalse();
+        assertThat(check.test(1L)).isTrue();
+    }
+
+    private static <T extends Comparable<T>> void assertSameAsRangeUtil(final Function<Long, T> convert) {
+        for (final Long start : BOUNDS) {
+            for (final Long end : BOUNDS) {
+                for (final Boolean startInclusive : FLAGS) {
+                    for (final Boolean endInclusive : FLAGS) {
+                        for (final Boolean startFullyContained : FLAGS) {
+                            for (final Boolean endFullyContained : FLAGS) {
+                                final T rangeStart = null != start ? convert.apply(start) : null;
+                                final T rangeEnd = null != end ? convert.apply(end) : null;
+                                final RangeCheck<T> check = RangeCheck.of(rangeStart, rangeEnd,
+                                        startInclusive, endInclusive, startFullyContained, endFullyContained);
+                                for (long startValue = 1; startValue <= 5; startValue++) {
+                                    for (long endValue = 1; endValue <= 5; endValue++) {
+                                        final T startT = convert.apply(startValue);
+                                        final T endT = convert.apply(endValue);
+                                        assertThat(check.test(startT, endT))
+                                                .as("[%s, %s] in %s %s %s %s %s %s", startT, endT, rangeStart, rangeEnd,
+                                                        startInclusive, endInclusive, startFullyContained, endFullyContained)
+                                                .isEqualTo(RangeUtil.inRange(startT, endT, rangeStart, rangeEnd,
+                                                        startInclusive, endInclusive, startFullyContained, endFullyContained));
+                                    }
+                                    final T value = convert.apply(startValue);
+                                    assertThat(check.test(value))
+                                            .isEqualTo(RangeUtil.inRange(value, value, rangeStart, rangeEnd,
+                                                    startInclusive, endInclusive, startFullyContained, endFullyContained));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RegexMatcherTest {
+    private static final Pattern[] PATTERNS = {
+            Pattern.compile("abc"),
+            Pattern.compile(""),
+            Pattern.compile("abc.*"),
+            Pattern.compile(".*abc"),
+            Pattern.compile(".*abc.*"),
+            Pattern.compile(".*"),
+            Pattern.compile(".*.*"),
+            Pattern.compile("abc.*", Pattern.DOTALL),
+            Pattern.compile(".*abc.*", Pattern.DOTALL),
+            Pattern.compile("abc\\.*"),
+            Pattern.compile("\\Qabc.*"),
+            Pattern.compile("\\Qa.c\\E.*"),
+            Pattern.compile("a\\|b"),
+            Pattern.compile("a|b.*"),
+            Pattern.compile("abc", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("b+"),
+            Pattern.compile(",")
+    };
+
+    private static final String[] INPUTS = {
+            "abc", "", "abcdef", "xyzabc", "xabcx", "abc\ndef", "x\nabc", "x abcx", "ABC", "abc...", "abc.*",
+            "a.cdef", "a|b", "b", "bbb", "abbcbb", "a,b,,c,,", ",a", ",,", "x"
+    };
+
+    @Test
+    public void shouldMatchSameInputsAsPattern() {
+        for (final Pattern pattern : PATTERNS) {
+            final RegexMatcher matcher = new RegexMatcher(pattern);
+            for (final String input : INPUTS) {
+                assertThat(matcher.matches(input))
+                        .as("Pattern %s with input %s", pattern, input)
+                        .isEqualTo(pattern.matcher(input).matches());
+            }
+        }
+    }
+
+    @Test
+    public void shouldSplitSameAsPattern() {
+        for (final Pattern pattern : PATTERNS) {
+            final RegexMatcher matcher = new RegexMatcher(pattern);
+            for (final String input : INPUTS) {
+                assertThat(matcher.split(input))
+                        .as("Pattern %s with input %s", pattern, input)
+                        .isEqualTo(Arrays.asList(pattern.split(input)));
+            }
+        }
+    }
+
+    @Test
+    public void shouldReplaceSameAsPattern() {
+        for (final Pattern pattern : PATTERNS) {
+            final RegexMatcher matcher = new RegexMatcher(pattern);
+            for (final String input : INPUTS) {
+                for (final String replacement : new String[] {"", "-", "[$0]", "\\$"}) {
+                    assertThat(matcher.replaceAll(input, replacement))
+                            .as("Pattern %s with input %s and replacement %s", pattern, input, replacement)
+                            .isEqualTo(pattern.matcher(input).replaceAll(replacement));
+                }
+            }
+        }
+    }
+}
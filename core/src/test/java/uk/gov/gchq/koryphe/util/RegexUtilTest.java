@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.koryphe.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RegexUtilTest {
+
+    @Test
+    public void shouldGetLiteral() {
+        assertThat(RegexUtil.getLiteral(Pattern.compile("abc"))).isEqualTo("abc");
+        assertThat(RegexUtil.getLiteral(Pattern.compile("a\\.b\\|c"))).isEqualTo("a.b|c");
+        assertThat(RegexUtil.getLiteral(Pattern.compile(Pattern.quote("a.*b")))).isEqualTo("a.*b");
+        assertThat(RegexUtil.getLiteral(Pattern.compile(""))).isEmpty();
+    }
+
+    @Test
+    public void shouldNotGetLiteralForNonLiteralPatterns() {
+        assertThat(RegexUtil.getLiteral(Pattern.compile("a.c"))).isNull();
+        assertThat(RegexUtil.getLiteral(Pattern.compile("ab?"))).isNull();
+        assertThat(RegexUtil.getLiteral(Pattern.compile("a\\d"))).isNull();
+        assertThat(RegexUtil.getLiteral(Pattern.compile("abc", Pattern.CASE_INSENSITIVE))).isNull();
+    }
+
+    @Test
+    public void shouldGetLiteralPrefix() {
+        assertThat(RegexUtil.getLiteralPrefix(Pattern.compile("abc.*"))).isEqualTo("abc");
+        assertThat(RegexUtil.getLiteralPrefix(Pattern.compile("abc+"))).isEqualTo("abc");
+        assertThat(RegexUtil.getLiteralPrefix(Pattern.compile("abc?"))).isEqualTo("ab");
+        assertThat(RegexUtil.getLiteralPrefix(Pattern.compile("abc*"))).isEqualTo("ab");
+        assertThat(RegexUtil.getLiteralPrefix(Pattern.compile("ab\\Qcd\\E{0,2}"))).isEqualTo("abc");
+        assertThat(RegexUtil.getLiteralPrefix(Pattern.compile("ab\\d"))).isEqualTo("ab");
+    }
+
+    @Test
+    public void shouldGetEmptyPrefixWhenThereIsNone() {
+        assertThat(RegexUtil.getLiteralPrefix(Pattern.compile(".*abc"))).isEmpty();
+        assertThat(RegexUtil.getLiteralPrefix(Pattern.compile("abc.*|def"))).isEmpty();
+        assertThat(RegexUtil.getLiteralPrefix(Pattern.compile("a?bc"))).isEmpty();
+        assertThat(RegexUtil.getLiteralPrefix(Pattern.compile("abc.*", Pattern.CASE_INSENSITIVE))).isEmpty();
+    }
+}